@@ -0,0 +1,118 @@
+package com.library.library_management_system.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import com.library.library_management_system.entity.Book;
+import com.library.library_management_system.entity.BorrowingRecord;
+import com.library.library_management_system.entity.User;
+import com.library.library_management_system.enums.Genre;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.MySQLDialect;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows/sec of persisting new books through Hibernate with JDBC batching enabled
+ * (batch_size = 50, ordered inserts), with the pooled SEQUENCE ids of BaseEntity against
+ * the IDENTITY ids they replaced. IDENTITY is restored with an orm.xml override, which makes
+ * Hibernate execute every insert on persist to read the generated key.
+ * Runs on in-memory H2, where a round trip is cheap; over the network to MySQL the gap from
+ * unbatched inserts is larger.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookInsertBenchmark {
+
+    private static final int ROWS_PER_TRANSACTION = 500;
+
+    private static final String IDENTITY_MAPPING = """
+            <entity-mappings xmlns="https://jakarta.ee/xml/ns/persistence/orm" version="3.1">
+                <mapped-superclass class="com.library.library_management_system.entity.BaseEntity">
+                    <attributes>
+                        <id name="id">
+                            <generated-value strategy="IDENTITY"/>
+                        </id>
+                    </attributes>
+                </mapped-superclass>
+            </entity-mappings>
+            """;
+
+    @Param({"IDENTITY", "SEQUENCE"})
+    private String idGeneration;
+
+    private HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+    private long nextIsbn;
+
+    @Setup
+    public void setUp() {
+        // Without Spring Boot's logging setup logback defaults to DEBUG, which would log every statement
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:inserts-" + idGeneration + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        dataSource.setUsername("sa");
+
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DATASOURCE, dataSource)
+                // The production dialect, so SEQUENCE ids come from a one-row table as on MySQL
+                .applySetting(AvailableSettings.DIALECT, MySQLDialect.class.getName())
+                .applySetting(AvailableSettings.JAKARTA_HBM2DDL_DB_MAJOR_VERSION, 8)
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, false)
+                .applySetting(AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, "create")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 50)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .build();
+        MetadataSources sources = new MetadataSources(registry)
+                .addAnnotatedClass(Book.class)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(BorrowingRecord.class);
+        if (idGeneration.equals("IDENTITY")) {
+            sources.addInputStream(new ByteArrayInputStream(IDENTITY_MAPPING.getBytes(StandardCharsets.UTF_8)));
+        }
+        sessionFactory = sources.buildMetadata().buildSessionFactory();
+    }
+
+    // Keeps the table (and H2's heap) from growing across iterations
+    @TearDown(Level.Iteration)
+    public void deleteBooks() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            session.createMutationQuery("delete from Book").executeUpdate();
+            session.getTransaction().commit();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_TRANSACTION)
+    public void insertBooks() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < ROWS_PER_TRANSACTION; i++) {
+                long isbn = nextIsbn++;
+                session.persist(new Book("Title " + isbn, "Author " + (isbn % 97),
+                        String.format("978%010d", isbn), Genre.FICTION, 3));
+            }
+            session.getTransaction().commit();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.library.library_management_system.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.library_management_system.config.ApplicationConfig;
+import com.library.library_management_system.config.JsonProperties;
+import com.library.library_management_system.dto.mapper.BookMapper;
+import com.library.library_management_system.dto.response.ApiResponse;
+import com.library.library_management_system.dto.response.BookResponse;
+import com.library.library_management_system.entity.Book;
+import com.library.library_management_system.json.ApiResponseStreamWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Body of GET /api/books/available: the mapped list serialized as one ApiResponse (the message
+ * converter path) against elements streamed through ApiResponseStreamWriter, with reflective
+ * and Blackbird serializers and with a sparse field selection.
+ * Each operation maps the loaded entities and writes the whole response to a discarding stream,
+ * as the servlet output would receive it. Run with -prof gc for allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookListSerializationBenchmark {
+
+    private static final String SPARSE_FIELDS = "id,title,author,availableCopies";
+
+    @Param({"100", "2000"})
+    private int books;
+
+    @Param({"false", "true"})
+    private boolean bytecodeSerializers;
+
+    private ObjectMapper objectMapper;
+    private ApiResponseStreamWriter streamWriter;
+    private List<Book> entities;
+
+    @Setup
+    public void setUp() {
+        JsonProperties jsonProperties = new JsonProperties();
+        jsonProperties.setBytecodeSerializers(bytecodeSerializers);
+        objectMapper = new ApplicationConfig().objectMapper(jsonProperties);
+        streamWriter = new ApiResponseStreamWriter(objectMapper);
+
+        // Descriptions are TEXT columns; a few hundred characters is typical of the catalogue
+        String description = "A description long enough to dominate the row. ".repeat(12);
+        entities = LongStream.rangeClosed(1, books)
+                .mapToObj(BenchmarkFixtures::book)
+                .peek(book -> book.setDescription(description))
+                .toList();
+    }
+
+    @Benchmark
+    public void mappedList() throws IOException {
+        List<BookResponse> responses = entities.stream().map(BookMapper::toResponse).toList();
+        objectMapper.writeValue(OutputStream.nullOutputStream(), ApiResponse.success(responses));
+    }
+
+    @Benchmark
+    public void streamed() throws IOException {
+        streamWriter.writeList(OutputStream.nullOutputStream(), BookResponse.class, null,
+                action -> entities.forEach(book -> action.accept(BookMapper.toResponse(book))));
+    }
+
+    @Benchmark
+    public void streamedSparseFields() throws IOException {
+        streamWriter.writeList(OutputStream.nullOutputStream(), BookResponse.class, SPARSE_FIELDS,
+                action -> entities.forEach(book -> action.accept(BookMapper.toResponse(book))));
+    }
+}
@@ -0,0 +1,230 @@
+package com.library.library_management_system.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import com.library.library_management_system.dto.mapper.BorrowingMapper;
+import com.library.library_management_system.dto.response.BorrowingHistoryResponse;
+import com.library.library_management_system.entity.Book;
+import com.library.library_management_system.entity.BorrowingRecord;
+import com.library.library_management_system.entity.User;
+import com.library.library_management_system.enums.BorrowStatus;
+import com.library.library_management_system.enums.Genre;
+import com.library.library_management_system.enums.UserRole;
+import com.library.library_management_system.repository.BorrowingRecordRepository;
+import com.library.library_management_system.repository.projection.BorrowingHistoryView;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.MySQLDialect;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository-level cost of the history and overdue listings, mapped to responses:
+ * - ENTITY: the entity queries the endpoints used before, hydrating a BorrowingRecord and
+ *   resolving its book and user for every row;
+ * - INTERFACE: the same columns through a Spring Data interface projection, a proxy per row;
+ * - CONSTRUCTOR: the BorrowingHistoryRow constructor expressions the repository uses now.
+ * All run in a read-only transaction with the production second-level cache, so the entity
+ * path pays for hydration and cache lookups rather than extra statements.
+ *
+ * The old overdue endpoint returned empty stub responses from an Object[] query, so its
+ * baseline here is the entity query the service already had (findOverdueRecords).
+ * Runs on in-memory H2; MySQL adds the same network round trips to both paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BorrowingHistoryQueryBenchmark {
+
+    private static final int USERS = 200;
+    private static final int BOOKS = 2_000;
+    private static final int LOANS_PER_USER = 50;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"ENTITY", "INTERFACE", "CONSTRUCTOR"})
+    private String mapping;
+
+    private HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+    private BorrowingRecordRepository repository;
+    private BaselineRepository baselineRepository;
+    private TransactionTemplate readOnlyTx;
+    private long nextUser;
+
+    @Setup
+    public void setUp() {
+        // Without Spring Boot's logging setup logback defaults to DEBUG, which would log every statement
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:history-" + mapping + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        dataSource.setUsername("sa");
+
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DATASOURCE, dataSource)
+                .applySetting(AvailableSettings.DIALECT, MySQLDialect.class.getName())
+                .applySetting(AvailableSettings.JAKARTA_HBM2DDL_DB_MAJOR_VERSION, 8)
+                .applySetting(AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, "create")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 50)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                // Book and User regions as configured in application.properties
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, true)
+                .applySetting(AvailableSettings.CACHE_REGION_FACTORY, "jcache")
+                .applySetting("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider")
+                .applySetting("hibernate.javax.cache.uri", "ehcache.xml")
+                .applySetting("hibernate.javax.cache.missing_cache_strategy", "create-warn")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(Book.class)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(BorrowingRecord.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(sessionFactory);
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+        repository = repositoryFactory.getRepository(BorrowingRecordRepository.class);
+        baselineRepository = repositoryFactory.getRepository(BaselineRepository.class);
+        readOnlyTx = new TransactionTemplate(new JpaTransactionManager(sessionFactory));
+        readOnlyTx.setReadOnly(true);
+
+        populate();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        dataSource.close();
+    }
+
+    /**
+     * First page of one member's history, rotating through the members
+     */
+    @Benchmark
+    public List<BorrowingHistoryResponse> userHistoryPage() {
+        long userId = 1 + (nextUser++ % USERS);
+        return readOnlyTx.execute(status -> {
+            if (mapping.equals("ENTITY")) {
+                return baselineRepository.findByUserId(userId, PageRequest.of(0, PAGE_SIZE,
+                                Sort.by(Sort.Direction.DESC, "borrowDate").and(Sort.by(Sort.Direction.DESC, "id"))))
+                        .stream()
+                        .map(BorrowingMapper::toResponse)
+                        .toList();
+            }
+            Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+            Page<BorrowingHistoryView> page = mapping.equals("INTERFACE")
+                    ? baselineRepository.findUserBorrowingHistory(userId, pageable)
+                    : repository.findUserBorrowingHistory(userId, pageable);
+            return page.stream()
+                    .map(BorrowingMapper::toResponse)
+                    .toList();
+        });
+    }
+
+    /**
+     * Every overdue loan in the library (one in five loans)
+     */
+    @Benchmark
+    public List<BorrowingHistoryResponse> overdueBooks() {
+        return readOnlyTx.execute(status -> {
+            if (!mapping.equals("ENTITY")) {
+                List<BorrowingHistoryView> rows = mapping.equals("INTERFACE")
+                        ? baselineRepository.findOverdueBooks()
+                        : repository.findOverdueBooks();
+                return rows.stream()
+                        .map(BorrowingMapper::toResponse)
+                        .toList();
+            }
+            return repository.findOverdueRecords(LocalDate.now()).stream()
+                    .map(BorrowingMapper::toResponse)
+                    .toList();
+        });
+    }
+
+    private void populate() {
+        LocalDate today = LocalDate.now();
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            Book[] books = new Book[BOOKS];
+            for (int i = 0; i < BOOKS; i++) {
+                books[i] = new Book("Title " + i, "Author " + (i % 97), String.format("978%010d", i),
+                        Genre.values()[i % Genre.values().length], 5);
+                session.persist(books[i]);
+            }
+            for (int u = 1; u <= USERS; u++) {
+                User user = new User("user" + u, "User " + u, "user" + u + "@library.test", "secret",
+                        UserRole.MEMBER);
+                session.persist(user);
+                for (int l = 0; l < LOANS_PER_USER; l++) {
+                    BorrowingRecord loan = new BorrowingRecord(user, books[(u * LOANS_PER_USER + l) % BOOKS]);
+                    loan.setBorrowDate(today.minusDays(14 + l * 7L));
+                    loan.setDueDate(loan.getBorrowDate().plusDays(14));
+                    if (l % 5 == 0) {
+                        loan.setStatus(BorrowStatus.OVERDUE);
+                        loan.setDueDate(today.minusDays(1 + l));
+                    } else if (l > 0) {
+                        loan.setStatus(BorrowStatus.RETURNED);
+                        loan.setReturnDate(loan.getDueDate());
+                    }
+                    session.persist(loan);
+                }
+                session.flush();
+                session.clear();
+            }
+            session.getTransaction().commit();
+        }
+    }
+
+    /**
+     * The queries the listings used before: the derived entity page the history endpoint
+     * called, and the history and overdue queries as interface projections
+     */
+    interface BaselineRepository extends Repository<BorrowingRecord, Long> {
+
+        Page<BorrowingRecord> findByUserId(Long userId, Pageable pageable);
+
+        String COLUMNS = """
+                SELECT br.id AS id, br.borrowDate AS borrowDate, br.dueDate AS dueDate,
+                    br.returnDate AS returnDate, br.status AS status, br.fineAmount AS fineAmount,
+                    br.renewalCount AS renewalCount, br.maxRenewalsAllowed AS maxRenewalsAllowed,
+                    br.notes AS notes, br.issuedBy AS issuedBy, br.returnedTo AS returnedTo,
+                    b.id AS bookId, b.title AS bookTitle, b.author AS bookAuthor, b.isbn AS bookIsbn,
+                    u.id AS userId, u.username AS username, u.fullName AS userFullName,
+                    br.createdAt AS createdAt, br.updatedAt AS updatedAt
+                FROM BorrowingRecord br
+                JOIN br.book b
+                JOIN br.user u
+                """;
+
+        @Query(value = COLUMNS + "WHERE u.id = :userId ORDER BY br.borrowDate DESC, br.id DESC",
+                countQuery = "SELECT COUNT(br) FROM BorrowingRecord br WHERE br.user.id = :userId")
+        Page<BorrowingHistoryView> findUserBorrowingHistory(
+                @org.springframework.data.repository.query.Param("userId") Long userId, Pageable pageable);
+
+        @Query(COLUMNS + "WHERE br.status IN ('BORROWED', 'OVERDUE') AND br.dueDate < CURRENT_DATE "
+                + "ORDER BY br.dueDate ASC")
+        List<BorrowingHistoryView> findOverdueBooks();
+    }
+}
@@ -0,0 +1,54 @@
+package com.library.library_management_system.benchmark;
+
+import com.library.library_management_system.entity.Book;
+import com.library.library_management_system.entity.BorrowingRecord;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copy accounting and overdue arithmetic on the entities
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityHelperBenchmark {
+
+    private Book book;
+    private BorrowingRecord onTime;
+    private BorrowingRecord overdue;
+
+    @Setup
+    public void setUp() {
+        book = BenchmarkFixtures.book(1);
+        onTime = BenchmarkFixtures.borrowing(1, LocalDate.now().plusDays(7));
+        overdue = BenchmarkFixtures.borrowing(2, LocalDate.now().minusDays(10));
+    }
+
+    /**
+     * Borrow and return as a pair so the copy count (and status) stays stable across invocations.
+     */
+    @Benchmark
+    public Integer borrowAndReturnCopy() {
+        book.borrowCopy();
+        book.returnCopy();
+        return book.getAvailableCopies();
+    }
+
+    @Benchmark
+    public void isOverdue(Blackhole bh) {
+        bh.consume(onTime.isOverdue());
+        bh.consume(overdue.isOverdue());
+    }
+
+    @Benchmark
+    public void daysOverdue(Blackhole bh) {
+        bh.consume(onTime.getDaysOverdue());
+        bh.consume(overdue.getDaysOverdue());
+    }
+}
@@ -0,0 +1,215 @@
+package com.library.library_management_system.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import com.library.library_management_system.config.GraphQLConfig;
+import com.library.library_management_system.dto.mapper.BookMapper;
+import com.library.library_management_system.dto.request.BookRequest;
+import com.library.library_management_system.dto.request.BookSearchRequest;
+import com.library.library_management_system.dto.response.BookResponse;
+import com.library.library_management_system.dto.response.PagedResponse;
+import com.library.library_management_system.enums.Genre;
+import com.library.library_management_system.graphql.BookResolver;
+import com.library.library_management_system.graphql.BoundedDocumentCache;
+import com.library.library_management_system.graphql.CachingPersistedQuerySupport;
+import com.library.library_management_system.service.BookService;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.MutationMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.support.AnnotatedControllerConfigurer;
+import org.springframework.graphql.execution.GraphQlSource;
+import org.springframework.stereotype.Controller;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Argument binding and result mapping for the books query and the addBook mutation, executed
+ * through Spring GraphQL's annotated-controller data fetchers against the application schema:
+ * - MAP: the resolver as it was, taking {@code Map<String, Object>} arguments with hand casts
+ *   and Genre.valueOf, and returning nested Map.of envelopes;
+ * - TYPED: the current BookResolver, binding BookFilterInput/PaginationInput/BookInput records
+ *   and returning a Connection.
+ * Documents come from the production document cache and the BookService is a stub returning a
+ * canned page, so the difference is how the arguments reach the service and how the page is
+ * read back by the schema's property fetchers.
+ * The controllers are not proxied, so the security and concurrency aspects are not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphQLArgumentBindingBenchmark {
+
+    private static final String BOOKS_QUERY = """
+            query Books($filter: BookFilterInput, $pagination: PaginationInput) {
+              books(filter: $filter, pagination: $pagination) {
+                content { id title author isbn genre totalCopies availableCopies status }
+                pageInfo { page size totalElements totalPages hasNext hasPrevious }
+              }
+            }
+            """;
+
+    private static final String ADD_BOOK_MUTATION = """
+            mutation AddBook($input: BookInput!) {
+              addBook(input: $input) { id title isbn }
+            }
+            """;
+
+    private static final Map<String, Object> BOOKS_VARIABLES = Map.of(
+            "filter", Map.of("searchTerm", "title", "genre", "FICTION", "availableOnly", true),
+            "pagination", Map.of("page", 0, "size", 20));
+
+    private static final Map<String, Object> ADD_BOOK_VARIABLES = Map.of(
+            "input", Map.of("title", "Title", "author", "Author", "isbn", "9780000000001",
+                    "genre", "FICTION", "totalCopies", 3, "publisher", "Publisher"));
+
+    @Param({"MAP", "TYPED"})
+    private String binding;
+
+    private GenericApplicationContext context;
+    private GraphQL graphQL;
+
+    @Setup
+    public void setUp() {
+        // Without Spring Boot's logging setup logback defaults to DEBUG, which would log every call
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+
+        BookService bookService = stubBookService();
+        context = new GenericApplicationContext();
+        if (binding.equals("MAP")) {
+            context.registerBean(MapArgumentBookResolver.class, () -> new MapArgumentBookResolver(bookService));
+        } else {
+            context.registerBean(BookResolver.class, () -> new BookResolver(bookService));
+        }
+        context.refresh();
+
+        AnnotatedControllerConfigurer controllers = new AnnotatedControllerConfigurer();
+        controllers.setApplicationContext(context);
+        controllers.afterPropertiesSet();
+
+        graphQL = GraphQlSource.schemaResourceBuilder()
+                .schemaResources(new ClassPathResource("graphql/schema.graphqls"))
+                .configureRuntimeWiring(new GraphQLConfig().scalarWiringConfigurer())
+                .configureRuntimeWiring(controllers)
+                .configureGraphQl(builder -> builder.preparsedDocumentProvider(
+                        new CachingPersistedQuerySupport(new BoundedDocumentCache(500))))
+                .build()
+                .graphQl();
+
+        // Warms the production document cache, so parse and validation are not measured
+        books();
+        addBook();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ExecutionResult books() {
+        return execute(ExecutionInput.newExecutionInput(BOOKS_QUERY).variables(BOOKS_VARIABLES).build());
+    }
+
+    @Benchmark
+    public ExecutionResult addBook() {
+        return execute(ExecutionInput.newExecutionInput(ADD_BOOK_MUTATION).variables(ADD_BOOK_VARIABLES).build());
+    }
+
+    private ExecutionResult execute(ExecutionInput input) {
+        ExecutionResult result = graphQL.execute(input);
+        if (!result.getErrors().isEmpty()) {
+            throw new IllegalStateException(result.getErrors().toString());
+        }
+        return result;
+    }
+
+    /**
+     * searchBooks returns a canned 20-book page and addBook echoes a canned book
+     */
+    private static BookService stubBookService() {
+        List<BookResponse> content = LongStream.rangeClosed(1, 20)
+                .mapToObj(id -> BookMapper.toResponse(BenchmarkFixtures.book(id)))
+                .toList();
+        PagedResponse<BookResponse> page = PagedResponse.<BookResponse>builder()
+                .content(content)
+                .page(0).size(20).totalElements(20L).totalPages(1)
+                .first(true).last(true).hasNext(false).hasPrevious(false)
+                .build();
+        BookResponse added = content.get(0);
+
+        return (BookService) Proxy.newProxyInstance(BookService.class.getClassLoader(),
+                new Class<?>[]{BookService.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "searchBooks" -> page;
+                    case "addBook" -> added;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * The books query and addBook mutation as BookResolver implemented them before typed inputs
+     */
+    @Controller
+    static class MapArgumentBookResolver {
+
+        private final BookService bookService;
+
+        MapArgumentBookResolver(BookService bookService) {
+            this.bookService = bookService;
+        }
+
+        @QueryMapping
+        public Map<String, Object> books(@Argument Map<String, Object> filter,
+                                         @Argument Map<String, Object> pagination) {
+            BookSearchRequest.BookSearchRequestBuilder builder = BookSearchRequest.builder();
+            if (filter != null) {
+                if (filter.containsKey("searchTerm")) builder.searchTerm((String) filter.get("searchTerm"));
+                if (filter.containsKey("genre")) builder.genre(Genre.valueOf((String) filter.get("genre")));
+                if (filter.containsKey("availableOnly")) builder.availableOnly((Boolean) filter.get("availableOnly"));
+            }
+            if (pagination != null) {
+                if (pagination.containsKey("page")) builder.page((Integer) pagination.get("page"));
+                if (pagination.containsKey("size")) builder.size((Integer) pagination.get("size"));
+            }
+            PagedResponse<BookResponse> result = bookService.searchBooks(builder.build());
+
+            return Map.of(
+                    "content", result.getContent(),
+                    "pageInfo", Map.of(
+                            "page", result.getPage(),
+                            "size", result.getSize(),
+                            "totalElements", result.getTotalElements(),
+                            "totalPages", result.getTotalPages(),
+                            "hasNext", result.getHasNext(),
+                            "hasPrevious", result.getHasPrevious()
+                    )
+            );
+        }
+
+        @MutationMapping
+        public BookResponse addBook(@Argument Map<String, Object> input) {
+            return bookService.addBook(BookRequest.builder()
+                    .title((String) input.get("title"))
+                    .author((String) input.get("author"))
+                    .isbn((String) input.get("isbn"))
+                    .genre(Genre.valueOf((String) input.get("genre")))
+                    .totalCopies((Integer) input.get("totalCopies"))
+                    .description((String) input.get("description"))
+                    .publisher((String) input.get("publisher"))
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.library.library_management_system.benchmark;
+
+import com.library.library_management_system.config.GraphQLConfig;
+import com.library.library_management_system.graphql.BoundedDocumentCache;
+import com.library.library_management_system.graphql.CachingPersistedQuerySupport;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * The GraphQL books query against the application schema, with a cold document cache (parse and
+ * validate on every request, as before persisted queries) and a warm one, sent as full text and
+ * as an Apollo hash-only request. The resolver returns a canned page, so the difference between
+ * cold and warm is the parse/validate cost the cache removes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphQLDocumentCacheBenchmark {
+
+    private static final String BOOKS_QUERY = """
+            query Books($filter: BookFilterInput, $pagination: PaginationInput) {
+              books(filter: $filter, pagination: $pagination) {
+                content {
+                  id title author isbn genre publisher publicationDate
+                  totalCopies availableCopies status shelfLocation price
+                }
+                pageInfo { page size totalElements totalPages hasNext hasPrevious }
+              }
+            }
+            """;
+
+    private static final Map<String, Object> VARIABLES = Map.of(
+            "filter", Map.of("genre", "FICTION", "availableOnly", true),
+            "pagination", Map.of("page", 0, "size", 20));
+
+    private GraphQL uncached;
+    private GraphQL cached;
+    private Map<String, Object> persistedQueryExtension;
+
+    @Setup
+    public void setUp() throws IOException, NoSuchAlgorithmException {
+        GraphQLSchema schema = schema();
+        uncached = GraphQL.newGraphQL(schema).build();
+        cached = GraphQL.newGraphQL(schema)
+                .preparsedDocumentProvider(new CachingPersistedQuerySupport(new BoundedDocumentCache(500)))
+                .build();
+        persistedQueryExtension = Map.of("persistedQuery",
+                Map.of("version", 1, "sha256Hash", sha256Hex(BOOKS_QUERY)));
+
+        // Registers the document, as the first full-text request from a client would
+        execute(cached, BOOKS_QUERY, persistedQueryExtension);
+    }
+
+    @Benchmark
+    public ExecutionResult cold() {
+        return execute(uncached, BOOKS_QUERY, Map.of());
+    }
+
+    @Benchmark
+    public ExecutionResult warmFullText() {
+        return execute(cached, BOOKS_QUERY, Map.of());
+    }
+
+    @Benchmark
+    public ExecutionResult warmHashOnly() {
+        return execute(cached, PersistedQuerySupport.PERSISTED_QUERY_MARKER, persistedQueryExtension);
+    }
+
+    private static ExecutionResult execute(GraphQL graphQL, String query, Map<String, Object> extensions) {
+        ExecutionResult result = graphQL.execute(ExecutionInput.newExecutionInput(query)
+                .variables(VARIABLES)
+                .extensions(extensions)
+                .build());
+        if (!result.getErrors().isEmpty()) {
+            throw new IllegalStateException(result.getErrors().toString());
+        }
+        return result;
+    }
+
+    private static String sha256Hex(String query) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static GraphQLSchema schema() throws IOException {
+        String sdl;
+        try (InputStream in = GraphQLDocumentCacheBenchmark.class.getResourceAsStream("/graphql/schema.graphqls")) {
+            sdl = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        List<Map<String, Object>> content = LongStream.rangeClosed(1, 20)
+                .mapToObj(id -> Map.<String, Object>of(
+                        "id", id, "title", "Title " + id, "author", "Author " + id,
+                        "isbn", String.format("978%010d", id), "genre", "FICTION",
+                        "totalCopies", 3, "availableCopies", 2, "status", "AVAILABLE"))
+                .toList();
+        Map<String, Object> page = Map.of(
+                "content", content,
+                "pageInfo", Map.of("page", 0, "size", 20, "totalElements", 20L, "totalPages", 1,
+                        "hasNext", false, "hasPrevious", false));
+
+        RuntimeWiring.Builder wiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", builder -> builder.dataFetcher("books", env -> page));
+        new GraphQLConfig().scalarWiringConfigurer().configure(wiring);
+        return new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(sdl), wiring.build());
+    }
+}
@@ -0,0 +1,51 @@
+package com.library.library_management_system.benchmark;
+
+import com.library.library_management_system.config.JwtConfig;
+import com.library.library_management_system.security.JwtTokenProvider;
+import com.library.library_management_system.security.UserPrincipal;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and validation as done on login and on every authenticated request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    // HS512 needs at least a 512-bit key
+    private static final String SECRET =
+            "benchmarkSecretKey0123456789012345678901234567890123456789012345678901234567890";
+
+    private JwtTokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setSecret(SECRET);
+        tokenProvider = new JwtTokenProvider(jwtConfig);
+
+        UserPrincipal principal = UserPrincipal.create(BenchmarkFixtures.user(1));
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        token = tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+}
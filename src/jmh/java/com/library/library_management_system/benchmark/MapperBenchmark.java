@@ -0,0 +1,114 @@
+package com.library.library_management_system.benchmark;
+
+import com.library.library_management_system.dto.mapper.BookMapper;
+import com.library.library_management_system.dto.mapper.BorrowingMapper;
+import com.library.library_management_system.dto.mapper.PageMapper;
+import com.library.library_management_system.dto.mapper.UserMapper;
+import com.library.library_management_system.dto.response.BookResponse;
+import com.library.library_management_system.dto.response.BorrowingHistoryResponse;
+import com.library.library_management_system.dto.response.PagedResponse;
+import com.library.library_management_system.dto.response.UserResponse;
+import com.library.library_management_system.entity.Book;
+import com.library.library_management_system.entity.BorrowingRecord;
+import com.library.library_management_system.entity.User;
+import com.library.library_management_system.repository.projection.BorrowingHistoryView;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Entity/projection to DTO mapping on the hot read paths
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private Book book;
+    private User user;
+    private BorrowingRecord record;
+    private BorrowingHistoryView view;
+    private Page<Book> bookPage;
+
+    @Setup
+    public void setUp() {
+        book = BenchmarkFixtures.book(1);
+        user = BenchmarkFixtures.user(1);
+        record = BenchmarkFixtures.borrowing(1, LocalDate.now().minusDays(3));
+        view = historyView(record);
+
+        List<Book> books = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(BenchmarkFixtures::book)
+                .toList();
+        bookPage = new PageImpl<>(books, PageRequest.of(0, pageSize), pageSize * 50L);
+    }
+
+    @Benchmark
+    public BookResponse bookToResponse() {
+        return BookMapper.toResponse(book);
+    }
+
+    @Benchmark
+    public UserResponse userToResponse() {
+        return UserMapper.toResponse(user);
+    }
+
+    @Benchmark
+    public BorrowingHistoryResponse borrowingRecordToResponse() {
+        return BorrowingMapper.toResponse(record);
+    }
+
+    @Benchmark
+    public BorrowingHistoryResponse borrowingViewToResponse() {
+        return BorrowingMapper.toResponse(view);
+    }
+
+    @Benchmark
+    public PagedResponse<BookResponse> bookPageToPagedResponse() {
+        return PageMapper.toPagedResponse(bookPage, BookMapper::toResponse);
+    }
+
+    /**
+     * Builds the same kind of map-backed proxy Spring Data returns for interface projections.
+     */
+    private static BorrowingHistoryView historyView(BorrowingRecord record) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", record.getId());
+        row.put("borrowDate", record.getBorrowDate());
+        row.put("dueDate", record.getDueDate());
+        row.put("returnDate", record.getReturnDate());
+        row.put("status", record.getStatus());
+        row.put("fineAmount", record.getFineAmount());
+        row.put("renewalCount", record.getRenewalCount());
+        row.put("maxRenewalsAllowed", record.getMaxRenewalsAllowed());
+        row.put("notes", record.getNotes());
+        row.put("issuedBy", record.getIssuedBy());
+        row.put("returnedTo", record.getReturnedTo());
+        row.put("bookId", record.getBook().getId());
+        row.put("bookTitle", record.getBook().getTitle());
+        row.put("bookAuthor", record.getBook().getAuthor());
+        row.put("bookIsbn", record.getBook().getIsbn());
+        row.put("userId", record.getUser().getId());
+        row.put("username", record.getUser().getUsername());
+        row.put("userFullName", record.getUser().getFullName());
+        row.put("createdAt", LocalDateTime.now());
+        row.put("updatedAt", LocalDateTime.now());
+        return new SpelAwareProxyProjectionFactory().createProjection(BorrowingHistoryView.class, row);
+    }
+}
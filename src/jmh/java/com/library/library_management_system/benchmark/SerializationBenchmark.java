@@ -0,0 +1,53 @@
+package com.library.library_management_system.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.library_management_system.dto.mapper.BookMapper;
+import com.library.library_management_system.dto.mapper.PageMapper;
+import com.library.library_management_system.dto.response.ApiResponse;
+import com.library.library_management_system.dto.response.BookResponse;
+import com.library.library_management_system.dto.response.PagedResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * JSON serialization of a paged book listing, the body of GET /api/books
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PagedResponse<BookResponse>> response;
+
+    @Setup
+    public void setUp() {
+        // Same module set Spring Boot registers (JSR-310, Jdk8, parameter names)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<BookResponse> books = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(BenchmarkFixtures::book)
+                .map(BookMapper::toResponse)
+                .toList();
+        response = ApiResponse.success(PageMapper.toPagedResponse(
+                new PageImpl<>(books, PageRequest.of(0, pageSize), pageSize * 50L)));
+    }
+
+    @Benchmark
+    public byte[] serializeBookPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
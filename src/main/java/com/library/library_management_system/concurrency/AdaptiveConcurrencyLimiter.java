@@ -0,0 +1,94 @@
+package com.library.library_management_system.concurrency;
+
+import com.library.library_management_system.config.ConcurrencyLimitProperties;
+import com.library.library_management_system.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One {@link AimdLimiter} per {@link EndpointClass}.
+ * <p>
+ * Classes share the servlet threads and the database, so a slow class is not only throttled
+ * itself: every lower-priority class backs off with it. A report storm that slows circulation
+ * therefore shrinks the reports limit, while circulation keeps its own.
+ */
+@Component
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    public static final String LIMIT_GAUGE = "library.concurrency.limit";
+    public static final String IN_FLIGHT_GAUGE = "library.concurrency.in-flight";
+    public static final String REJECTED_COUNTER = "library.concurrency.rejected";
+
+    private final ConcurrencyLimitProperties properties;
+    private final Map<EndpointClass, AimdLimiter> limiters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejections = new EnumMap<>(EndpointClass.class);
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            ConcurrencyLimitProperties.Limit limit = properties.forClass(endpointClass);
+            AimdLimiter limiter = new AimdLimiter(limit.getInitialLimit(), limit.getMinLimit(), limit.getMaxLimit(),
+                    limit.getLatencyThreshold().toNanos(), properties.getBackoffRatio());
+            limiters.put(endpointClass, limiter);
+
+            String tag = endpointClass.tagValue();
+            Gauge.builder(LIMIT_GAUGE, limiter, AimdLimiter::getLimit)
+                    .tag("class", tag)
+                    .description("Current adaptive concurrency limit")
+                    .register(meterRegistry);
+            Gauge.builder(IN_FLIGHT_GAUGE, limiter, AimdLimiter::getInFlight)
+                    .tag("class", tag)
+                    .description("Requests in flight")
+                    .register(meterRegistry);
+            rejections.put(endpointClass, Counter.builder(REJECTED_COUNTER)
+                    .tag("class", tag)
+                    .description("Requests shed at the concurrency limit")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Takes a slot for the endpoint class or sheds the request
+     *
+     * @throws ServiceOverloadedException when the class is at its limit
+     */
+    public void acquire(EndpointClass endpointClass) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AimdLimiter limiter = limiters.get(endpointClass);
+        if (!limiter.tryAcquire()) {
+            rejections.get(endpointClass).increment();
+            log.debug("Shedding {} request at limit {}", endpointClass, limiter.getLimit());
+            throw new ServiceOverloadedException("Too many concurrent " + endpointClass.tagValue()
+                    + " requests, please retry later", properties.forClass(endpointClass).getRetryAfter());
+        }
+    }
+
+    /**
+     * Releases a slot taken by {@link #acquire} and feeds the call's latency back into the limits
+     */
+    public void release(EndpointClass endpointClass, long latencyNanos, boolean overloaded) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (limiters.get(endpointClass).release(latencyNanos, overloaded)) {
+            for (EndpointClass lower : EndpointClass.values()) {
+                if (lower.ordinal() > endpointClass.ordinal()) {
+                    limiters.get(lower).backOff();
+                }
+            }
+        }
+    }
+
+    AimdLimiter limiter(EndpointClass endpointClass) {
+        return limiters.get(endpointClass);
+    }
+}
@@ -0,0 +1,75 @@
+package com.library.library_management_system.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Additive-increase/multiplicative-decrease concurrency limit driven by observed latency.
+ * <p>
+ * A call slower than the latency threshold (or failing for lack of resources) multiplies the
+ * limit by the backoff ratio. A call on time grows it by 1/limit, i.e. by about one per round
+ * of requests, but only while the limit is actually in use; an idle class does not inflate its limit.
+ */
+public class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos, double backoffRatio) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Takes a slot if fewer calls than the current limit are in flight
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Frees the slot and adjusts the limit from the call's latency
+     *
+     * @return true when the call breached the latency threshold or overloaded a resource
+     */
+    public boolean release(long latencyNanos, boolean overloaded) {
+        int current = inFlight.getAndDecrement();
+        boolean breached = overloaded || latencyNanos > latencyThresholdNanos;
+        if (breached) {
+            backOff();
+        } else if (current * 2 >= limit) {
+            increase();
+        }
+        return breached;
+    }
+
+    public synchronized void backOff() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    private synchronized void increase() {
+        limit = Math.min(maxLimit, limit + 1 / limit);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
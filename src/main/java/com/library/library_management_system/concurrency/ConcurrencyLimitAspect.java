@@ -0,0 +1,53 @@
+package com.library.library_management_system.concurrency;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs {@link ConcurrencyLimited} handlers under their endpoint class's adaptive limit
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimitAspect {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    @Around("@within(com.library.library_management_system.concurrency.ConcurrencyLimited) "
+            + "|| @annotation(com.library.library_management_system.concurrency.ConcurrencyLimited)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        EndpointClass endpointClass = endpointClass(joinPoint);
+        limiter.acquire(endpointClass);
+
+        long start = System.nanoTime();
+        boolean overloaded = false;
+        try {
+            return joinPoint.proceed();
+        } catch (CannotGetJdbcConnectionException | QueryTimeoutException | TransientDataAccessResourceException ex) {
+            // Resource exhaustion is the signal AIMD treats like a dropped packet
+            overloaded = true;
+            throw ex;
+        } finally {
+            limiter.release(endpointClass, System.nanoTime() - start, overloaded);
+        }
+    }
+
+    private static EndpointClass endpointClass(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        ConcurrencyLimited annotation = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(),
+                ConcurrencyLimited.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(),
+                    ConcurrencyLimited.class);
+        }
+        return annotation.value();
+    }
+}
@@ -0,0 +1,19 @@
+package com.library.library_management_system.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs REST and GraphQL handler methods under the adaptive concurrency limit of an endpoint class.
+ * On a type, applies to all its methods; a method annotation overrides the type's class.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConcurrencyLimited {
+
+    EndpointClass value();
+}
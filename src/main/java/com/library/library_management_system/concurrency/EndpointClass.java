@@ -0,0 +1,16 @@
+package com.library.library_management_system.concurrency;
+
+/**
+ * Endpoint classes with their own adaptive concurrency limit, highest priority first.
+ * When a class runs slower than its latency threshold, every lower-priority class backs off too.
+ */
+public enum EndpointClass {
+    CIRCULATION,
+    AUTH,
+    CATALOGUE,
+    REPORTS;
+
+    public String tagValue() {
+        return name().toLowerCase();
+    }
+}
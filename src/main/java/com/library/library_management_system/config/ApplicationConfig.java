@@ -3,15 +3,19 @@ package com.library.library_management_system.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.NativeDetector;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Proxy;
 import java.util.concurrent.Executor;
 
 /**
@@ -28,12 +32,20 @@ public class ApplicationConfig {
      */
     @Bean
     @Primary
-    public ObjectMapper objectMapper() {
+    public ObjectMapper objectMapper(JsonProperties jsonProperties) {
         ObjectMapper mapper = new ObjectMapper();
 
         // Register Java Time module for proper LocalDate/LocalDateTime serialization
         mapper.registerModule(new JavaTimeModule());
 
+        // Replace reflective getter calls with generated accessors on the hot response types.
+        // JDK proxies (Spring Data projections) live in a module Blackbird cannot access; a null
+        // lookup leaves them on the reflective path.
+        if (jsonProperties.isBytecodeSerializers() && !NativeDetector.inNativeImage()) {
+            mapper.registerModule(new BlackbirdModule(
+                    type -> Proxy.isProxyClass(type) ? null : MethodHandles.lookup()));
+        }
+
         // Disable writing dates as timestamps
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
@@ -0,0 +1,44 @@
+package com.library.library_management_system.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.time.Period;
+
+/**
+ * Borrowing record archival configuration properties
+ */
+@Configuration
+@ConfigurationProperties(prefix = "library.archival")
+@Data
+@Validated
+public class ArchivalConfig {
+
+    private boolean enabled = true;
+
+    // Returned/lost loans closed longer ago than this are moved to the archive table;
+    // returned loans with an unpaid fine stay live until the fine is cleared
+    @NotNull(message = "Retention period is required")
+    private Period retention = Period.ofYears(1);
+
+    // Records moved per transaction
+    @Min(value = 1, message = "Batch size must be at least 1")
+    private int batchSize = 500;
+
+    // Pause between batches so the job never monopolises the database
+    @NotNull(message = "Pause between batches is required")
+    private Duration pauseBetweenBatches = Duration.ofMillis(250);
+
+    // Upper bound per run; the remainder is picked up by the next run
+    @Min(value = 1, message = "Max batches per run must be at least 1")
+    private int maxBatchesPerRun = 400;
+
+    @NotBlank(message = "Archival cron expression is required")
+    private String cron = "0 30 2 * * *";
+}
@@ -0,0 +1,25 @@
+package com.library.library_management_system.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Bulk catalogue import configuration properties
+ */
+@Configuration
+@ConfigurationProperties(prefix = "library.import")
+@Data
+@Validated
+public class BookImportConfig {
+
+    // Rows validated, de-duplicated and written per transaction
+    @Positive(message = "Import chunk size must be positive")
+    private int chunkSize = 1000;
+
+    // Row errors included in the import report; further errors are only counted
+    @Positive(message = "Max reported errors must be positive")
+    private int maxReportedErrors = 1000;
+}
@@ -0,0 +1,89 @@
+package com.library.library_management_system.config;
+
+import com.library.library_management_system.concurrency.EndpointClass;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Adaptive per-endpoint-class concurrency limit configuration properties
+ */
+@Configuration
+@ConfigurationProperties(prefix = "library.concurrency")
+@Data
+@Validated
+public class ConcurrencyLimitProperties {
+
+    // Shed requests of an endpoint class once its adaptive limit is reached
+    private boolean enabled = true;
+
+    // Factor applied to a limit on every slow call
+    @DecimalMin(value = "0.5", message = "Backoff ratio must be between 0.5 and 1")
+    @DecimalMax(value = "1.0", message = "Backoff ratio must be between 0.5 and 1")
+    private double backoffRatio = 0.9;
+
+    @Valid
+    @NotNull(message = "Circulation limit configuration is required")
+    private Limit circulation = new Limit(20, 4, 40, Duration.ofMillis(500), Duration.ofSeconds(1));
+
+    @Valid
+    @NotNull(message = "Auth limit configuration is required")
+    private Limit auth = new Limit(10, 2, 20, Duration.ofSeconds(1), Duration.ofSeconds(1));
+
+    @Valid
+    @NotNull(message = "Catalogue limit configuration is required")
+    private Limit catalogue = new Limit(20, 2, 60, Duration.ofMillis(300), Duration.ofSeconds(1));
+
+    @Valid
+    @NotNull(message = "Reports limit configuration is required")
+    private Limit reports = new Limit(4, 1, 8, Duration.ofSeconds(3), Duration.ofSeconds(5));
+
+    public Limit forClass(EndpointClass endpointClass) {
+        return switch (endpointClass) {
+            case CIRCULATION -> circulation;
+            case AUTH -> auth;
+            case CATALOGUE -> catalogue;
+            case REPORTS -> reports;
+        };
+    }
+
+    @Data
+    public static class Limit {
+
+        @Min(value = 1, message = "Initial limit must be at least 1")
+        private int initialLimit;
+
+        @Min(value = 1, message = "Minimum limit must be at least 1")
+        private int minLimit;
+
+        @Min(value = 1, message = "Maximum limit must be at least 1")
+        private int maxLimit;
+
+        // Calls slower than this shrink the limit
+        @NotNull(message = "Latency threshold is required")
+        private Duration latencyThreshold;
+
+        // Sent as Retry-After with shed requests
+        @NotNull(message = "Retry-After is required")
+        private Duration retryAfter;
+
+        public Limit() {
+        }
+
+        public Limit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, Duration retryAfter) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.latencyThreshold = latencyThreshold;
+            this.retryAfter = retryAfter;
+        }
+    }
+}
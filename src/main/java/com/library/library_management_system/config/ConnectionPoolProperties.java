@@ -0,0 +1,65 @@
+package com.library.library_management_system.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Per-workload connection pool configuration properties.
+ * The OLTP pool is configured through spring.datasource.hikari.*
+ */
+@Configuration
+@ConfigurationProperties(prefix = "library.datasource.pools")
+@Data
+@Validated
+public class ConnectionPoolProperties {
+
+    // Give reporting and batch work their own pools; when off, everything shares the OLTP pool
+    private boolean enabled = true;
+
+    @Valid
+    @NotNull(message = "Reporting pool configuration is required")
+    private Pool reporting = new Pool(5, 1, Duration.ofSeconds(30), Duration.ofMinutes(2));
+
+    @Valid
+    @NotNull(message = "Batch pool configuration is required")
+    private Pool batch = new Pool(3, 0, Duration.ofSeconds(60), Duration.ofMinutes(10));
+
+    @Data
+    public static class Pool {
+
+        @Min(value = 1, message = "Maximum pool size must be at least 1")
+        private int maximumPoolSize;
+
+        @Min(value = 0, message = "Minimum idle must not be negative")
+        private int minimumIdle;
+
+        // How long a caller waits for a connection before failing
+        @NotNull(message = "Connection timeout is required")
+        private Duration connectionTimeout;
+
+        // Log a stack trace when a connection is held longer than this (0 disables)
+        @NotNull(message = "Leak detection threshold is required")
+        private Duration leakDetectionThreshold;
+
+        // Optional JDBC URL override, e.g. to point reporting at a replica
+        private String url;
+
+        public Pool() {
+        }
+
+        public Pool(int maximumPoolSize, int minimumIdle, Duration connectionTimeout,
+                    Duration leakDetectionThreshold) {
+            this.maximumPoolSize = maximumPoolSize;
+            this.minimumIdle = minimumIdle;
+            this.connectionTimeout = connectionTimeout;
+            this.leakDetectionThreshold = leakDetectionThreshold;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.library.library_management_system.config;
+
+import com.library.library_management_system.datasource.PoolMetrics;
+import com.library.library_management_system.datasource.ReadWriteRoutingDataSource;
+import com.library.library_management_system.datasource.WorkloadRoutingDataSource;
+import com.library.library_management_system.datasource.WorkloadType;
+import com.library.library_management_system.logging.SlowQueryLogListener;
+import com.library.library_management_system.metrics.StatementCountingListener;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * DataSource wiring: one Hikari pool per workload so long reports and batch jobs
+ * cannot exhaust the connections borrow/return depend on.
+ *
+ * OLTP (the primary pool, or read/write routing when replicas are enabled)
+ *   -> WorkloadRoutingDataSource (picks the pool from @Workload)
+ *   -> LazyConnectionDataSourceProxy (checkout deferred until the first statement)
+ *   -> JDBC proxy (per-request SQL budgets when library.sql-budget.enabled,
+ *      slow/sampled SQL logging when library.sql-log.enabled)
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class DataSourceConfig {
+
+    private final ConnectionPoolProperties poolProperties;
+    private final StatementBudgetConfig statementBudgetConfig;
+    private final SqlLogConfig sqlLogConfig;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("oltp");
+        return dataSource;
+    }
+
+    @Bean
+    public WorkloadRoutingDataSource workloadRoutingDataSource(HikariDataSource primaryDataSource,
+                                                               ObjectProvider<ReadWriteRoutingDataSource> readWriteRouting,
+                                                               MeterRegistry meterRegistry) {
+        DataSource oltp = readWriteRouting.getIfAvailable();
+        if (oltp == null) {
+            oltp = primaryDataSource;
+        }
+        PoolMetrics.bindSaturation(primaryDataSource, meterRegistry);
+
+        Map<WorkloadType, DataSource> dedicatedPools = new EnumMap<>(WorkloadType.class);
+        if (poolProperties.isEnabled()) {
+            dedicatedPools.put(WorkloadType.REPORTING, createPool("reporting", poolProperties.getReporting(),
+                    primaryDataSource, meterRegistry));
+            dedicatedPools.put(WorkloadType.BATCH, createPool("batch", poolProperties.getBatch(),
+                    primaryDataSource, meterRegistry));
+        }
+        log.info("Connection pools: oltp (max {}), dedicated: {}",
+                primaryDataSource.getMaximumPoolSize(), dedicatedPools.keySet());
+
+        return new WorkloadRoutingDataSource(oltp, dedicatedPools);
+    }
+
+    /**
+     * Connections are fetched lazily so routing can see the workload and read-only flag
+     * of the transaction
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(WorkloadRoutingDataSource workloadRoutingDataSource) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(workloadRoutingDataSource);
+        if (!statementBudgetConfig.isEnabled() && !sqlLogConfig.isEnabled()) {
+            return dataSource;
+        }
+
+        // Outermost, so statements are seen whichever pool ends up serving them
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create("library", dataSource);
+        if (statementBudgetConfig.isEnabled()) {
+            StatementCountingListener listener = new StatementCountingListener();
+            builder.listener(listener)
+                    .methodListener(listener)
+                    .proxyResultSet();
+        }
+        if (sqlLogConfig.isEnabled()) {
+            builder.listener(new SlowQueryLogListener(sqlLogConfig));
+        }
+        return builder.build();
+    }
+
+    private HikariDataSource createPool(String name, ConnectionPoolProperties.Pool pool,
+                                        HikariDataSource primaryDataSource, MeterRegistry meterRegistry) {
+        // Driver, credentials and statement cache settings are inherited from the OLTP pool
+        HikariDataSource dataSource = new HikariDataSource();
+        primaryDataSource.copyStateTo(dataSource);
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        dataSource.setMinimumIdle(pool.getMinimumIdle());
+        dataSource.setConnectionTimeout(pool.getConnectionTimeout().toMillis());
+        dataSource.setLeakDetectionThreshold(pool.getLeakDetectionThreshold().toMillis());
+        if (pool.getUrl() != null) {
+            dataSource.setJdbcUrl(pool.getUrl());
+        }
+        PoolMetrics.bind(dataSource, meterRegistry);
+        return dataSource;
+    }
+}
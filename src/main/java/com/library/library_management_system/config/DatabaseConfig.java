@@ -1,5 +1,6 @@
 package com.library.library_management_system.config;
 
+import com.library.library_management_system.repository.NaturalIdRepositoryImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -18,7 +19,8 @@ import java.util.Optional;
  * Database configuration with JPA Auditing and Transaction Management
  */
 @Configuration
-@EnableJpaRepositories(basePackages = "com.library.library_management_system.repository")
+@EnableJpaRepositories(basePackages = "com.library.library_management_system.repository",
+        repositoryBaseClass = NaturalIdRepositoryImpl.class)
 @EnableJpaAuditing(auditorAwareRef = "auditorProvider")
 @EnableTransactionManagement
 @RequiredArgsConstructor
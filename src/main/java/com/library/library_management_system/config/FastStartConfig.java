@@ -0,0 +1,40 @@
+package com.library.library_management_system.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.List;
+
+/**
+ * Fast-start profile: beans only needed for API documentation are created on first use
+ * instead of at startup. With AOT processing the lazy flags are baked into the generated
+ * bean definitions at build time.
+ */
+@Configuration
+@Profile("fast-start")
+public class FastStartConfig {
+
+    // Bean classes (or the configuration classes declaring them) created on first use
+    private static final List<String> LAZY_PREFIXES = List.of(
+            "org.springdoc.",
+            SwaggerConfig.class.getName());
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyNonCriticalBeans() {
+        return beanFactory -> {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                String declaringClass = definition.getFactoryBeanName() != null
+                        && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())
+                        ? beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName()
+                        : definition.getBeanClassName();
+                if (declaringClass != null && LAZY_PREFIXES.stream().anyMatch(declaringClass::startsWith)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+}
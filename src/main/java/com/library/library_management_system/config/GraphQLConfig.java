@@ -1,8 +1,22 @@
 package com.library.library_management_system.config;
 
+import com.library.library_management_system.graphql.BoundedDocumentCache;
+import com.library.library_management_system.graphql.CachingPersistedQuerySupport;
+import com.library.library_management_system.graphql.DateScalar;
+import com.library.library_management_system.graphql.DateTimeScalar;
+import com.library.library_management_system.graphql.LongScalar;
+import com.library.library_management_system.graphql.QueryCostCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.scalars.ExtendedScalars;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.RuntimeWiringConfigurer;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -16,6 +30,79 @@ import java.util.List;
 @Slf4j
 public class GraphQLConfig {
 
+    public static final String REJECTED_COUNTER = "library.graphql.rejected";
+    public static final String DOCUMENT_CACHE_METRIC = "library.graphql.document.cache";
+
+    /**
+     * Register the custom scalars referenced by the schema
+     */
+    @Bean
+    public RuntimeWiringConfigurer scalarWiringConfigurer() {
+        log.info("Registering GraphQL scalars: Date, DateTime, Long, JSON");
+
+        return wiringBuilder -> wiringBuilder
+                .scalar(DateScalar.DATE)
+                .scalar(DateTimeScalar.DATETIME)
+                .scalar(LongScalar.LONG)
+                .scalar(ExtendedScalars.Json);
+    }
+
+    /**
+     * Reject operations nested deeper than the configured maximum depth
+     */
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(GraphQLLimitsConfig limitsConfig,
+                                                                     MeterRegistry meterRegistry) {
+        log.info("Configuring GraphQL max query depth: {}", limitsConfig.getMaxDepth());
+
+        return new MaxQueryDepthInstrumentation(limitsConfig.getMaxDepth(), result -> {
+            log.warn("GraphQL: Rejected query with depth {} (max {})", result.getDepth(), limitsConfig.getMaxDepth());
+            meterRegistry.counter(REJECTED_COUNTER, "reason", "depth").increment();
+            return true;
+        });
+    }
+
+    /**
+     * Reject operations whose computed cost (field weights x page sizes) exceeds the budget
+     */
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(GraphQLLimitsConfig limitsConfig,
+                                                                               QueryCostCalculator costCalculator,
+                                                                               MeterRegistry meterRegistry) {
+        log.info("Configuring GraphQL max query cost: {}", limitsConfig.getMaxCost());
+
+        return new MaxQueryComplexityInstrumentation(limitsConfig.getMaxCost(), costCalculator, result -> {
+            log.warn("GraphQL: Rejected query with cost {} (max {})", result.getComplexity(), limitsConfig.getMaxCost());
+            meterRegistry.counter(REJECTED_COUNTER, "reason", "cost").increment();
+            return true;
+        });
+    }
+
+    /**
+     * Shared cache of parsed and validated documents, keyed by query hash
+     */
+    @Bean
+    public BoundedDocumentCache graphQLDocumentCache(
+            @Value("${library.graphql.document-cache.max-size:500}") int maxSize,
+            MeterRegistry meterRegistry) {
+        log.info("Configuring GraphQL document cache with max size: {}", maxSize);
+
+        BoundedDocumentCache cache = new BoundedDocumentCache(maxSize);
+        meterRegistry.gauge(DOCUMENT_CACHE_METRIC + ".size", List.of(), cache, BoundedDocumentCache::size);
+        meterRegistry.more().counter(DOCUMENT_CACHE_METRIC + ".requests", List.of(Tag.of("result", "hit")), cache, BoundedDocumentCache::getHitCount);
+        meterRegistry.more().counter(DOCUMENT_CACHE_METRIC + ".requests", List.of(Tag.of("result", "miss")), cache, BoundedDocumentCache::getMissCount);
+        return cache;
+    }
+
+    /**
+     * Serve automatic persisted queries and skip parse/validate for documents already seen
+     */
+    @Bean
+    public GraphQlSourceBuilderCustomizer persistedQueryCustomizer(BoundedDocumentCache graphQLDocumentCache) {
+        return builder -> builder.configureGraphQl(graphQlBuilder ->
+                graphQlBuilder.preparsedDocumentProvider(new CachingPersistedQuerySupport(graphQLDocumentCache)));
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSourceGraphQL() {
         log.info("Configuring CORS for GraphQL endpoints");
@@ -0,0 +1,55 @@
+package com.library.library_management_system.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * GraphQL query budget configuration properties
+ */
+@Configuration
+@ConfigurationProperties(prefix = "library.graphql.limits")
+@Data
+@Validated
+public class GraphQLLimitsConfig {
+
+    // Maximum selection depth of a single operation
+    @Positive(message = "GraphQL max depth must be positive")
+    private int maxDepth = 8;
+
+    // Maximum computed cost of a single operation
+    @Positive(message = "GraphQL max cost must be positive")
+    private int maxCost = 5000;
+
+    // Cost of a field that has no explicit weight
+    private int defaultFieldWeight = 1;
+
+    // Page size assumed when a paged field is queried without pagination
+    private int defaultPageSize = 10;
+
+    // Element count assumed for root list fields that take no size argument
+    private int assumedListSize = 100;
+
+    // Per-field weights keyed by "Type.field", e.g. "Query.dashboardStats"
+    private Map<String, Integer> fieldWeights = new HashMap<>(Map.of(
+            "Query.books", 5,
+            "Query.users", 5,
+            "Query.availableBooks", 10,
+            "Query.overdueBooks", 10,
+            "Query.myBorrowingHistory", 5,
+            "Query.dashboardStats", 50,
+            "Query.libraryStatistics", 20,
+            "Query.popularGenreStats", 20,
+            "BorrowingRecord.book", 2,
+            "BorrowingRecord.user", 2
+    ));
+
+    public int getFieldWeight(String coordinate) {
+        return fieldWeights.getOrDefault(coordinate, defaultFieldWeight);
+    }
+}
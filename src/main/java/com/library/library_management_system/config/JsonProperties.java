@@ -0,0 +1,21 @@
+package com.library.library_management_system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JSON serialization configuration properties
+ */
+@Configuration
+@ConfigurationProperties(prefix = "library.json")
+@Data
+public class JsonProperties {
+
+    // Register Blackbird: property access through generated lambdas instead of reflection
+    // (ignored in a native image, which cannot define classes at run time)
+    private boolean bytecodeSerializers = true;
+
+    // Stream large book lists from the database; off serves them from the cached list
+    private boolean streamingLists = true;
+}
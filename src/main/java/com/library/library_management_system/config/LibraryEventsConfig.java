@@ -0,0 +1,31 @@
+package com.library.library_management_system.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Live event (GraphQL subscription) configuration properties
+ */
+@Configuration
+@ConfigurationProperties(prefix = "library.events")
+@Data
+@Validated
+public class LibraryEventsConfig {
+
+    // Events buffered per subscriber before the oldest are dropped
+    @Positive(message = "Subscriber buffer size must be positive")
+    private int subscriberBufferSize = 256;
+
+    // Loans due within this many days produce a DUE_SOON notification
+    @PositiveOrZero(message = "Due soon days must be positive or zero")
+    private int dueSoonDays = 2;
+
+    // How often due-soon and overdue notifications are checked
+    @NotBlank(message = "Due date check cron is required")
+    private String dueDateCheckCron = "0 0 * * * *";
+}
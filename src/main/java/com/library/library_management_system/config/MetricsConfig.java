@@ -0,0 +1,40 @@
+package com.library.library_management_system.config;
+
+import ch.qos.logback.classic.LoggerContext;
+import com.library.library_management_system.logging.CategoryRateLimitFilter;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics configuration - enables {@code @Timed} on service methods and counts log events
+ * dropped by the logging rate limits
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder suppressedLogEventsMetrics() {
+        return registry -> {
+            if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+                return;
+            }
+            context.getTurboFilterList().stream()
+                    .filter(CategoryRateLimitFilter.class::isInstance)
+                    .map(CategoryRateLimitFilter.class::cast)
+                    .forEach(filter -> FunctionCounter.builder("library.logging.suppressed", filter,
+                                    CategoryRateLimitFilter::getSuppressedCount)
+                            .description("Log events dropped by per-category rate limits")
+                            .register(registry));
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.library.library_management_system.config;
+
+import com.library.library_management_system.logging.CategoryRateLimitFilter;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.ClassUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reachability metadata for GraalVM native images (the native Maven profile).
+ * <p>
+ * Spring AOT already covers beans, @ConfigurationProperties, controller request and response
+ * bodies, repository proxies and the schema and migration resources. These hints add what it
+ * cannot see: types read reflectively by Hibernate, Jackson and GraphQL property fetching,
+ * classes jjwt and logback instantiate by name, and the JDK proxies of the JDBC proxy chain.
+ * The GraphQL scalars are static instances and the values they coerce are JDK types, so they
+ * need no hints; Lombok builders are plain code unless Jackson deserializes through them.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeImageConfig.LibraryRuntimeHints.class)
+public class NativeImageConfig {
+
+    static class LibraryRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final String BASE_PACKAGE = "com.library.library_management_system";
+
+        // Persistent state is read and written through fields, proxies and constructors
+        private static final List<String> ENTITY_PACKAGES = List.of(BASE_PACKAGE + ".entity");
+
+        // Jackson (REST, JWT claims) and GraphQL property fetching and argument binding
+        private static final List<String> BINDING_PACKAGES = List.of(
+                BASE_PACKAGE + ".dto",
+                BASE_PACKAGE + ".enums",
+                BASE_PACKAGE + ".graphql.input",
+                BASE_PACKAGE + ".graphql.type",
+                BASE_PACKAGE + ".repository.projection");
+
+        // Jwts, Keys and Services load the implementation by class name
+        private static final List<String> JJWT_CLASSES = List.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParser",
+                "io.jsonwebtoken.impl.DefaultClaims",
+                "io.jsonwebtoken.impl.DefaultHeader",
+                "io.jsonwebtoken.impl.DefaultJwsHeader",
+                "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+        // Created by Joran from logback-spring.xml (prod profile)
+        private static final List<String> LOGBACK_CLASSES = List.of(
+                CategoryRateLimitFilter.class.getName(),
+                "ch.qos.logback.classic.AsyncAppender",
+                "ch.qos.logback.classic.encoder.JsonEncoder",
+                "ch.qos.logback.core.ConsoleAppender");
+
+        // datasource-proxy wraps each JDBC object in a JDK proxy implementing [ProxyJdbcObject, type]
+        private static final List<String> PROXIED_JDBC_TYPES = List.of(
+                "javax.sql.DataSource",
+                "java.sql.Connection",
+                "java.sql.Statement",
+                "java.sql.PreparedStatement",
+                "java.sql.CallableStatement",
+                "java.sql.ResultSet");
+
+        private static final String FIELD_FILTER_MIX_IN = BASE_PACKAGE + ".json.ApiResponseStreamWriter$FieldFilterMixIn";
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> entity : scan(ENTITY_PACKAGES, classLoader)) {
+                hints.reflection().registerType(entity, MemberCategory.values());
+            }
+
+            BindingReflectionHintsRegistrar binding = new BindingReflectionHintsRegistrar();
+            binding.registerReflectionHints(hints.reflection(),
+                    scan(BINDING_PACKAGES, classLoader).toArray(Class<?>[]::new));
+
+            for (String className : JJWT_CLASSES) {
+                hints.reflection().registerType(TypeReference.of(className),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+            for (String className : LOGBACK_CLASSES) {
+                hints.reflection().registerType(TypeReference.of(className),
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            TypeReference proxyJdbcObject = TypeReference.of("net.ttddyy.dsproxy.proxy.ProxyJdbcObject");
+            for (String jdbcType : PROXIED_JDBC_TYPES) {
+                hints.proxies().registerJdkProxy(proxyJdbcObject, TypeReference.of(jdbcType));
+            }
+            hints.proxies().registerJdkProxy(TypeReference.of("org.springframework.jdbc.datasource.ConnectionProxy"));
+
+            // Jackson reads the @JsonFilter of the field selection mix-in reflectively
+            hints.reflection().registerType(TypeReference.of(FIELD_FILTER_MIX_IN));
+
+            hints.resources().registerPattern("ehcache.xml");
+        }
+
+        private static Set<Class<?>> scan(List<String> packages, ClassLoader classLoader) {
+            // Every type, including interfaces (projections) and nested classes (builders)
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    return true;
+                }
+            };
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+
+            Set<Class<?>> types = new LinkedHashSet<>();
+            for (String basePackage : packages) {
+                for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                    types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+                }
+            }
+            return types;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.library.library_management_system.config;
+
+import com.library.library_management_system.datasource.PoolMetrics;
+import com.library.library_management_system.datasource.ReadWriteRoutingDataSource;
+import com.library.library_management_system.datasource.ReadYourWritesTracker;
+import com.library.library_management_system.datasource.ReplicaLagMonitor;
+import com.library.library_management_system.datasource.ReplicaMaintenanceTask;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read/write splitting: read-only transactions go to replicas, everything else to the primary.
+ * Active only when library.datasource.read-replicas.enabled=true; the router then becomes
+ * the OLTP target in {@link DataSourceConfig}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "library.datasource.read-replicas", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReadReplicaConfig {
+
+    private final ReadReplicaProperties replicaProperties;
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(replicaProperties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                 ReplicaLagMonitor replicaLagMonitor,
+                                                                 ReadYourWritesTracker readYourWritesTracker) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaLagMonitor.getReplicas(),
+                replicaLagMonitor, readYourWritesTracker);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource primaryDataSource, MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReadReplicaProperties.Replica> configured = replicaProperties.getReplicas();
+
+        for (int i = 0; i < configured.size(); i++) {
+            String name = "replica-" + i;
+            replicas.put(name, createReplicaDataSource(name, configured.get(i), primaryDataSource, meterRegistry));
+        }
+        log.info("Routing read-only transactions to {} replica(s): {}", replicas.size(), replicas.keySet());
+
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicas, replicaProperties.getMaxLag(),
+                replicaProperties.getLagQuery(), replicaProperties.getLagColumn());
+
+        replicas.keySet().forEach(name -> {
+            Gauge.builder("library.datasource.replica.lag", monitor, m -> m.getLagSeconds(name))
+                    .description("Replication lag in seconds (-1 when unknown)")
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            Gauge.builder("library.datasource.replica.healthy", monitor, m -> m.isHealthy(name) ? 1 : 0)
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+        return monitor;
+    }
+
+    @Bean
+    public ReplicaMaintenanceTask replicaMaintenanceTask(ReplicaLagMonitor replicaLagMonitor,
+                                                         ReadYourWritesTracker readYourWritesTracker) {
+        return new ReplicaMaintenanceTask(replicaLagMonitor, readYourWritesTracker,
+                replicaProperties.isLagCheckEnabled());
+    }
+
+    private HikariDataSource createReplicaDataSource(String name, ReadReplicaProperties.Replica replica,
+                                                     HikariDataSource primaryDataSource,
+                                                     MeterRegistry meterRegistry) {
+        // Replicas share the primary's pool settings and credentials unless overridden
+        HikariDataSource dataSource = new HikariDataSource();
+        primaryDataSource.copyStateTo(dataSource);
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(replica.getUrl());
+        if (replica.getUsername() != null) {
+            dataSource.setUsername(replica.getUsername());
+        }
+        if (replica.getPassword() != null) {
+            dataSource.setPassword(replica.getPassword());
+        }
+        dataSource.setReadOnly(true);
+        PoolMetrics.bind(dataSource, meterRegistry);
+        return dataSource;
+    }
+}
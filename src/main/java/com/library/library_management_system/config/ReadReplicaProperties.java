@@ -0,0 +1,61 @@
+package com.library.library_management_system.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica routing configuration properties
+ */
+@Configuration
+@ConfigurationProperties(prefix = "library.datasource.read-replicas")
+@Data
+@Validated
+public class ReadReplicaProperties {
+
+    // Route read-only transactions to the replicas below
+    private boolean enabled = false;
+
+    @Valid
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Replicas lagging further behind than this are skipped until they catch up
+    @NotNull(message = "Max replica lag is required")
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    // Disable for replicas that cannot report lag (e.g. embedded test databases)
+    private boolean lagCheckEnabled = true;
+
+    @NotNull(message = "Lag check interval is required")
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    // Query and column reporting replication delay in seconds (MySQL 8.0.22+)
+    @NotBlank(message = "Lag query is required")
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    @NotBlank(message = "Lag column is required")
+    private String lagColumn = "Seconds_Behind_Source";
+
+    // After a user commits a write, their reads stay on the primary for this long. Tracked in
+    // memory per node and per username, so it only holds while a user's requests stay on one node
+    @NotNull(message = "Read-your-writes window is required")
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Data
+    public static class Replica {
+
+        @NotBlank(message = "Replica URL is required")
+        private String url;
+
+        private String username;
+        private String password;
+    }
+}
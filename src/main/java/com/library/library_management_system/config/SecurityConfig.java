@@ -5,6 +5,7 @@ import com.library.library_management_system.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -19,11 +20,14 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Security configuration for JWT-based authentication and authorization
@@ -37,6 +41,7 @@ public class SecurityConfig {
     private final UserDetailsService customUserDetailsService;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final Environment environment;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -72,13 +77,17 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-resources/**", "/webjars/**").permitAll()
 
                         // GraphQL endpoints
-                        .requestMatchers("/graphql", "/graphiql/**").permitAll()
+                        .requestMatchers("/graphql", "/graphql-ws", "/graphiql/**").permitAll()
 
                         // Health check endpoints
                         .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+                        // Scraped by Prometheus without a JWT, but only on the management port
+                        .requestMatchers(onManagementPort("/actuator/prometheus")).permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // Book endpoints - Members can read, Admins can write
                         .requestMatchers(HttpMethod.GET, "/api/books/**").hasAnyRole("MEMBER", "ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/books/search").hasAnyRole("MEMBER", "ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/books/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/books/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/books/**").hasRole("ADMIN")
@@ -111,6 +120,16 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Matches the path only on the separate actuator port (management.server.port). Without one
+     * the management port is not published and the path falls through to the ADMIN rule.
+     */
+    private RequestMatcher onManagementPort(String path) {
+        RequestMatcher pathMatcher = AntPathRequestMatcher.antMatcher(path);
+        return request -> pathMatcher.matches(request)
+                && Objects.equals(request.getLocalPort(), environment.getProperty("local.management.port", Integer.class));
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
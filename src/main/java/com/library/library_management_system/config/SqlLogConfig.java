@@ -0,0 +1,34 @@
+package com.library.library_management_system.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Slow and sampled SQL logging configuration properties
+ */
+@Configuration
+@ConfigurationProperties(prefix = "library.sql-log")
+@Data
+@Validated
+public class SqlLogConfig {
+
+    // Logs statements through the JDBC proxy instead of Hibernate's per-statement DEBUG output
+    private boolean enabled = true;
+
+    // Statements taking at least this long are logged at WARN
+    private Duration slowThreshold = Duration.ofMillis(200);
+
+    // Fraction of the remaining statements logged at INFO (0 disables sampling)
+    @DecimalMin(value = "0.0", message = "Sample rate must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "Sample rate must be between 0 and 1")
+    private double sampleRate = 0.0;
+
+    // Longer statements are truncated in the log line
+    private int maxSqlLength = 1000;
+}
@@ -0,0 +1,31 @@
+package com.library.library_management_system.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Per-request SQL statement budget configuration properties
+ */
+@Configuration
+@ConfigurationProperties(prefix = "library.sql-budget")
+@Data
+@Validated
+public class StatementBudgetConfig {
+
+    // Counts statements, rows and time of every HTTP/GraphQL request through a JDBC proxy
+    private boolean enabled = true;
+
+    // Budget of endpoints that do not declare one with @StatementBudget
+    @Min(value = 1, message = "Default budget must be at least 1")
+    private int defaultBudget = 50;
+
+    // The same query shape run this many times in one request is reported as N+1
+    @Min(value = 2, message = "Repeated query threshold must be at least 2")
+    private int repeatedQueryThreshold = 5;
+
+    // Throw instead of logging when a request exceeds its budget (tests)
+    private boolean failOnViolation = false;
+}
@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 import org.springframework.validation.beanvalidation.MethodValidationPostProcessor;
@@ -52,6 +53,9 @@ public class ValidationConfig {
     public MethodValidationPostProcessor methodValidationPostProcessor() {
         MethodValidationPostProcessor processor = new MethodValidationPostProcessor();
         processor.setValidator(validator());
+        // Class-based proxies, as Spring Boot's own processor uses: validated @Configuration properties
+        // classes are injected by class, and AOT-generated bean definitions do not mark them to keep it
+        processor.setProxyTargetClass(true);
 
         log.info("Configured method validation post processor");
         return processor;
@@ -61,6 +65,7 @@ public class ValidationConfig {
      * Primary validator bean
      */
     @Bean
+    @Primary
     public Validator validatorBean() {
         return validator();
     }
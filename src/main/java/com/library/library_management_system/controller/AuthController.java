@@ -1,5 +1,7 @@
 package com.library.library_management_system.controller;
 
+import com.library.library_management_system.concurrency.ConcurrencyLimited;
+import com.library.library_management_system.concurrency.EndpointClass;
 import com.library.library_management_system.dto.request.ChangePasswordRequest;
 import com.library.library_management_system.dto.request.LoginRequest;
 import com.library.library_management_system.dto.request.RegisterRequest;
@@ -29,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "Authentication", description = "Authentication and user management endpoints")
+@ConcurrencyLimited(EndpointClass.AUTH)
 public class AuthController {
 
     private final AuthService authService;
@@ -78,7 +81,7 @@ public class AuthController {
             @Valid @RequestBody LoginRequest request,
             HttpServletRequest httpRequest) {
 
-        log.info("Login attempt for identifier: {} from IP: {}",
+        log.debug("Login attempt for identifier: {} from IP: {}",
                 request.getIdentifier(),
                 getClientIpAddress(httpRequest));
 
@@ -123,7 +126,7 @@ public class AuthController {
             @Parameter(description = "Authorization header with Bearer token")
             @RequestHeader("Authorization") String authHeader) {
 
-        log.info("User logout request");
+        log.debug("User logout request");
 
         String token = authHeader.substring(7); // Remove "Bearer " prefix
         authService.logout(token);
@@ -1,29 +1,43 @@
 package com.library.library_management_system.controller;
 
+import com.library.library_management_system.concurrency.ConcurrencyLimited;
+import com.library.library_management_system.concurrency.EndpointClass;
+import com.library.library_management_system.config.JsonProperties;
 import com.library.library_management_system.dto.request.BookRequest;
 import com.library.library_management_system.dto.request.BookSearchRequest;
 import com.library.library_management_system.dto.request.BookUpdateRequest;
 import com.library.library_management_system.dto.response.ApiResponse;
+import com.library.library_management_system.dto.response.BookImportResponse;
 import com.library.library_management_system.dto.response.BookResponse;
 import com.library.library_management_system.dto.response.PagedResponse;
 import com.library.library_management_system.enums.BookStatus;
 import com.library.library_management_system.enums.Genre;
+import com.library.library_management_system.json.ApiResponseStreamWriter;
+import com.library.library_management_system.metrics.StatementBudget;
+import com.library.library_management_system.repository.projection.BookAvailabilityStats;
+import com.library.library_management_system.repository.projection.GenreBorrowStats;
+import com.library.library_management_system.service.BookImportService;
 import com.library.library_management_system.service.BookService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -36,9 +50,13 @@ import java.util.List;
 @Slf4j
 @Tag(name = "Book Management", description = "Book management and catalog endpoints")
 @SecurityRequirement(name = "Bearer Authentication")
+@ConcurrencyLimited(EndpointClass.CATALOGUE)
 public class BookController {
 
     private final BookService bookService;
+    private final BookImportService bookImportService;
+    private final ApiResponseStreamWriter responseStreamWriter;
+    private final JsonProperties jsonProperties;
 
     // ============= Book CRUD Operations =============
 
@@ -69,6 +87,30 @@ public class BookController {
                 .body(ApiResponse.success(book, "Book added successfully"));
     }
 
+    @Operation(summary = "Import books", description = "Bulk import books from a CSV file with a header row (Admin only)")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Import processed; rejected rows are listed in the report",
+                    content = @Content(schema = @Schema(implementation = BookImportResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Unreadable file or missing required columns")
+    })
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BookImportResponse>> importBooks(
+            @Parameter(description = "CSV file (title, author, isbn, genre, totalCopies, ...)", required = true)
+            @RequestParam("file") MultipartFile file) throws IOException {
+
+        log.info("Book import request: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+
+        BookImportResponse result = bookImportService.importBooks(file.getInputStream());
+
+        return ResponseEntity.ok(ApiResponse.success(result,
+                String.format("Imported %d of %d rows", result.getCreated() + result.getUpdated(), result.getTotalRows())));
+    }
+
     @Operation(summary = "Get all books", description = "Get all books with pagination")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -78,6 +120,7 @@ public class BookController {
     })
     @GetMapping
     @PreAuthorize("hasRole('MEMBER') or hasRole('ADMIN')")
+    @StatementBudget(3)
     public ResponseEntity<ApiResponse<PagedResponse<BookResponse>>> getAllBooks(
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
@@ -104,6 +147,7 @@ public class BookController {
     })
     @PostMapping("/search")
     @PreAuthorize("hasRole('MEMBER') or hasRole('ADMIN')")
+    @StatementBudget(3)
     public ResponseEntity<ApiResponse<PagedResponse<BookResponse>>> searchBooks(
             @Parameter(description = "Search criteria", required = true)
             @Valid @RequestBody BookSearchRequest request) {
@@ -127,6 +171,7 @@ public class BookController {
     })
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('MEMBER') or hasRole('ADMIN')")
+    @StatementBudget(2)
     public ResponseEntity<ApiResponse<BookResponse>> getBookById(
             @Parameter(description = "Book ID", required = true)
             @PathVariable Long id) {
@@ -233,18 +278,25 @@ public class BookController {
 
     // ============= Book Catalog and Search =============
 
-    @Operation(summary = "Get books by genre", description = "Get all books of a specific genre")
+    @Operation(summary = "Get books by genre", description = "Get all books of a specific genre, optionally only selected fields")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "ApiResponse whose data is the list of books",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BookResponse.class))))
     @GetMapping("/genre/{genre}")
     @PreAuthorize("hasRole('MEMBER') or hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<BookResponse>>> getBooksByGenre(
+    public void getBooksByGenre(
             @Parameter(description = "Book genre", required = true)
-            @PathVariable Genre genre) {
+            @PathVariable Genre genre,
+            @Parameter(description = "Comma-separated book fields to include, e.g. id,title,availableCopies")
+            @RequestParam(required = false) String fields,
+            HttpServletResponse response) throws IOException {
 
         log.debug("Get books by genre: {}", genre);
 
-        List<BookResponse> books = bookService.getBooksByGenre(genre);
-
-        return ResponseEntity.ok(ApiResponse.success(books));
+        responseStreamWriter.writeList(response, BookResponse.class, fields, jsonProperties.isStreamingLists()
+                ? action -> bookService.streamBooksByGenre(genre, action)
+                : action -> bookService.getBooksByGenre(genre).forEach(action));
     }
 
     @Operation(summary = "Get books by author", description = "Get books by author with pagination")
@@ -265,16 +317,23 @@ public class BookController {
         return ResponseEntity.ok(ApiResponse.success(books));
     }
 
-    @Operation(summary = "Get available books", description = "Get all currently available books")
+    @Operation(summary = "Get available books", description = "Get all currently available books, optionally only selected fields")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "ApiResponse whose data is the list of books",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BookResponse.class))))
     @GetMapping("/available")
     @PreAuthorize("hasRole('MEMBER') or hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<BookResponse>>> getAvailableBooks() {
+    public void getAvailableBooks(
+            @Parameter(description = "Comma-separated book fields to include, e.g. id,title,availableCopies")
+            @RequestParam(required = false) String fields,
+            HttpServletResponse response) throws IOException {
 
         log.debug("Get available books request");
 
-        List<BookResponse> books = bookService.getAvailableBooks();
-
-        return ResponseEntity.ok(ApiResponse.success(books));
+        responseStreamWriter.writeList(response, BookResponse.class, fields, jsonProperties.isStreamingLists()
+                ? bookService::streamAvailableBooks
+                : action -> bookService.getAvailableBooks().forEach(action));
     }
 
     @Operation(summary = "Get books by status", description = "Get books filtered by status (Admin only)")
@@ -366,6 +425,7 @@ public class BookController {
     @Operation(summary = "Check book availability", description = "Check if book is available for borrowing")
     @GetMapping("/{id}/availability")
     @PreAuthorize("hasRole('MEMBER') or hasRole('ADMIN')")
+    @StatementBudget(2)
     public ResponseEntity<ApiResponse<Boolean>> checkBookAvailability(
             @Parameter(description = "Book ID", required = true)
             @PathVariable Long id) {
@@ -402,11 +462,11 @@ public class BookController {
     @Operation(summary = "Get book availability statistics", description = "Get overall book availability statistics (Admin only)")
     @GetMapping("/stats/availability")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<Object[]>> getBookAvailabilityStats() {
+    public ResponseEntity<ApiResponse<BookAvailabilityStats>> getBookAvailabilityStats() {
 
         log.debug("Get book availability statistics request");
 
-        Object[] stats = bookService.getBookAvailabilityStats();
+        BookAvailabilityStats stats = bookService.getBookAvailabilityStats();
 
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
@@ -414,11 +474,11 @@ public class BookController {
     @Operation(summary = "Get popular genre statistics", description = "Get borrowing statistics by genre")
     @GetMapping("/stats/popular-genres")
     @PreAuthorize("hasRole('MEMBER') or hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<Object[]>>> getPopularGenreStats() {
+    public ResponseEntity<ApiResponse<List<GenreBorrowStats>>> getPopularGenreStats() {
 
         log.debug("Get popular genre statistics request");
 
-        List<Object[]> stats = bookService.getPopularGenreStats();
+        List<GenreBorrowStats> stats = bookService.getPopularGenreStats();
 
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
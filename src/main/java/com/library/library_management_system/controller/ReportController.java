@@ -1,9 +1,16 @@
 package com.library.library_management_system.controller;
 
+import com.library.library_management_system.concurrency.ConcurrencyLimited;
+import com.library.library_management_system.concurrency.EndpointClass;
 import com.library.library_management_system.dto.request.ReportRequest;
 import com.library.library_management_system.dto.response.ApiResponse;
 import com.library.library_management_system.dto.response.DashboardStatsResponse;
 import com.library.library_management_system.dto.response.ReportResponse;
+import com.library.library_management_system.metrics.StatementBudget;
+import com.library.library_management_system.repository.projection.GenreBookStats;
+import com.library.library_management_system.repository.projection.LibraryMetric;
+import com.library.library_management_system.repository.projection.MemberActivityStats;
+import com.library.library_management_system.repository.projection.MonthlyBorrowingTrend;
 import com.library.library_management_system.service.ReportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -34,6 +41,7 @@ import java.util.List;
 @Slf4j
 @Tag(name = "Reports & Analytics", description = "Library reports, analytics and dashboard endpoints")
 @SecurityRequirement(name = "Bearer Authentication")
+@ConcurrencyLimited(EndpointClass.REPORTS)
 public class ReportController {
 
     private final ReportService reportService;
@@ -49,6 +57,7 @@ public class ReportController {
     })
     @GetMapping("/dashboard")
     @PreAuthorize("hasRole('ADMIN')")
+    @StatementBudget(15)
     public ResponseEntity<ApiResponse<DashboardStatsResponse>> getDashboardStats() {
 
         log.debug("Get dashboard statistics request");
@@ -236,11 +245,11 @@ public class ReportController {
     @Operation(summary = "Get library statistics", description = "Get raw library statistics data")
     @GetMapping("/stats/library")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<Object[]>>> getLibraryStatistics() {
+    public ResponseEntity<ApiResponse<List<LibraryMetric>>> getLibraryStatistics() {
 
         log.debug("Get library statistics request");
 
-        List<Object[]> stats = reportService.getLibraryStatistics();
+        List<LibraryMetric> stats = reportService.getLibraryStatistics();
 
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
@@ -248,7 +257,7 @@ public class ReportController {
     @Operation(summary = "Get book circulation statistics", description = "Get book circulation statistics for specified period")
     @GetMapping("/stats/circulation")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<Object[]>>> getBookCirculationStats(
+    public ResponseEntity<ApiResponse<List<MonthlyBorrowingTrend>>> getBookCirculationStats(
             @Parameter(description = "Start date (YYYY-MM-DD)")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @Parameter(description = "End date (YYYY-MM-DD)")
@@ -256,7 +265,7 @@ public class ReportController {
 
         log.debug("Get book circulation stats from {} to {}", startDate, endDate);
 
-        List<Object[]> stats = reportService.getBookCirculationStats(startDate, endDate);
+        List<MonthlyBorrowingTrend> stats = reportService.getBookCirculationStats(startDate, endDate);
 
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
@@ -264,7 +273,7 @@ public class ReportController {
     @Operation(summary = "Get user engagement metrics", description = "Get user engagement metrics for specified period")
     @GetMapping("/stats/user-engagement")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<Object[]>>> getUserEngagementMetrics(
+    public ResponseEntity<ApiResponse<List<MemberActivityStats>>> getUserEngagementMetrics(
             @Parameter(description = "Start date (YYYY-MM-DD)")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @Parameter(description = "End date (YYYY-MM-DD)")
@@ -272,7 +281,7 @@ public class ReportController {
 
         log.debug("Get user engagement metrics from {} to {}", startDate, endDate);
 
-        List<Object[]> metrics = reportService.getUserEngagementMetrics(startDate, endDate);
+        List<MemberActivityStats> metrics = reportService.getUserEngagementMetrics(startDate, endDate);
 
         return ResponseEntity.ok(ApiResponse.success(metrics));
     }
@@ -280,7 +289,7 @@ public class ReportController {
     @Operation(summary = "Get popular books by genre", description = "Get popular books filtered by genre")
     @GetMapping("/stats/popular-books-by-genre")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MEMBER')")
-    public ResponseEntity<ApiResponse<List<Object[]>>> getPopularBooksByGenre(
+    public ResponseEntity<ApiResponse<List<GenreBookStats>>> getPopularBooksByGenre(
             @Parameter(description = "Genre filter", required = true)
             @RequestParam String genre,
             @Parameter(description = "Number of books to return")
@@ -288,7 +297,7 @@ public class ReportController {
 
         log.debug("Get popular books by genre: {} (limit: {})", genre, limit);
 
-        List<Object[]> books = reportService.getPopularBooksByGenre(genre, limit);
+        List<GenreBookStats> books = reportService.getPopularBooksByGenre(genre, limit);
 
         return ResponseEntity.ok(ApiResponse.success(books));
     }
@@ -0,0 +1,47 @@
+package com.library.library_management_system.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Metrics for pools that are not beans and therefore not picked up by Spring Boot.
+ *
+ * Hikari's own tracker publishes hikaricp.connections.* (active, idle, pending, acquire
+ * time, timeouts) tagged by pool; on top of that a saturation gauge (active / max) shows
+ * how close each pool is to making callers wait.
+ */
+@UtilityClass
+public class PoolMetrics {
+
+    public static final String SATURATION_GAUGE = "library.datasource.pool.saturation";
+
+    /**
+     * Must be called before the pool hands out its first connection
+     */
+    public static void bind(HikariDataSource dataSource, MeterRegistry meterRegistry) {
+        if (dataSource.getMetricRegistry() == null && dataSource.getMetricsTrackerFactory() == null) {
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        bindSaturation(dataSource, meterRegistry);
+    }
+
+    public static void bindSaturation(HikariDataSource dataSource, MeterRegistry meterRegistry) {
+        Gauge.builder(SATURATION_GAUGE, dataSource, PoolMetrics::saturation)
+                .description("Share of the pool's maximum connections currently in use")
+                .tag("pool", dataSource.getPoolName())
+                .register(meterRegistry);
+    }
+
+    private static double saturation(HikariDataSource dataSource) {
+        // The MX bean only exists once the pool has started
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null || dataSource.getMaximumPoolSize() <= 0) {
+            return 0;
+        }
+        return (double) pool.getActiveConnections() / dataSource.getMaximumPoolSize();
+    }
+}
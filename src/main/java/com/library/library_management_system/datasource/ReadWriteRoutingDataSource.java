@@ -0,0 +1,133 @@
+package com.library.library_management_system.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes read-only transactions to a healthy replica (round robin) and everything else
+ * to the primary. Reads fall back to the primary when no replica is in rotation or when
+ * the current user wrote recently (read-your-writes).
+ *
+ * Replica rows may lag the primary, so a transaction routed to a replica reads the
+ * second-level cache but never puts into it (CacheMode.GET); otherwise a stale row would
+ * be served to every node until its TTL expires. Read-your-writes is tracked in memory on
+ * each node and keyed by username: a write served by another node, or made under another
+ * account, does not pin this node's reads to the primary.
+ *
+ * Must be wrapped in a LazyConnectionDataSourceProxy: the read-only flag is only set
+ * after the transaction manager has asked for a connection.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      Map<String, DataSource> replicas,
+                                      ReplicaLagMonitor lagMonitor,
+                                      ReadYourWritesTracker readYourWritesTracker) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        this.replicas = replicas;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Replica pools are owned by this router; the primary is a bean in its own right
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteTracking();
+            return PRIMARY;
+        }
+
+        if (readYourWritesTracker.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+
+        List<String> healthyReplicas = lagMonitor.getHealthyReplicas();
+        if (healthyReplicas.isEmpty()) {
+            return PRIMARY;
+        }
+
+        int index = Math.floorMod(nextReplica.getAndIncrement(), healthyReplicas.size());
+        skipSecondLevelCachePuts();
+        return healthyReplicas.get(index);
+    }
+
+    /**
+     * Stops the transaction's Hibernate session from caching what it reads from the replica.
+     * Routing happens on the first statement, before its results are loaded, so the switch
+     * already covers that statement. The previous mode is restored on completion because an
+     * open-in-view session outlives the transaction.
+     */
+    private static void skipSecondLevelCachePuts() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (!(resource instanceof EntityManagerHolder holder)) {
+                continue;
+            }
+            Session session = holder.getEntityManager().unwrap(Session.class);
+            CacheMode previous = session.getCacheMode();
+            if (!previous.isPutEnabled()) {
+                continue;
+            }
+
+            session.setCacheMode(previous.isGetEnabled() ? CacheMode.GET : CacheMode.IGNORE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (session.isOpen()) {
+                        session.setCacheMode(previous);
+                    }
+                }
+            });
+        }
+    }
+
+    private void registerWriteTracking() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWritesTracker.recordWrite();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.library.library_management_system.datasource;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers when each user last committed a write, so their reads can be pinned to the
+ * primary until replicas have had time to apply it. Anonymous callers are never pinned.
+ */
+public class ReadYourWritesTracker {
+
+    private final Duration window;
+    private final Clock clock;
+    private final Map<String, Long> lastWriteMillis = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    public ReadYourWritesTracker(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    public void recordWrite() {
+        String user = currentUser();
+        if (user != null) {
+            lastWriteMillis.put(user, clock.millis());
+        }
+    }
+
+    public boolean isPinnedToPrimary() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+
+        Long lastWrite = lastWriteMillis.get(user);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (clock.millis() - lastWrite < window.toMillis()) {
+            return true;
+        }
+
+        lastWriteMillis.remove(user, lastWrite);
+        return false;
+    }
+
+    /**
+     * Drop entries whose window has passed; users who never read again would otherwise linger
+     */
+    public void evictExpired() {
+        long cutoff = clock.millis() - window.toMillis();
+        lastWriteMillis.values().removeIf(lastWrite -> lastWrite <= cutoff);
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,94 @@
+package com.library.library_management_system.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks replication lag of each replica. A replica is usable for reads only while its
+ * last probe succeeded and reported a lag within the configured maximum; a stopped
+ * replication thread (NULL lag) or a failing probe takes it out of rotation.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final Map<String, DataSource> replicas;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final Map<String, Long> lagSeconds = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> healthy = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, Duration maxLag, String lagQuery, String lagColumn) {
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        replicas.keySet().forEach(name -> healthy.put(name, true));
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    public void checkReplicas() {
+        replicas.forEach(this::checkReplica);
+    }
+
+    public boolean isHealthy(String replica) {
+        return healthy.getOrDefault(replica, false);
+    }
+
+    public List<String> getHealthyReplicas() {
+        return replicas.keySet().stream().filter(this::isHealthy).toList();
+    }
+
+    /**
+     * Last observed lag in seconds, or -1 when unknown
+     */
+    public long getLagSeconds(String replica) {
+        return lagSeconds.getOrDefault(replica, -1L);
+    }
+
+    public void markHealthy(String replica, boolean isHealthy) {
+        boolean previous = Boolean.TRUE.equals(healthy.put(replica, isHealthy));
+        if (previous != isHealthy) {
+            log.warn("Replica {} is now {}", replica, isHealthy ? "in rotation" : "out of rotation, reads fall back to primary");
+        }
+    }
+
+    private void checkReplica(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+
+            if (!resultSet.next()) {
+                // Not configured as a replica at all
+                lagSeconds.remove(name);
+                markHealthy(name, false);
+                return;
+            }
+
+            long lag = resultSet.getLong(lagColumn);
+            if (resultSet.wasNull()) {
+                lagSeconds.remove(name);
+                markHealthy(name, false);
+                return;
+            }
+
+            lagSeconds.put(name, lag);
+            markHealthy(name, lag <= maxLag.toSeconds());
+        } catch (Exception e) {
+            log.debug("Lag probe failed for replica {}", name, e);
+            lagSeconds.remove(name);
+            markHealthy(name, false);
+        }
+    }
+}
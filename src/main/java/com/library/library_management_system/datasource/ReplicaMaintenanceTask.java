@@ -0,0 +1,23 @@
+package com.library.library_management_system.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically probes replica lag and forgets expired read-your-writes pins
+ */
+@RequiredArgsConstructor
+public class ReplicaMaintenanceTask {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final boolean lagCheckEnabled;
+
+    @Scheduled(fixedDelayString = "#{@readReplicaProperties.lagCheckInterval.toMillis()}")
+    public void run() {
+        if (lagCheckEnabled) {
+            lagMonitor.checkReplicas();
+        }
+        readYourWritesTracker.evictExpired();
+    }
+}
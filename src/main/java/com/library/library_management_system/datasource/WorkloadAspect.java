@@ -0,0 +1,50 @@
+package com.library.library_management_system.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * Applies {@link Workload} before the transaction interceptor asks for a connection
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadAspect {
+
+    @Around("@annotation(com.library.library_management_system.datasource.Workload) || "
+            + "@within(com.library.library_management_system.datasource.Workload)")
+    public Object withWorkload(ProceedingJoinPoint joinPoint) throws Throwable {
+        Workload workload = findWorkload(joinPoint);
+        if (workload == null) {
+            return joinPoint.proceed();
+        }
+
+        WorkloadType previous = WorkloadContext.set(workload.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    private Workload findWorkload(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = joinPoint.getTarget() != null
+                ? AopUtils.getTargetClass(joinPoint.getTarget())
+                : method.getDeclaringClass();
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+
+        // Method-level annotations override the class-level one
+        Workload workload = AnnotatedElementUtils.findMergedAnnotation(specificMethod, Workload.class);
+        return workload != null ? workload : AnnotatedElementUtils.findMergedAnnotation(targetClass, Workload.class);
+    }
+}
@@ -0,0 +1,34 @@
+package com.library.library_management_system.datasource;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Holds the workload of the current thread; unset means OLTP
+ */
+@UtilityClass
+public class WorkloadContext {
+
+    private static final ThreadLocal<WorkloadType> CURRENT = new ThreadLocal<>();
+
+    public static WorkloadType current() {
+        WorkloadType workload = CURRENT.get();
+        return workload != null ? workload : WorkloadType.OLTP;
+    }
+
+    /**
+     * Sets the workload and returns the previous one so callers can restore it
+     */
+    public static WorkloadType set(WorkloadType workload) {
+        WorkloadType previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    public static void restore(WorkloadType previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
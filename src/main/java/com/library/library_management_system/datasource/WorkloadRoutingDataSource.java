@@ -0,0 +1,43 @@
+package com.library.library_management_system.datasource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Routes connections to the pool of the current {@link WorkloadType}. OLTP is the default
+ * target, so workloads without a dedicated pool share it.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private final Map<WorkloadType, DataSource> dedicatedPools;
+
+    public WorkloadRoutingDataSource(DataSource oltp, Map<WorkloadType, DataSource> dedicatedPools) {
+        this.dedicatedPools = dedicatedPools;
+
+        Map<Object, Object> targets = new HashMap<>(dedicatedPools);
+        targets.put(WorkloadType.OLTP, oltp);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(oltp);
+    }
+
+    /**
+     * Reporting and batch pools are owned by this router; the OLTP target is a bean
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource pool : dedicatedPools.values()) {
+            if (pool instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+}
@@ -0,0 +1,16 @@
+package com.library.library_management_system.datasource;
+
+/**
+ * Connection pool a unit of work draws from
+ */
+public enum WorkloadType {
+
+    // Short interactive requests: borrow, return, lookups
+    OLTP,
+
+    // Long-running aggregate queries behind reports and dashboards
+    REPORTING,
+
+    // Scheduled jobs and bulk imports
+    BATCH
+}
@@ -13,7 +13,7 @@ public class BookMapper {
         return Book.builder()
                 .title(request.getTitle())
                 .author(request.getAuthor())
-                .isbn(request.getIsbn())
+                .isbn(Book.normalizeIsbn(request.getIsbn()))
                 .description(request.getDescription())
                 .genre(request.getGenre())
                 .publicationDate(request.getPublicationDate())
@@ -2,11 +2,19 @@ package com.library.library_management_system.dto.mapper;
 
 import com.library.library_management_system.dto.response.BorrowingHistoryResponse;
 import com.library.library_management_system.entity.BorrowingRecord;
+import com.library.library_management_system.enums.BorrowStatus;
+import com.library.library_management_system.repository.projection.BorrowingHistoryView;
 import lombok.experimental.UtilityClass;
 
+import java.time.LocalDate;
+
 @UtilityClass
 public class BorrowingMapper {
 
+    /**
+     * Reads the record's book and user, so callers load it with both fetched
+     * (BorrowingRecord.WITH_BOOK_AND_USER) or listings turn into one query per row
+     */
     public static BorrowingHistoryResponse toResponse(BorrowingRecord record) {
         return BorrowingHistoryResponse.builder()
                 .id(record.getId())
@@ -44,6 +52,52 @@ public class BorrowingMapper {
                 .build();
     }
 
+    /**
+     * Same response as {@link #toResponse(BorrowingRecord)}, with the calculated fields
+     * derived the way BorrowingRecord derives them
+     */
+    public static BorrowingHistoryResponse toResponse(BorrowingHistoryView view) {
+        LocalDate today = LocalDate.now();
+        boolean overdue = view.getStatus() != BorrowStatus.RETURNED && today.isAfter(view.getDueDate());
+        LocalDate endDate = view.getReturnDate() != null ? view.getReturnDate() : today;
+
+        return BorrowingHistoryResponse.builder()
+                .id(view.getId())
+                .borrowDate(view.getBorrowDate())
+                .dueDate(view.getDueDate())
+                .returnDate(view.getReturnDate())
+                .status(view.getStatus())
+                .fineAmount(view.getFineAmount())
+                .renewalCount(view.getRenewalCount())
+                .maxRenewalsAllowed(view.getMaxRenewalsAllowed())
+                .notes(view.getNotes())
+                .issuedBy(view.getIssuedBy())
+                .returnedTo(view.getReturnedTo())
+
+                // Book details
+                .bookId(view.getBookId())
+                .bookTitle(view.getBookTitle())
+                .bookAuthor(view.getBookAuthor())
+                .bookIsbn(view.getBookIsbn())
+
+                // User details
+                .userId(view.getUserId())
+                .username(view.getUsername())
+                .userFullName(view.getUserFullName())
+
+                // Calculated fields
+                .daysOverdue(overdue ? today.toEpochDay() - view.getDueDate().toEpochDay() : 0L)
+                .borrowingDuration(endDate.toEpochDay() - view.getBorrowDate().toEpochDay())
+                .canRenew(view.getRenewalCount() < view.getMaxRenewalsAllowed()
+                        && view.getStatus() == BorrowStatus.BORROWED && !overdue)
+                .isOverdue(overdue)
+
+                // Audit fields
+                .createdAt(view.getCreatedAt())
+                .updatedAt(view.getUpdatedAt())
+                .build();
+    }
+
     public static BorrowingHistoryResponse toUserResponse(BorrowingRecord record) {
         BorrowingHistoryResponse response = toResponse(record);
         // Remove user details for user's own borrowing history
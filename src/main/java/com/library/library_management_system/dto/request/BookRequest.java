@@ -1,5 +1,6 @@
 package com.library.library_management_system.dto.request;
 
+import com.library.library_management_system.entity.Book;
 import com.library.library_management_system.enums.Genre;
 import jakarta.validation.constraints.*;
 import lombok.*;
@@ -21,7 +22,7 @@ public class BookRequest {
     private String author;
 
     @NotBlank(message = "ISBN is required")
-    @Pattern(regexp = "^(?:ISBN(?:-1[03])?:? )?(?=[0-9X]{10}$|(?=(?:[0-9]+[- ]){3})[- 0-9X]{13}$|97[89][0-9]{10}$|(?=(?:[0-9]+[- ]){4})[- 0-9]{17}$)(?:97[89][- ]?)?[0-9]{1,5}[- ]?[0-9]+[- ]?[0-9]+[- ]?[0-9X]$",
+    @Pattern(regexp = Book.ISBN_REGEX,
             message = "Invalid ISBN format")
     private String isbn;
 
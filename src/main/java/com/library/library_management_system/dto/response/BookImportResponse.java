@@ -0,0 +1,32 @@
+package com.library.library_management_system.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookImportResponse {
+
+    private Integer totalRows;
+    private Integer created;
+    private Integer updated;
+    private Integer failed;
+    private Long durationMs;
+    private Double rowsPerSecond;
+
+    private List<RowError> errors;
+    private Boolean errorsTruncated;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private Integer row;
+        private String isbn;
+        private String message;
+    }
+}
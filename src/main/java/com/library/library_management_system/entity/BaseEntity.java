@@ -18,8 +18,12 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
 
+    // Per-table generator (users_seq, books_seq, borrowing_records_seq), emulated with a table
+    // on MySQL and handed out in blocks of 50 so inserts can be batched (IDENTITY disables JDBC
+    // insert batching). Flyway keeps each generator past MAX(id) after every migrate
+    // (afterMigrate__seed_id_generators.sql)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @CreatedDate
@@ -8,9 +8,16 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 /**
@@ -25,7 +32,8 @@ import java.util.Set;
                 @Index(name = "idx_book_title", columnList = "title"),
                 @Index(name = "idx_book_author", columnList = "author"),
                 @Index(name = "idx_book_genre", columnList = "genre"),
-                @Index(name = "idx_book_status", columnList = "status")
+                @Index(name = "idx_book_status", columnList = "status"),
+                @Index(name = "idx_book_active_genre_title", columnList = "is_active, genre, title")
         })
 @Getter
 @Setter
@@ -34,8 +42,16 @@ import java.util.Set;
 @Builder
 @ToString(exclude = {"borrowingRecords"})
 @EqualsAndHashCode(callSuper = true, exclude = {"borrowingRecords"})
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
+@BatchSize(size = 50)
 public class Book extends BaseEntity {
 
+    // ISBN-10 / ISBN-13 with optional "ISBN" prefix and hyphen/space separators
+    public static final String ISBN_REGEX = "^(?:ISBN(?:-1[03])?:? )?(?=[0-9X]{10}$|(?=(?:[0-9]+[- ]){3})[- 0-9X]{13}$|97[89][0-9]{10}$|(?=(?:[0-9]+[- ]){4})[- 0-9]{17}$)(?:97[89][- ]?)?[0-9]{1,5}[- ]?[0-9]+[- ]?[0-9]+[- ]?[0-9X]$";
+
     @NotBlank
     @Column(name = "title", nullable = false, length = 200)
     private String title;
@@ -45,8 +61,9 @@ public class Book extends BaseEntity {
     private String author;
 
     @NotBlank
-    @Pattern(regexp = "^(?:ISBN(?:-1[03])?:? )?(?=[0-9X]{10}$|(?=(?:[0-9]+[- ]){3})[- 0-9X]{13}$|97[89][0-9]{10}$|(?=(?:[0-9]+[- ]){4})[- 0-9]{17}$)(?:97[89][- ]?)?[0-9]{1,5}[- ]?[0-9]+[- ]?[0-9]+[- ]?[0-9X]$",
+    @Pattern(regexp = ISBN_REGEX,
             message = "Invalid ISBN format")
+    @NaturalId
     @Column(name = "isbn", nullable = false, unique = true, length = 20)
     private String isbn;
 
@@ -151,6 +168,18 @@ public class Book extends BaseEntity {
         }
     }
 
+    /**
+     * Canonical ISBN every write path stores and every lookup uses: without the "ISBN" prefix,
+     * hyphens and spaces, so 978-0-13-468599-1 and 9780134685991 are the same book
+     */
+    public static String normalizeIsbn(String isbn) {
+        if (isbn == null) {
+            return null;
+        }
+        String digits = isbn.trim().toUpperCase(Locale.ROOT).replaceFirst("^ISBN(?:-1[03])?:? ", "");
+        return digits.replace("-", "").replace(" ", "");
+    }
+
     public Integer getBorrowedCopies() {
         return totalCopies - availableCopies;
     }
@@ -166,6 +195,7 @@ public class Book extends BaseEntity {
     @PrePersist
     protected void onCreate() {
         super.onCreate();
+        isbn = normalizeIsbn(isbn);
         if (status == null) {
             status = BookStatus.AVAILABLE;
         }
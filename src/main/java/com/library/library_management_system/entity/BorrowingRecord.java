@@ -4,6 +4,7 @@ import com.library.library_management_system.enums.BorrowStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 
@@ -13,12 +14,17 @@ import java.time.LocalDate;
 @Entity
 @Table(name = "borrowing_records",
         indexes = {
-                @Index(name = "idx_borrowing_user", columnList = "user_id"),
-                @Index(name = "idx_borrowing_book", columnList = "book_id"),
-                @Index(name = "idx_borrowing_status", columnList = "status"),
+                @Index(name = "idx_borrowing_user_status", columnList = "user_id, status"),
+                @Index(name = "idx_borrowing_status_due_date", columnList = "status, due_date"),
+                @Index(name = "idx_borrowing_book_borrow_date", columnList = "book_id, borrow_date"),
+                @Index(name = "idx_borrowing_status_return_date", columnList = "status, return_date"),
                 @Index(name = "idx_borrowing_borrow_date", columnList = "borrow_date"),
                 @Index(name = "idx_borrowing_due_date", columnList = "due_date")
         })
+@NamedEntityGraph(name = BorrowingRecord.WITH_BOOK_AND_USER, attributeNodes = {
+        @NamedAttributeNode("book"),
+        @NamedAttributeNode("user")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -26,8 +32,12 @@ import java.time.LocalDate;
 @Builder
 @ToString(exclude = {"user", "book"})
 @EqualsAndHashCode(callSuper = true)
+@DynamicUpdate
 public class BorrowingRecord extends BaseEntity {
 
+    // Fetch plan for listings that map each record together with its book and borrower
+    public static final String WITH_BOOK_AND_USER = "BorrowingRecord.withBookAndUser";
+
     @NotNull
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
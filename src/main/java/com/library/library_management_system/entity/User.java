@@ -7,6 +7,11 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDate;
 import java.util.HashSet;
@@ -28,10 +33,15 @@ import java.util.Set;
 @Builder
 @ToString(exclude = {"password", "borrowingRecords"})
 @EqualsAndHashCode(callSuper = true, exclude = {"borrowingRecords"})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
+@BatchSize(size = 50)
 public class User extends BaseEntity {
 
     @NotBlank
     @Size(max = 50)
+    @NaturalId
     @Column(name = "username", nullable = false, unique = true)
     private String username;
 
@@ -0,0 +1,27 @@
+package com.library.library_management_system.event;
+
+import com.library.library_management_system.entity.Book;
+import com.library.library_management_system.enums.BookStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when the number of available copies of a book changes
+ */
+public record BookAvailabilityEvent(Long bookId,
+                                    String title,
+                                    Integer availableCopies,
+                                    Integer totalCopies,
+                                    BookStatus status,
+                                    LocalDateTime occurredAt) {
+
+    public static BookAvailabilityEvent of(Book book) {
+        return new BookAvailabilityEvent(
+                book.getId(),
+                book.getTitle(),
+                book.getAvailableCopies(),
+                book.getTotalCopies(),
+                book.getStatus(),
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,35 @@
+package com.library.library_management_system.event;
+
+import com.library.library_management_system.entity.BorrowingRecord;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Per-user notification for a loan that is about to fall due or is overdue
+ */
+public record DueDateNotification(Type type,
+                                  Long borrowingRecordId,
+                                  Long userId,
+                                  Long bookId,
+                                  String bookTitle,
+                                  LocalDate dueDate,
+                                  Long daysUntilDue) {
+
+    public enum Type {
+        DUE_SOON,
+        OVERDUE
+    }
+
+    public static DueDateNotification of(BorrowingRecord record, LocalDate today) {
+        long daysUntilDue = ChronoUnit.DAYS.between(today, record.getDueDate());
+        return new DueDateNotification(
+                daysUntilDue < 0 ? Type.OVERDUE : Type.DUE_SOON,
+                record.getId(),
+                record.getUser().getId(),
+                record.getBook().getId(),
+                record.getBook().getTitle(),
+                record.getDueDate(),
+                daysUntilDue);
+    }
+}
@@ -0,0 +1,81 @@
+package com.library.library_management_system.event;
+
+import com.library.library_management_system.config.LibraryEventsConfig;
+import com.library.library_management_system.datasource.Workload;
+import com.library.library_management_system.datasource.WorkloadType;
+import com.library.library_management_system.entity.BorrowingRecord;
+import com.library.library_management_system.repository.BorrowingRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Periodically pushes due-soon and overdue notifications to subscribed users.
+ * Only loans of users with an open subscription are loaded. The check runs more often than
+ * the due dates change, so each loan is announced at most once per day; a user who
+ * subscribes after a loan was announced hears about it again the next day.
+ */
+@Component
+@Slf4j
+public class DueDateNotifier {
+
+    private final BorrowingRecordRepository borrowingRecordRepository;
+    private final LibraryEventBus eventBus;
+    private final LibraryEventsConfig eventsConfig;
+    private final Clock clock;
+
+    // Loan id -> day it was last announced; entries from earlier days are dropped on each run
+    private final Map<Long, LocalDate> notifiedOn = new ConcurrentHashMap<>();
+
+    @Autowired
+    public DueDateNotifier(BorrowingRecordRepository borrowingRecordRepository,
+                           LibraryEventBus eventBus,
+                           LibraryEventsConfig eventsConfig) {
+        this(borrowingRecordRepository, eventBus, eventsConfig, Clock.systemDefaultZone());
+    }
+
+    DueDateNotifier(BorrowingRecordRepository borrowingRecordRepository,
+                    LibraryEventBus eventBus,
+                    LibraryEventsConfig eventsConfig,
+                    Clock clock) {
+        this.borrowingRecordRepository = borrowingRecordRepository;
+        this.eventBus = eventBus;
+        this.eventsConfig = eventsConfig;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "#{@libraryEventsConfig.dueDateCheckCron}")
+    @Transactional(readOnly = true)
+    @Workload(WorkloadType.BATCH)
+    public void notifyDueDates() {
+        LocalDate today = LocalDate.now(clock);
+        notifiedOn.values().removeIf(day -> day.isBefore(today));
+
+        Set<Long> subscriberIds = eventBus.getDueDateSubscriberIds();
+        if (subscriberIds.isEmpty()) {
+            return;
+        }
+
+        List<BorrowingRecord> records = borrowingRecordRepository.findOpenLoansDueBy(
+                subscriberIds, today.plusDays(eventsConfig.getDueSoonDays()));
+
+        int sent = 0;
+        for (BorrowingRecord record : records) {
+            if (notifiedOn.putIfAbsent(record.getId(), today) == null) {
+                eventBus.publishDueDateNotification(DueDateNotification.of(record, today));
+                sent++;
+            }
+        }
+        log.debug("Sent {} due date notifications to {} subscribed users ({} already sent today)",
+                sent, subscriberIds.size(), records.size() - sent);
+    }
+}
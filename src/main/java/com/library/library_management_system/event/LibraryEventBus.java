@@ -0,0 +1,99 @@
+package com.library.library_management_system.event;
+
+import com.library.library_management_system.config.LibraryEventsConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process event bus feeding GraphQL subscriptions.
+ *
+ * Publishing never blocks: each subscriber reads through its own bounded buffer and
+ * loses its oldest events when it falls behind, so one slow client cannot stall the
+ * borrow/return paths or other subscribers.
+ */
+@Component
+@Slf4j
+public class LibraryEventBus {
+
+    private static final Sinks.EmitFailureHandler RETRY_ON_CONTENTION =
+            Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(50));
+
+    private final Sinks.Many<BookAvailabilityEvent> availabilitySink =
+            Sinks.many().multicast().directBestEffort();
+    private final Sinks.Many<DueDateNotification> dueDateSink =
+            Sinks.many().multicast().directBestEffort();
+
+    // Users with at least one open due-date subscription, with their subscription count
+    private final ConcurrentHashMap<Long, AtomicInteger> dueDateSubscribers = new ConcurrentHashMap<>();
+
+    private final int bufferSize;
+    private final Counter droppedEvents;
+
+    public LibraryEventBus(LibraryEventsConfig eventsConfig, MeterRegistry meterRegistry) {
+        this.bufferSize = eventsConfig.getSubscriberBufferSize();
+        this.droppedEvents = meterRegistry.counter("library.events.dropped");
+        meterRegistry.gauge("library.events.subscribers", availabilitySink, Sinks.Many::currentSubscriberCount);
+    }
+
+    /**
+     * Broadcast availability changes only once the borrow/return transaction has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookAvailabilityChanged(BookAvailabilityEvent event) {
+        log.debug("Publishing availability change for book ID: {}", event.bookId());
+        availabilitySink.emitNext(event, RETRY_ON_CONTENTION);
+    }
+
+    public void publishDueDateNotification(DueDateNotification notification) {
+        dueDateSink.emitNext(notification, RETRY_ON_CONTENTION);
+    }
+
+    /**
+     * Availability changes for one book, or for all books when bookId is null
+     */
+    public Flux<BookAvailabilityEvent> availabilityChanges(Long bookId) {
+        Flux<BookAvailabilityEvent> events = availabilitySink.asFlux();
+        if (bookId != null) {
+            events = events.filter(event -> bookId.equals(event.bookId()));
+        }
+        return bounded(events);
+    }
+
+    /**
+     * Due-soon and overdue notifications addressed to one user
+     */
+    public Flux<DueDateNotification> dueDateNotifications(Long userId) {
+        Flux<DueDateNotification> events = dueDateSink.asFlux()
+                .filter(notification -> userId.equals(notification.userId()));
+
+        return bounded(events)
+                .doOnSubscribe(subscription ->
+                        dueDateSubscribers.computeIfAbsent(userId, id -> new AtomicInteger()).incrementAndGet())
+                .doFinally(signal -> dueDateSubscribers.computeIfPresent(userId,
+                        (id, count) -> count.decrementAndGet() == 0 ? null : count));
+    }
+
+    /**
+     * Users currently subscribed to due-date notifications
+     */
+    public Set<Long> getDueDateSubscriberIds() {
+        return Set.copyOf(dueDateSubscribers.keySet());
+    }
+
+    private <T> Flux<T> bounded(Flux<T> events) {
+        return events.onBackpressureBuffer(bufferSize, dropped -> droppedEvents.increment(),
+                BufferOverflowStrategy.DROP_OLDEST);
+    }
+}
@@ -2,9 +2,12 @@ package com.library.library_management_system.exception;
 
 import com.library.library_management_system.dto.response.ApiResponse;
 import com.library.library_management_system.dto.response.ValidationErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -38,12 +41,17 @@ import java.util.Set;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    public static final String EXCEPTION_COUNTER = "library.exceptions";
+
+    private final MeterRegistry meterRegistry;
+
     // ============= Custom Business Exceptions =============
 
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ApiResponse<Void>> handleResourceNotFoundException(
             ResourceNotFoundException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Resource not found: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         return ResponseEntity
@@ -61,6 +69,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleBadRequestException(
             BadRequestException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Bad request: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         return ResponseEntity
@@ -78,6 +87,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleUnauthorizedException(
             UnauthorizedException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Unauthorized access: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         return ResponseEntity
@@ -95,6 +105,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleForbiddenException(
             ForbiddenException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Forbidden access: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         return ResponseEntity
@@ -122,6 +133,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleBusinessLogicExceptions(
             LibraryManagementException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Business logic error: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         return ResponseEntity
@@ -139,6 +151,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleDuplicateResourceException(
             DuplicateResourceException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Duplicate resource: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         return ResponseEntity
@@ -156,6 +169,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleUserStateExceptions(
             LibraryManagementException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("User state error: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         return ResponseEntity
@@ -169,12 +183,33 @@ public class GlobalExceptionHandler {
                         .build());
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceOverloadedException(
+            ServiceOverloadedException ex, WebRequest request) {
+
+        countException(ex);
+        // Shedding comes in bursts; library.concurrency.rejected counts every request
+        log.debug("Request shed: {} - Path: {}", ex.getMessage(), request.getDescription(false));
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(ApiResponse.<Void>builder()
+                        .success(false)
+                        .message("Service busy")
+                        .error(ex.getMessage())
+                        .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .timestamp(LocalDateTime.now())
+                        .build());
+    }
+
     // ============= Validation Exceptions =============
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleMethodArgumentNotValid(
             MethodArgumentNotValidException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Validation error: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         List<ValidationErrorResponse.FieldError> fieldErrors = new ArrayList<>();
@@ -201,6 +236,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ValidationErrorResponse> handleBindException(
             BindException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Binding error: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         List<ValidationErrorResponse.FieldError> fieldErrors = new ArrayList<>();
@@ -227,6 +263,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ValidationErrorResponse> handleConstraintViolationException(
             ConstraintViolationException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Constraint violation: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         List<ValidationErrorResponse.FieldError> fieldErrors = new ArrayList<>();
@@ -257,6 +294,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleBadCredentialsException(
             BadCredentialsException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Bad credentials: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         return ResponseEntity
@@ -274,6 +312,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleAccessDeniedException(
             AccessDeniedException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Access denied: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         return ResponseEntity
@@ -291,6 +330,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleInsufficientAuthenticationException(
             InsufficientAuthenticationException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Insufficient authentication: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         return ResponseEntity
@@ -310,6 +350,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleHttpRequestMethodNotSupported(
             HttpRequestMethodNotSupportedException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Method not supported: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         return ResponseEntity
@@ -327,6 +368,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleHttpMediaTypeNotSupported(
             HttpMediaTypeNotSupportedException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Media type not supported: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         return ResponseEntity
@@ -344,6 +386,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleHttpMessageNotReadable(
             HttpMessageNotReadableException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Message not readable: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         return ResponseEntity
@@ -361,6 +404,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleMethodArgumentTypeMismatch(
             MethodArgumentTypeMismatchException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Type mismatch: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         String error = String.format("Parameter '%s' should be of type %s",
@@ -381,6 +425,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleMissingServletRequestParameter(
             MissingServletRequestParameterException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("Missing parameter: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         String error = String.format("Required parameter '%s' is missing", ex.getParameterName());
@@ -400,6 +445,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleNoHandlerFoundException(
             NoHandlerFoundException ex, WebRequest request) {
 
+        countException(ex);
         log.warn("No handler found: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         return ResponseEntity
@@ -419,6 +465,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleDataIntegrityViolationException(
             DataIntegrityViolationException ex, WebRequest request) {
 
+        countException(ex);
         log.error("Data integrity violation: {} - Path: {}", ex.getMessage(), request.getDescription(false));
 
         String userFriendlyMessage = "Data integrity constraint violation";
@@ -447,6 +494,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleGenericException(
             Exception ex, WebRequest request) {
 
+        countException(ex);
         log.error("Unexpected error: {} - Path: {}", ex.getMessage(), request.getDescription(false), ex);
 
         return ResponseEntity
@@ -459,4 +507,15 @@ public class GlobalExceptionHandler {
                         .timestamp(LocalDateTime.now())
                         .build());
     }
+
+    /**
+     * Count handled exceptions by type, so error spikes show up next to the latency timers
+     */
+    private void countException(Exception ex) {
+        Counter.builder(EXCEPTION_COUNTER)
+                .description("Exceptions handled by the global exception handler")
+                .tag("exception", ex.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.library.library_management_system.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a request is shed because its endpoint class is at its concurrency limit
+ */
+@Getter
+public class ServiceOverloadedException extends LibraryManagementException {
+
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(String message, Duration retryAfter) {
+        super("SERVICE_OVERLOADED", message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -1,5 +1,7 @@
 package com.library.library_management_system.graphql;
 
+import com.library.library_management_system.concurrency.ConcurrencyLimited;
+import com.library.library_management_system.concurrency.EndpointClass;
 import com.library.library_management_system.dto.request.LoginRequest;
 import com.library.library_management_system.dto.request.RegisterRequest;
 import com.library.library_management_system.dto.response.AuthResponse;
@@ -20,6 +22,7 @@ import java.util.Map;
 @Controller
 @RequiredArgsConstructor
 @Slf4j
+@ConcurrencyLimited(EndpointClass.AUTH)
 public class AuthResolver {
 
     private final AuthService authService;
@@ -45,7 +48,7 @@ public class AuthResolver {
 
     @MutationMapping
     public Map<String, Object> login(@Argument Map<String, Object> input) {
-        log.info("GraphQL: Login attempt for identifier: {}", input.get("identifier"));
+        log.debug("GraphQL: Login attempt for identifier: {}", input.get("identifier"));
 
         LoginRequest request = LoginRequest.builder()
                 .identifier((String) input.get("identifier"))
@@ -72,7 +75,7 @@ public class AuthResolver {
     @MutationMapping
     @PreAuthorize("hasRole('MEMBER') or hasRole('ADMIN')")
     public Boolean logout() {
-        log.info("GraphQL: User logout");
+        log.debug("GraphQL: User logout");
         authService.logout(null);
         return true;
     }
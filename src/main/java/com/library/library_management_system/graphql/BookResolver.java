@@ -1,12 +1,15 @@
 package com.library.library_management_system.graphql;
 
-import com.library.library_management_system.dto.request.BookRequest;
+import com.library.library_management_system.concurrency.ConcurrencyLimited;
+import com.library.library_management_system.concurrency.EndpointClass;
 import com.library.library_management_system.dto.request.BookSearchRequest;
-import com.library.library_management_system.dto.request.BookUpdateRequest;
 import com.library.library_management_system.dto.response.BookResponse;
-import com.library.library_management_system.dto.response.PagedResponse;
-import com.library.library_management_system.enums.BookStatus;
-import com.library.library_management_system.enums.Genre;
+import com.library.library_management_system.graphql.input.BookFilterInput;
+import com.library.library_management_system.graphql.input.BookInput;
+import com.library.library_management_system.graphql.input.BookUpdateInput;
+import com.library.library_management_system.graphql.input.PaginationInput;
+import com.library.library_management_system.graphql.type.Connection;
+import com.library.library_management_system.metrics.StatementBudget;
 import com.library.library_management_system.service.BookService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,37 +19,25 @@ import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 
-import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 
 @Controller
 @RequiredArgsConstructor
 @Slf4j
+@ConcurrencyLimited(EndpointClass.CATALOGUE)
 public class BookResolver {
 
     private final BookService bookService;
 
     @QueryMapping
     @PreAuthorize("hasRole('MEMBER') or hasRole('ADMIN')")
-    public Map<String, Object> books(@Argument Map<String, Object> filter,
-                                     @Argument Map<String, Object> pagination) {
+    @StatementBudget(3)
+    public Connection<BookResponse> books(@Argument BookFilterInput filter,
+                                          @Argument PaginationInput pagination) {
         log.debug("GraphQL: Get books with filter: {}", filter);
 
         BookSearchRequest searchRequest = buildBookSearchRequest(filter, pagination);
-        PagedResponse<BookResponse> result = bookService.searchBooks(searchRequest);
-
-        return Map.of(
-                "content", result.getContent(),
-                "pageInfo", Map.of(
-                        "page", result.getPage(),
-                        "size", result.getSize(),
-                        "totalElements", result.getTotalElements(),
-                        "totalPages", result.getTotalPages(),
-                        "hasNext", result.getHasNext(),
-                        "hasPrevious", result.getHasPrevious()
-                )
-        );
+        return Connection.from(bookService.searchBooks(searchRequest));
     }
 
     @QueryMapping
@@ -79,20 +70,16 @@ public class BookResolver {
 
     @MutationMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public BookResponse addBook(@Argument Map<String, Object> input) {
+    public BookResponse addBook(@Argument BookInput input) {
         log.info("GraphQL: Add book");
-
-        BookRequest request = buildBookRequest(input);
-        return bookService.addBook(request);
+        return bookService.addBook(input.toRequest());
     }
 
     @MutationMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public BookResponse updateBook(@Argument Long id, @Argument Map<String, Object> input) {
+    public BookResponse updateBook(@Argument Long id, @Argument BookUpdateInput input) {
         log.info("GraphQL: Update book ID: {}", id);
-
-        BookUpdateRequest request = buildBookUpdateRequest(input);
-        return bookService.updateBook(id, request);
+        return bookService.updateBook(id, input.toRequest());
     }
 
     @MutationMapping
@@ -103,43 +90,18 @@ public class BookResolver {
         return true;
     }
 
-    private BookSearchRequest buildBookSearchRequest(Map<String, Object> filter, Map<String, Object> pagination) {
+    private BookSearchRequest buildBookSearchRequest(BookFilterInput filter, PaginationInput pagination) {
         BookSearchRequest.BookSearchRequestBuilder builder = BookSearchRequest.builder();
 
         if (filter != null) {
-            if (filter.containsKey("searchTerm")) builder.searchTerm((String) filter.get("searchTerm"));
-            if (filter.containsKey("genre")) builder.genre(Genre.valueOf((String) filter.get("genre")));
-            if (filter.containsKey("availableOnly")) builder.availableOnly((Boolean) filter.get("availableOnly"));
+            builder.searchTerm(filter.searchTerm())
+                    .genre(filter.genre())
+                    .availableOnly(filter.availableOnly());
         }
 
-        if (pagination != null) {
-            if (pagination.containsKey("page")) builder.page((Integer) pagination.get("page"));
-            if (pagination.containsKey("size")) builder.size((Integer) pagination.get("size"));
-        }
-
-        return builder.build();
-    }
-
-    private BookRequest buildBookRequest(Map<String, Object> input) {
-        return BookRequest.builder()
-                .title((String) input.get("title"))
-                .author((String) input.get("author"))
-                .isbn((String) input.get("isbn"))
-                .genre(Genre.valueOf((String) input.get("genre")))
-                .totalCopies((Integer) input.get("totalCopies"))
-                .description((String) input.get("description"))
-                .publisher((String) input.get("publisher"))
+        PaginationInput page = PaginationInput.orDefault(pagination);
+        return builder.page(page.pageOrDefault())
+                .size(page.sizeOrDefault())
                 .build();
     }
-
-    private BookUpdateRequest buildBookUpdateRequest(Map<String, Object> input) {
-        BookUpdateRequest.BookUpdateRequestBuilder builder = BookUpdateRequest.builder();
-
-        if (input.containsKey("title")) builder.title((String) input.get("title"));
-        if (input.containsKey("author")) builder.author((String) input.get("author"));
-        if (input.containsKey("description")) builder.description((String) input.get("description"));
-        if (input.containsKey("totalCopies")) builder.totalCopies((Integer) input.get("totalCopies"));
-
-        return builder.build();
-    }
 }
@@ -0,0 +1,61 @@
+package com.library.library_management_system.graphql;
+
+import com.library.library_management_system.dto.response.BookResponse;
+import com.library.library_management_system.dto.response.BorrowingHistoryResponse;
+import com.library.library_management_system.dto.response.UserResponse;
+import com.library.library_management_system.service.BookService;
+import com.library.library_management_system.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batch resolvers for the nested book/user fields of BorrowingRecord.
+ * Each field is loaded with one IN query per request, and only when selected.
+ */
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class BorrowingRecordFieldResolver {
+
+    private final BookService bookService;
+    private final UserService userService;
+
+    @BatchMapping(typeName = "BorrowingRecord", field = "book")
+    public List<BookResponse> book(List<BorrowingHistoryResponse> records) {
+        Set<Long> bookIds = collectIds(records, BorrowingHistoryResponse::getBookId);
+        log.debug("GraphQL: Batch loading {} books for {} borrowing records", bookIds.size(), records.size());
+
+        Map<Long, BookResponse> books = bookService.getBooksByIds(bookIds);
+        return records.stream()
+                .map(record -> record.getBookId() != null ? books.get(record.getBookId()) : null)
+                .toList();
+    }
+
+    @BatchMapping(typeName = "BorrowingRecord", field = "user")
+    public List<UserResponse> user(List<BorrowingHistoryResponse> records) {
+        Set<Long> userIds = collectIds(records, BorrowingHistoryResponse::getUserId);
+        log.debug("GraphQL: Batch loading {} users for {} borrowing records", userIds.size(), records.size());
+
+        Map<Long, UserResponse> users = userService.getUsersByIds(userIds);
+        return records.stream()
+                .map(record -> record.getUserId() != null ? users.get(record.getUserId()) : null)
+                .toList();
+    }
+
+    private Set<Long> collectIds(List<BorrowingHistoryResponse> records,
+                                 Function<BorrowingHistoryResponse, Long> idExtractor) {
+        return records.stream()
+                .map(idExtractor)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+}
@@ -1,10 +1,13 @@
 package com.library.library_management_system.graphql;
 
-import com.library.library_management_system.dto.request.BorrowBookRequest;
-import com.library.library_management_system.dto.request.ReturnBookRequest;
+import com.library.library_management_system.concurrency.ConcurrencyLimited;
+import com.library.library_management_system.concurrency.EndpointClass;
 import com.library.library_management_system.dto.response.BorrowingHistoryResponse;
-import com.library.library_management_system.dto.response.PagedResponse;
-import com.library.library_management_system.enums.BorrowStatus;
+import com.library.library_management_system.graphql.input.BorrowBookInput;
+import com.library.library_management_system.graphql.input.PaginationInput;
+import com.library.library_management_system.graphql.input.ReturnBookInput;
+import com.library.library_management_system.graphql.type.Connection;
+import com.library.library_management_system.metrics.StatementBudget;
 import com.library.library_management_system.service.BorrowingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,17 +18,18 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 
 import java.util.List;
-import java.util.Map;
 
 @Controller
 @RequiredArgsConstructor
 @Slf4j
+@ConcurrencyLimited(EndpointClass.CIRCULATION)
 public class BorrowingResolver {
 
     private final BorrowingService borrowingService;
 
     @QueryMapping
     @PreAuthorize("hasRole('MEMBER') or hasRole('ADMIN')")
+    @StatementBudget(4)
     public List<BorrowingHistoryResponse> myCurrentBooks() {
         log.debug("GraphQL: Get current user's borrowed books");
         return borrowingService.getCurrentUserBorrowedBooks();
@@ -33,30 +37,17 @@ public class BorrowingResolver {
 
     @QueryMapping
     @PreAuthorize("hasRole('MEMBER') or hasRole('ADMIN')")
-    public Map<String, Object> myBorrowingHistory(@Argument Map<String, Object> pagination) {
+    @StatementBudget(6)
+    public Connection<BorrowingHistoryResponse> myBorrowingHistory(@Argument PaginationInput pagination) {
         log.debug("GraphQL: Get current user borrowing history");
 
-        int page = pagination != null ? (Integer) pagination.getOrDefault("page", 0) : 0;
-        int size = pagination != null ? (Integer) pagination.getOrDefault("size", 10) : 10;
-
-        PagedResponse<BorrowingHistoryResponse> result =
-                borrowingService.getCurrentUserBorrowingHistory(page, size);
-
-        return Map.of(
-                "content", result.getContent(),
-                "pageInfo", Map.of(
-                        "page", result.getPage(),
-                        "size", result.getSize(),
-                        "totalElements", result.getTotalElements(),
-                        "totalPages", result.getTotalPages(),
-                        "hasNext", result.getHasNext(),
-                        "hasPrevious", result.getHasPrevious()
-                )
-        );
+        PaginationInput page = PaginationInput.orDefault(pagination);
+        return Connection.from(borrowingService.getCurrentUserBorrowingHistory(page.pageOrDefault(), page.sizeOrDefault()));
     }
 
     @QueryMapping
     @PreAuthorize("hasRole('ADMIN')")
+    @StatementBudget(5)
     public List<BorrowingHistoryResponse> overdueBooks() {
         log.debug("GraphQL: Get overdue books");
         return borrowingService.getOverdueBooks();
@@ -64,31 +55,18 @@ public class BorrowingResolver {
 
     @MutationMapping
     @PreAuthorize("hasRole('MEMBER') or hasRole('ADMIN')")
-    public BorrowingHistoryResponse borrowBook(@Argument Map<String, Object> input) {
-        log.info("GraphQL: Borrow book");
-
-        BorrowBookRequest request = BorrowBookRequest.builder()
-                .bookId(((Number) input.get("bookId")).longValue())
-                .borrowingPeriodDays(input.containsKey("borrowingPeriodDays") ?
-                        (Integer) input.get("borrowingPeriodDays") : 14)
-                .notes((String) input.get("notes"))
-                .build();
-
-        return borrowingService.borrowBook(request);
+    @StatementBudget(10)
+    public BorrowingHistoryResponse borrowBook(@Argument BorrowBookInput input) {
+        log.debug("GraphQL: Borrow book");
+        return borrowingService.borrowBook(input.toRequest());
     }
 
     @MutationMapping
     @PreAuthorize("hasRole('MEMBER') or hasRole('ADMIN')")
-    public BorrowingHistoryResponse returnBook(@Argument Map<String, Object> input) {
-        log.info("GraphQL: Return book");
-
-        ReturnBookRequest request = ReturnBookRequest.builder()
-                .borrowingRecordId(((Number) input.get("borrowingRecordId")).longValue())
-                .notes((String) input.get("notes"))
-                .isLost(input.containsKey("isLost") ? (Boolean) input.get("isLost") : false)
-                .build();
-
-        return borrowingService.returnBook(request);
+    @StatementBudget(8)
+    public BorrowingHistoryResponse returnBook(@Argument ReturnBookInput input) {
+        log.debug("GraphQL: Return book");
+        return borrowingService.returnBook(input.toRequest());
     }
 
     @QueryMapping
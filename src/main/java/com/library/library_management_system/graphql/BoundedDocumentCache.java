@@ -0,0 +1,94 @@
+package com.library.library_management_system.graphql;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LRU cache of parsed and validated GraphQL documents keyed by the SHA-256 hash of the query text.
+ * Documents that failed parsing or validation are never cached.
+ */
+@Slf4j
+public class BoundedDocumentCache implements PersistedQueryCache {
+
+    private final int maxSize;
+    private final Map<Object, PreparsedDocumentEntry> documents;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public BoundedDocumentCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Document cache size must be positive");
+        }
+        this.maxSize = maxSize;
+        this.documents = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, PreparsedDocumentEntry> eldest) {
+                return size() > BoundedDocumentCache.this.maxSize;
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getPersistedQueryDocumentAsync(Object persistedQueryId,
+                                                                                   ExecutionInput executionInput,
+                                                                                   PersistedQueryCacheMiss onCacheMiss) throws PersistedQueryNotFound {
+        PreparsedDocumentEntry cached = documents.get(persistedQueryId);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return CompletableFuture.completedFuture(cached);
+        }
+        misses.incrementAndGet();
+
+        // A hash-only request for a query we have never seen: the client must resend it with the full text
+        String queryText = executionInput.getQuery();
+        if (queryText == null || queryText.isBlank() || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(queryText)) {
+            throw new PersistedQueryNotFound(persistedQueryId);
+        }
+
+        // Parse and validate outside the lock; a concurrent duplicate parse is cheaper than serialising all misses
+        PreparsedDocumentEntry entry = onCacheMiss.apply(queryText);
+        if (!entry.hasErrors()) {
+            documents.put(persistedQueryId, entry);
+            log.debug("GraphQL: Cached document {} ({} cached)", persistedQueryId, documents.size());
+        }
+        return CompletableFuture.completedFuture(entry);
+    }
+
+    /**
+     * Still abstract in graphql-java 21; CachingPersistedQuerySupport only uses the async lookup
+     */
+    @Override
+    @Deprecated
+    public PreparsedDocumentEntry getPersistedQueryDocument(Object persistedQueryId,
+                                                            ExecutionInput executionInput,
+                                                            PersistedQueryCacheMiss onCacheMiss) throws PersistedQueryNotFound {
+        return getPersistedQueryDocumentAsync(persistedQueryId, executionInput, onCacheMiss).join();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public void clear() {
+        documents.clear();
+    }
+}
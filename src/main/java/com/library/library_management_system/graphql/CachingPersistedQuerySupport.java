@@ -0,0 +1,98 @@
+package com.library.library_management_system.graphql;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryError;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Automatic persisted queries (Apollo protocol) backed by a shared parsed-document cache.
+ *
+ * Clients register an operation by sending the full query together with
+ * {@code extensions.persistedQuery.sha256Hash}; afterwards they may send only the hash with
+ * {@code "query": "PersistedQuery"} (Spring GraphQL requires a non-blank query field).
+ * Plain requests without the extension are keyed by the hash of their query text, so both
+ * paths share one cache and skip parsing and validation once warm.
+ *
+ * Documents are looked up through {@link PersistedQueryCache#getPersistedQueryDocumentAsync};
+ * the synchronous {@code getPersistedQueryDocument} of graphql-java 21 is deprecated.
+ */
+public class CachingPersistedQuerySupport extends ApolloPersistedQuerySupport {
+
+    private final PersistedQueryCache persistedQueryCache;
+
+    public CachingPersistedQuerySupport(PersistedQueryCache persistedQueryCache) {
+        super(persistedQueryCache);
+        this.persistedQueryCache = persistedQueryCache;
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput,
+                                                                      Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        Optional<Object> persistedQueryId = getPersistedQueryId(executionInput);
+        if (persistedQueryId.isEmpty()) {
+            return CompletableFuture.completedFuture(parseAndValidateFunction.apply(executionInput));
+        }
+
+        Object queryId = persistedQueryId.get();
+        try {
+            return persistedQueryCache.getPersistedQueryDocumentAsync(queryId, executionInput, queryText -> {
+                        if (persistedQueryIdIsInvalid(queryId, queryText)) {
+                            throw new PersistedQueryIdInvalid(queryId);
+                        }
+                        return parseAndValidateFunction.apply(executionInput.transform(builder -> builder.query(queryText)));
+                    })
+                    .exceptionally(this::toMissingError);
+        } catch (PersistedQueryError e) {
+            return CompletableFuture.completedFuture(mkMissingError(e));
+        }
+    }
+
+    @Override
+    public PreparsedDocumentEntry getDocument(ExecutionInput executionInput,
+                                              Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        return getDocumentAsync(executionInput, parseAndValidateFunction).join();
+    }
+
+    private PreparsedDocumentEntry toMissingError(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        if (cause instanceof PersistedQueryError error) {
+            return mkMissingError(error);
+        }
+        throw failure instanceof CompletionException completion ? completion : new CompletionException(failure);
+    }
+
+    @Override
+    protected Optional<Object> getPersistedQueryId(ExecutionInput executionInput) {
+        Optional<Object> persistedQueryId = super.getPersistedQueryId(executionInput);
+        if (persistedQueryId.isPresent()) {
+            return persistedQueryId;
+        }
+
+        String query = executionInput.getQuery();
+        if (query == null || query.isBlank() || PERSISTED_QUERY_MARKER.equals(query)) {
+            return Optional.empty();
+        }
+        return Optional.of(sha256Hex(query));
+    }
+
+    static String sha256Hex(String query) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
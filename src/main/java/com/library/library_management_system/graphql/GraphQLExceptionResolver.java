@@ -1,21 +1,49 @@
 package com.library.library_management_system.graphql;
 
 import com.library.library_management_system.exception.*;
+import graphql.ErrorClassification;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 /**
- * GraphQL Exception Resolver (Simplified Version)
+ * GraphQL Exception Resolver
+ * <p>
+ * Turns domain exceptions thrown by resolvers into classified GraphQL errors; anything else
+ * is left to the default resolvers (e.g. Spring Security's access-denied handling).
  */
 @Component
 @Slf4j
-public class GraphQLExceptionResolver {
+public class GraphQLExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+        if (!(ex instanceof LibraryManagementException)) {
+            return null;
+        }
+        GraphqlErrorBuilder<?> error = GraphqlErrorBuilder.newError(env)
+                .message(handleException(ex))
+                .errorType(ErrorClassification.errorClassification(getErrorClassification(ex)));
+        if (ex instanceof ServiceOverloadedException overloaded) {
+            error.extensions(Map.of("retryAfterSeconds", Math.max(1, overloaded.getRetryAfter().toSeconds())));
+        }
+        return error.build();
+    }
 
     /**
      * Handle GraphQL exceptions and convert to user-friendly messages
      */
     public String handleException(Throwable ex) {
-        log.error("GraphQL error occurred: {}", ex.getMessage(), ex);
+        if ("INTERNAL_ERROR".equals(getErrorClassification(ex))) {
+            log.error("GraphQL error occurred: {}", ex.getMessage(), ex);
+        } else {
+            log.debug("GraphQL request rejected: {}", ex.getMessage());
+        }
 
         if (ex instanceof ResourceNotFoundException) {
             return "Resource not found: " + ex.getMessage();
@@ -45,6 +73,10 @@ public class GraphQLExceptionResolver {
             return "Resource already exists: " + ex.getMessage();
         }
 
+        if (ex instanceof ServiceOverloadedException) {
+            return "Service busy: " + ex.getMessage();
+        }
+
         // Default error
         return "Internal server error occurred";
     }
@@ -58,6 +90,11 @@ public class GraphQLExceptionResolver {
         if (ex instanceof UnauthorizedException) return "UNAUTHORIZED";
         if (ex instanceof ForbiddenException) return "FORBIDDEN";
         if (ex instanceof DuplicateResourceException) return "CONFLICT";
+        if (ex instanceof ServiceOverloadedException) return "UNAVAILABLE";
+        if (ex instanceof BookNotAvailableException ||
+                ex instanceof BorrowingLimitExceededException ||
+                ex instanceof BookAlreadyBorrowedException ||
+                ex instanceof MaxRenewalExceededException) return "BAD_REQUEST";
 
         return "INTERNAL_ERROR";
     }
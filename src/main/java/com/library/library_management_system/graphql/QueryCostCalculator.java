@@ -0,0 +1,56 @@
+package com.library.library_management_system.graphql;
+
+import com.library.library_management_system.config.GraphQLLimitsConfig;
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLTypeUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Computes the cost of a GraphQL field from its configured weight and the
+ * number of elements it can return (page size, limit, or an assumed list size).
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCostCalculator implements FieldComplexityCalculator {
+
+    private final GraphQLLimitsConfig limitsConfig;
+
+    @Override
+    public int calculate(FieldComplexityEnvironment environment, int childComplexity) {
+        String coordinate = environment.getParentType().getName() + "." + environment.getField().getName();
+        long weight = limitsConfig.getFieldWeight(coordinate);
+        long cost = weight + (long) childComplexity * resolveElementCount(environment);
+
+        return (int) Math.min(cost, Integer.MAX_VALUE);
+    }
+
+    private int resolveElementCount(FieldComplexityEnvironment environment) {
+        Map<String, Object> arguments = environment.getArguments();
+
+        if (arguments.get("pagination") instanceof Map<?, ?> pagination
+                && pagination.get("size") instanceof Number size) {
+            return Math.max(size.intValue(), 1);
+        }
+
+        if (arguments.get("limit") instanceof Number limit) {
+            return Math.max(limit.intValue(), 1);
+        }
+
+        if (environment.getFieldDefinition().getArgument("pagination") != null) {
+            return limitsConfig.getDefaultPageSize();
+        }
+
+        // Unbounded root lists (availableBooks, overdueBooks, ...) are charged an assumed size
+        boolean isRootField = environment.getParentEnvironment() == null;
+        if (isRootField && GraphQLTypeUtil.unwrapNonNull(environment.getFieldDefinition().getType()) instanceof GraphQLList) {
+            return limitsConfig.getAssumedListSize();
+        }
+
+        return 1;
+    }
+}
@@ -1,6 +1,12 @@
 package com.library.library_management_system.graphql;
 
+import com.library.library_management_system.concurrency.ConcurrencyLimited;
+import com.library.library_management_system.concurrency.EndpointClass;
 import com.library.library_management_system.dto.response.DashboardStatsResponse;
+import com.library.library_management_system.metrics.StatementBudget;
+import com.library.library_management_system.repository.projection.BookAvailabilityStats;
+import com.library.library_management_system.repository.projection.GenreBorrowStats;
+import com.library.library_management_system.repository.projection.LibraryMetric;
 import com.library.library_management_system.service.BookService;
 import com.library.library_management_system.service.ReportService;
 import lombok.RequiredArgsConstructor;
@@ -11,11 +17,11 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 
 import java.util.List;
-import java.util.Map;
 
 @Controller
 @RequiredArgsConstructor
 @Slf4j
+@ConcurrencyLimited(EndpointClass.REPORTS)
 public class ReportResolver {
 
     private final ReportService reportService;
@@ -23,6 +29,7 @@ public class ReportResolver {
 
     @QueryMapping
     @PreAuthorize("hasRole('ADMIN')")
+    @StatementBudget(15)
     public DashboardStatsResponse dashboardStats() {
         log.debug("GraphQL: Get dashboard statistics");
         return reportService.getDashboardStats();
@@ -30,35 +37,21 @@ public class ReportResolver {
 
     @QueryMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public Map<String, Object> bookAvailabilityStats() {
+    public BookAvailabilityStats bookAvailabilityStats() {
         log.debug("GraphQL: Get book availability statistics");
-
-        // ✅ FIXED: Use BookService instead of ReportService
-        Object[] stats = bookService.getBookAvailabilityStats();
-
-        if (stats != null && stats.length >= 5) {
-            return Map.of(
-                    "totalBooks", stats[0],
-                    "totalCopies", stats[1],
-                    "availableCopies", stats[2],
-                    "borrowedCopies", stats[3],
-                    "outOfStockBooks", stats[4]
-            );
-        }
-
-        return Map.of();
+        return bookService.getBookAvailabilityStats();
     }
 
     @QueryMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public List<Object[]> libraryStatistics() {
+    public List<LibraryMetric> libraryStatistics() {
         log.debug("GraphQL: Get library statistics");
         return reportService.getLibraryStatistics();
     }
 
     @QueryMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public List<Object[]> popularGenreStats() {
+    public List<GenreBorrowStats> popularGenreStats() {
         log.debug("GraphQL: Get popular genre statistics");
         // ✅ FIXED: Use BookService for genre stats
         return bookService.getPopularGenreStats();
@@ -0,0 +1,47 @@
+package com.library.library_management_system.graphql;
+
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.GraphQLObjectType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records latency and invocation counts of root-level GraphQL resolvers
+ * (the operations exposed by the Book, Borrowing, User, Report and Auth resolvers).
+ */
+@Component
+@RequiredArgsConstructor
+public class ResolverMetricsInstrumentation extends SimplePerformantInstrumentation {
+
+    public static final String RESOLVER_TIMER = "library.graphql.resolver";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters,
+                                                          InstrumentationState state) {
+        // Only operations (Query/Mutation/Subscription fields) are timed; nested fields would explode cardinality
+        if (parameters.getExecutionStepInfo().getPath().getLevel() != 1) {
+            return SimpleInstrumentationContext.noOp();
+        }
+
+        String operationType = ((GraphQLObjectType) parameters.getExecutionStepInfo().getParent().getUnwrappedNonNullType()).getName();
+        String field = parameters.getExecutionStepInfo().getFieldDefinition().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        return SimpleInstrumentationContext.whenCompleted((result, throwable) -> sample.stop(
+                Timer.builder(RESOLVER_TIMER)
+                        .description("Latency of GraphQL root resolvers")
+                        .tag("type", operationType)
+                        .tag("field", field)
+                        .tag("outcome", throwable == null ? "SUCCESS" : "ERROR")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.library.library_management_system.graphql;
+
+import com.library.library_management_system.metrics.RequestStatements;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.GraphQLObjectType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Labels the SQL statements of a GraphQL request with the root fields it resolved
+ * (e.g. Query.books), so budgets and N+1 reports name the operation rather than /graphql
+ */
+@Component
+public class StatementBudgetInstrumentation extends SimplePerformantInstrumentation {
+
+    @Override
+    public InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters,
+                                                          InstrumentationState state) {
+        RequestStatements statements = RequestStatements.current();
+        if (statements != null && parameters.getExecutionStepInfo().getPath().getLevel() == 1) {
+            String operationType = ((GraphQLObjectType) parameters.getExecutionStepInfo().getParent().getUnwrappedNonNullType()).getName();
+            statements.addOperation(operationType + "." + parameters.getExecutionStepInfo().getFieldDefinition().getName());
+        }
+        return SimpleInstrumentationContext.noOp();
+    }
+}
@@ -0,0 +1,45 @@
+package com.library.library_management_system.graphql;
+
+import com.library.library_management_system.event.BookAvailabilityEvent;
+import com.library.library_management_system.event.DueDateNotification;
+import com.library.library_management_system.event.LibraryEventBus;
+import com.library.library_management_system.exception.UnauthorizedException;
+import com.library.library_management_system.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.ContextValue;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class SubscriptionResolver {
+
+    private final LibraryEventBus eventBus;
+
+    @SubscriptionMapping
+    public Flux<BookAvailabilityEvent> bookAvailabilityChanged(
+            @Argument Long bookId,
+            @ContextValue(name = WebSocketAuthInterceptor.PRINCIPAL_KEY, required = false) UserPrincipal principal) {
+        requireAuthenticated(principal);
+        log.debug("GraphQL: Subscribe to availability changes for book: {}", bookId != null ? bookId : "all");
+        return eventBus.availabilityChanges(bookId);
+    }
+
+    @SubscriptionMapping
+    public Flux<DueDateNotification> myDueDateNotifications(
+            @ContextValue(name = WebSocketAuthInterceptor.PRINCIPAL_KEY, required = false) UserPrincipal principal) {
+        requireAuthenticated(principal);
+        log.debug("GraphQL: Subscribe to due date notifications for user ID: {}", principal.getId());
+        return eventBus.dueDateNotifications(principal.getId());
+    }
+
+    private void requireAuthenticated(UserPrincipal principal) {
+        if (principal == null) {
+            throw new UnauthorizedException("Subscriptions require an authenticated WebSocket connection");
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package com.library.library_management_system.graphql;
 
 import com.library.library_management_system.dto.request.UserSearchRequest;
-import com.library.library_management_system.dto.request.UserUpdateRequest;
-import com.library.library_management_system.dto.response.PagedResponse;
 import com.library.library_management_system.dto.response.UserResponse;
-import com.library.library_management_system.enums.UserRole;
+import com.library.library_management_system.graphql.input.PaginationInput;
+import com.library.library_management_system.graphql.input.UserFilterInput;
+import com.library.library_management_system.graphql.input.UserUpdateInput;
+import com.library.library_management_system.graphql.type.Connection;
 import com.library.library_management_system.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,9 +15,7 @@ import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 
-import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 
 @Controller
 @RequiredArgsConstructor
@@ -34,26 +33,12 @@ public class UserResolver {
 
     @QueryMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public Map<String, Object> users(@Argument Map<String, Object> filter,
-                                     @Argument Map<String, Object> pagination) {
+    public Connection<UserResponse> users(@Argument UserFilterInput filter,
+                                          @Argument PaginationInput pagination) {
         log.debug("GraphQL: Get users with filter: {}", filter);
 
         UserSearchRequest searchRequest = buildUserSearchRequest(filter, pagination);
-        PagedResponse<UserResponse> result = userService.searchUsers(searchRequest);
-
-        return Map.of(
-                "content", result.getContent(),
-                "pageInfo", Map.of(
-                        "page", result.getPage(),
-                        "size", result.getSize(),
-                        "totalElements", result.getTotalElements(),
-                        "totalPages", result.getTotalPages(),
-                        "hasNext", result.getHasNext(),
-                        "hasPrevious", result.getHasPrevious(),
-                        "first", result.getFirst(),
-                        "last", result.getLast()
-                )
-        );
+        return Connection.from(userService.searchUsers(searchRequest));
     }
 
     @QueryMapping
@@ -65,11 +50,9 @@ public class UserResolver {
 
     @MutationMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public UserResponse updateUser(@Argument Long id, @Argument Map<String, Object> input) {
+    public UserResponse updateUser(@Argument Long id, @Argument UserUpdateInput input) {
         log.info("GraphQL: Update user ID: {}", id);
-
-        UserUpdateRequest request = buildUserUpdateRequest(input);
-        return userService.updateUser(id, request);
+        return userService.updateUser(id, input.toRequest());
     }
 
     @MutationMapping
@@ -87,31 +70,17 @@ public class UserResolver {
         return userService.getMostActiveUsers(limit != null ? limit : 10);
     }
 
-    private UserSearchRequest buildUserSearchRequest(Map<String, Object> filter, Map<String, Object> pagination) {
+    private UserSearchRequest buildUserSearchRequest(UserFilterInput filter, PaginationInput pagination) {
         UserSearchRequest.UserSearchRequestBuilder builder = UserSearchRequest.builder();
 
         if (filter != null) {
-            if (filter.containsKey("searchTerm")) builder.searchTerm((String) filter.get("searchTerm"));
-            if (filter.containsKey("role")) builder.role(UserRole.valueOf((String) filter.get("role")));
-        }
-
-        if (pagination != null) {
-            if (pagination.containsKey("page")) builder.page((Integer) pagination.get("page"));
-            if (pagination.containsKey("size")) builder.size((Integer) pagination.get("size"));
+            builder.searchTerm(filter.searchTerm()).role(filter.role());
         }
 
-        return builder.build();
-    }
-
-    private UserUpdateRequest buildUserUpdateRequest(Map<String, Object> input) {
-        UserUpdateRequest.UserUpdateRequestBuilder builder = UserUpdateRequest.builder();
-
-        if (input.containsKey("fullName")) builder.fullName((String) input.get("fullName"));
-        if (input.containsKey("email")) builder.email((String) input.get("email"));
-        if (input.containsKey("phoneNumber")) builder.phoneNumber((String) input.get("phoneNumber"));
-        if (input.containsKey("role")) builder.role(UserRole.valueOf((String) input.get("role")));
-
-        return builder.build();
+        PaginationInput page = PaginationInput.orDefault(pagination);
+        return builder.page(page.pageOrDefault())
+                .size(page.sizeOrDefault())
+                .build();
     }
 
     private Long getCurrentUserId() {
@@ -0,0 +1,75 @@
+package com.library.library_management_system.graphql;
+
+import com.library.library_management_system.config.JwtConfig;
+import com.library.library_management_system.exception.UnauthorizedException;
+import com.library.library_management_system.security.CustomUserDetailsService;
+import com.library.library_management_system.security.JwtTokenProvider;
+import com.library.library_management_system.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.graphql.server.WebSocketGraphQlInterceptor;
+import org.springframework.graphql.server.WebSocketGraphQlRequest;
+import org.springframework.graphql.server.WebSocketSessionInfo;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+
+/**
+ * Authenticates GraphQL WebSocket connections from the JWT sent in the connection_init payload
+ * and exposes the user to subscription resolvers through the GraphQL context.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WebSocketAuthInterceptor implements WebSocketGraphQlInterceptor {
+
+    public static final String PRINCIPAL_KEY = "principal";
+
+    private final JwtTokenProvider tokenProvider;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final JwtConfig jwtConfig;
+
+    @Override
+    public Mono<Object> handleConnectionInitialization(WebSocketSessionInfo sessionInfo,
+                                                       Map<String, Object> connectionInitPayload) {
+        // The payload is client-supplied JSON: anything but a string is treated as a missing token
+        String token = connectionInitPayload.get(jwtConfig.getHeader()) instanceof String header
+                ? jwtConfig.getTokenWithoutPrefix(header)
+                : null;
+
+        if (!StringUtils.hasText(token) || !tokenProvider.validateToken(token)) {
+            log.debug("Rejecting GraphQL WebSocket connection {} without a valid token", sessionInfo.getId());
+            return Mono.error(new UnauthorizedException("A valid token is required in the connection_init payload"));
+        }
+
+        // User lookup hits the database, keep it off the WebSocket I/O thread
+        return Mono.fromCallable(() -> customUserDetailsService.loadUserByUsername(tokenProvider.getUsernameFromToken(token)))
+                .subscribeOn(Schedulers.boundedElastic())
+                // A token outlives deactivation, same check as JwtAuthenticationFilter
+                .flatMap(userDetails -> {
+                    if (!userDetails.isEnabled() || !userDetails.isAccountNonLocked()) {
+                        log.warn("Rejecting GraphQL WebSocket connection {} of disabled or locked user: {}",
+                                sessionInfo.getId(), userDetails.getUsername());
+                        return Mono.error(new UnauthorizedException("User account is disabled or locked"));
+                    }
+                    return Mono.just(userDetails);
+                })
+                .doOnNext(userDetails -> sessionInfo.getAttributes().put(PRINCIPAL_KEY, userDetails))
+                .then(Mono.empty());
+    }
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+        if (request instanceof WebSocketGraphQlRequest webSocketRequest
+                && webSocketRequest.getSessionInfo().getAttributes().get(PRINCIPAL_KEY) instanceof UserPrincipal principal) {
+            request.configureExecutionInput((executionInput, builder) ->
+                    builder.graphQLContext(Map.of(PRINCIPAL_KEY, principal)).build());
+        }
+        return chain.next(request);
+    }
+}
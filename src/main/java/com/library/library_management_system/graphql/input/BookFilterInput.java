@@ -0,0 +1,9 @@
+package com.library.library_management_system.graphql.input;
+
+import com.library.library_management_system.enums.Genre;
+
+/**
+ * GraphQL BookFilterInput
+ */
+public record BookFilterInput(String searchTerm, Genre genre, Boolean availableOnly) {
+}
@@ -0,0 +1,28 @@
+package com.library.library_management_system.graphql.input;
+
+import com.library.library_management_system.dto.request.BookRequest;
+import com.library.library_management_system.enums.Genre;
+
+/**
+ * GraphQL BookInput
+ */
+public record BookInput(String title,
+                        String author,
+                        String isbn,
+                        Genre genre,
+                        Integer totalCopies,
+                        String description,
+                        String publisher) {
+
+    public BookRequest toRequest() {
+        return BookRequest.builder()
+                .title(title)
+                .author(author)
+                .isbn(isbn)
+                .genre(genre)
+                .totalCopies(totalCopies)
+                .description(description)
+                .publisher(publisher)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.library.library_management_system.graphql.input;
+
+import com.library.library_management_system.dto.request.BookUpdateRequest;
+
+/**
+ * GraphQL BookUpdateInput - absent fields stay null and are left unchanged
+ */
+public record BookUpdateInput(String title, String author, String description, Integer totalCopies) {
+
+    public BookUpdateRequest toRequest() {
+        return BookUpdateRequest.builder()
+                .title(title)
+                .author(author)
+                .description(description)
+                .totalCopies(totalCopies)
+                .build();
+    }
+}
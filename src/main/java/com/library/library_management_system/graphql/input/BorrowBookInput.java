@@ -0,0 +1,19 @@
+package com.library.library_management_system.graphql.input;
+
+import com.library.library_management_system.dto.request.BorrowBookRequest;
+
+/**
+ * GraphQL BorrowBookInput
+ */
+public record BorrowBookInput(Long bookId, Integer borrowingPeriodDays, String notes) {
+
+    public static final int DEFAULT_BORROWING_PERIOD_DAYS = 14;
+
+    public BorrowBookRequest toRequest() {
+        return BorrowBookRequest.builder()
+                .bookId(bookId)
+                .borrowingPeriodDays(borrowingPeriodDays != null ? borrowingPeriodDays : DEFAULT_BORROWING_PERIOD_DAYS)
+                .notes(notes)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.library.library_management_system.graphql.input;
+
+/**
+ * GraphQL PaginationInput
+ */
+public record PaginationInput(Integer page, Integer size) {
+
+    public static final int DEFAULT_PAGE = 0;
+    public static final int DEFAULT_SIZE = 10;
+
+    private static final PaginationInput DEFAULT = new PaginationInput(DEFAULT_PAGE, DEFAULT_SIZE);
+
+    public static PaginationInput orDefault(PaginationInput pagination) {
+        return pagination != null ? pagination : DEFAULT;
+    }
+
+    public int pageOrDefault() {
+        return page != null ? page : DEFAULT_PAGE;
+    }
+
+    public int sizeOrDefault() {
+        return size != null ? size : DEFAULT_SIZE;
+    }
+}
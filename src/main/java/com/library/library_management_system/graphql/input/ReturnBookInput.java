@@ -0,0 +1,17 @@
+package com.library.library_management_system.graphql.input;
+
+import com.library.library_management_system.dto.request.ReturnBookRequest;
+
+/**
+ * GraphQL ReturnBookInput
+ */
+public record ReturnBookInput(Long borrowingRecordId, String notes, Boolean isLost) {
+
+    public ReturnBookRequest toRequest() {
+        return ReturnBookRequest.builder()
+                .borrowingRecordId(borrowingRecordId)
+                .notes(notes)
+                .isLost(Boolean.TRUE.equals(isLost))
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.library.library_management_system.graphql.input;
+
+import com.library.library_management_system.enums.UserRole;
+
+/**
+ * GraphQL UserFilterInput
+ */
+public record UserFilterInput(String searchTerm, UserRole role) {
+}
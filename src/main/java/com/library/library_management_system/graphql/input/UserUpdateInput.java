@@ -0,0 +1,19 @@
+package com.library.library_management_system.graphql.input;
+
+import com.library.library_management_system.dto.request.UserUpdateRequest;
+import com.library.library_management_system.enums.UserRole;
+
+/**
+ * GraphQL UserUpdateInput - absent fields stay null and are left unchanged
+ */
+public record UserUpdateInput(String fullName, String email, String phoneNumber, UserRole role) {
+
+    public UserUpdateRequest toRequest() {
+        return UserUpdateRequest.builder()
+                .fullName(fullName)
+                .email(email)
+                .phoneNumber(phoneNumber)
+                .role(role)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.library.library_management_system.graphql.type;
+
+import com.library.library_management_system.dto.response.PagedResponse;
+
+import java.util.List;
+
+/**
+ * Generic paged result backing the BookPage, UserPage and BorrowingPage GraphQL types
+ */
+public record Connection<T>(List<T> content, PageInfo pageInfo) {
+
+    public static <T> Connection<T> from(PagedResponse<T> response) {
+        return new Connection<>(response.getContent(), PageInfo.from(response));
+    }
+}
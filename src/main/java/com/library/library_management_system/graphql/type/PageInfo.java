@@ -0,0 +1,28 @@
+package com.library.library_management_system.graphql.type;
+
+import com.library.library_management_system.dto.response.PagedResponse;
+
+/**
+ * GraphQL PageInfo shared by all paged connections
+ */
+public record PageInfo(int page,
+                       int size,
+                       long totalElements,
+                       int totalPages,
+                       boolean hasNext,
+                       boolean hasPrevious,
+                       boolean first,
+                       boolean last) {
+
+    public static PageInfo from(PagedResponse<?> response) {
+        return new PageInfo(
+                response.getPage(),
+                response.getSize(),
+                response.getTotalElements(),
+                response.getTotalPages(),
+                Boolean.TRUE.equals(response.getHasNext()),
+                Boolean.TRUE.equals(response.getHasPrevious()),
+                Boolean.TRUE.equals(response.getFirst()),
+                Boolean.TRUE.equals(response.getLast()));
+    }
+}
@@ -0,0 +1,160 @@
+package com.library.library_management_system.json;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.library.library_management_system.dto.response.ApiResponse;
+import com.library.library_management_system.exception.BadRequestException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a successful {@link ApiResponse} whose data is a list, one element at a time.
+ * <p>
+ * The body has the same shape as a serialized ApiResponse, but no List, DTO list or response
+ * byte array of the whole result is built: elements are serialized into the servlet output as
+ * the source produces them. An optional comma-separated field selection restricts the element
+ * properties that are written.
+ */
+@Component
+public class ApiResponseStreamWriter {
+
+    private static final String FIELDS_FILTER = "fields";
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, Set<String>> propertyNames = new ConcurrentHashMap<>();
+
+    public ApiResponseStreamWriter(ObjectMapper objectMapper) {
+        // A copy, so the field filter only applies to responses written here
+        this.objectMapper = objectMapper.copy().addMixIn(Object.class, FieldFilterMixIn.class);
+    }
+
+    /**
+     * Source of the list elements, e.g. a service method streaming from the database.
+     */
+    @FunctionalInterface
+    public interface ListSource<T> {
+        void forEach(Consumer<T> action);
+    }
+
+    /**
+     * Writes the response. An invalid field selection is rejected before anything is written;
+     * if the source fails before the response is committed, the partial body is discarded so
+     * the exception handlers can still write an error response.
+     */
+    public <T> void writeList(HttpServletResponse response, Class<T> elementType, String fields,
+                              ListSource<T> source) throws IOException {
+        ObjectWriter elementWriter = elementWriter(elementType, fields);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        OutputStream output = response.getOutputStream();
+        JsonGenerator generator = objectMapper.createGenerator(output, JsonEncoding.UTF8);
+        try {
+            writeList(generator, elementWriter, source);
+        } catch (RuntimeException ex) {
+            if (!response.isCommitted()) {
+                response.resetBuffer();
+            }
+            throw ex;
+        }
+        generator.close();
+    }
+
+    /**
+     * Writes the response body to a stream; the entry point used outside a servlet response.
+     */
+    public <T> void writeList(OutputStream output, Class<T> elementType, String fields,
+                              ListSource<T> source) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(output, JsonEncoding.UTF8)) {
+            writeList(generator, elementWriter(elementType, fields), source);
+        }
+    }
+
+    private void writeList(JsonGenerator generator, ObjectWriter elementWriter, ListSource<?> source)
+            throws IOException {
+        // Field order of ApiResponse
+        generator.writeStartObject();
+        generator.writeBooleanField("success", true);
+        generator.writeNullField("message");
+        generator.writeArrayFieldStart("data");
+        try {
+            source.forEach(element -> {
+                try {
+                    elementWriter.writeValue(generator, element);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            // Typically the client went away; nothing more can be written
+            throw ex.getCause();
+        }
+        generator.writeEndArray();
+        generator.writeNullField("error");
+        generator.writeNumberField("status", HttpStatus.OK.value());
+        generator.writePOJOField("timestamp", LocalDateTime.now());
+        generator.writeEndObject();
+    }
+
+    private ObjectWriter elementWriter(Class<?> elementType, String fields) {
+        SimpleBeanPropertyFilter filter = StringUtils.hasText(fields)
+                ? SimpleBeanPropertyFilter.filterOutAllExcept(selectedFields(elementType, fields))
+                : SimpleBeanPropertyFilter.serializeAll();
+        return objectMapper.writerFor(elementType)
+                .with(new SimpleFilterProvider().addFilter(FIELDS_FILTER, filter))
+                // One flush per element would send one chunk per element
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    private Set<String> selectedFields(Class<?> elementType, String fields) {
+        Set<String> known = propertyNames.computeIfAbsent(elementType, this::introspectPropertyNames);
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : StringUtils.commaDelimitedListToSet(fields)) {
+            if (StringUtils.hasText(field)) {
+                selected.add(field.trim());
+            }
+        }
+        Set<String> unknown = selected.stream()
+                .filter(field -> !known.contains(field))
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (!unknown.isEmpty()) {
+            throw new BadRequestException("Unknown fields " + unknown + "; available fields are " + known);
+        }
+        return selected;
+    }
+
+    private Set<String> introspectPropertyNames(Class<?> type) {
+        return objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(type))
+                .findProperties().stream()
+                .filter(BeanPropertyDefinition::couldSerialize)
+                .map(BeanPropertyDefinition::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    @JsonFilter(FIELDS_FILTER)
+    private static class FieldFilterMixIn {
+    }
+}
@@ -0,0 +1,113 @@
+package com.library.library_management_system.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback turbo filter capping how many events per second each logger category may emit.
+ * <p>
+ * Limits are configured in {@code logback-spring.xml} as {@code <limit>category=eventsPerSecond</limit>};
+ * a logger is governed by the limit of its longest matching category prefix. ERROR events are
+ * never dropped. Events over the limit are denied before a logging event is even created,
+ * so a burst of repeated messages costs no formatting or I/O.
+ */
+public class CategoryRateLimitFilter extends TurboFilter {
+
+    private static final Bucket UNLIMITED = new Bucket(Integer.MAX_VALUE);
+
+    private final Map<String, Integer> limits = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Bucket> bucketsByLogger = new ConcurrentHashMap<>();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    /**
+     * Adds a {@code category=eventsPerSecond} limit
+     */
+    public void addLimit(String limit) {
+        int separator = limit.lastIndexOf('=');
+        if (separator <= 0) {
+            addError("Rate limit must be category=eventsPerSecond, got: " + limit);
+            return;
+        }
+        try {
+            limits.put(limit.substring(0, separator).trim(), Integer.parseInt(limit.substring(separator + 1).trim()));
+            bucketsByLogger.clear();
+        } catch (NumberFormatException ex) {
+            addError("Invalid events per second in rate limit: " + limit);
+        }
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // Level checks (isDebugEnabled etc.) pass no format and are not events
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.ERROR)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Bucket bucket = bucketsByLogger.computeIfAbsent(logger.getName(), this::bucketFor);
+        if (bucket == UNLIMITED || bucket.tryAcquire(System.currentTimeMillis())) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * Events dropped since startup, across all categories
+     */
+    public long getSuppressedCount() {
+        return suppressed.get();
+    }
+
+    private Bucket bucketFor(String loggerName) {
+        String category = null;
+        for (String candidate : limits.keySet()) {
+            boolean matches = loggerName.equals(candidate) || loggerName.startsWith(candidate + ".");
+            if (matches && (category == null || candidate.length() > category.length())) {
+                category = candidate;
+            }
+        }
+        if (category == null) {
+            return UNLIMITED;
+        }
+        // Loggers under one category share its budget
+        int eventsPerSecond = limits.get(category);
+        return buckets.computeIfAbsent(category, key -> new Bucket(eventsPerSecond));
+    }
+
+    /**
+     * Fixed one-second window counter
+     */
+    private static final class Bucket {
+
+        private final int eventsPerSecond;
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile long window;
+
+        Bucket(int eventsPerSecond) {
+            this.eventsPerSecond = eventsPerSecond;
+        }
+
+        boolean tryAcquire(long nowMillis) {
+            long current = nowMillis / 1000;
+            if (current != window) {
+                synchronized (this) {
+                    if (current != window) {
+                        count.set(0);
+                        window = current;
+                    }
+                }
+            }
+            return count.incrementAndGet() <= eventsPerSecond;
+        }
+    }
+}
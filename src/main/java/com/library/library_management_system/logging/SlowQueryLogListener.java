@@ -0,0 +1,57 @@
+package com.library.library_management_system.logging;
+
+import com.library.library_management_system.config.SqlLogConfig;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Logs statements slower than {@code library.sql-log.slow-threshold}, plus an optional random
+ * sample of the rest, to the {@code library.sql} category.
+ * <p>
+ * Replaces always-on Hibernate SQL and bind-parameter logging: fast statements cost one
+ * comparison, and bind values (which may hold personal data) are never written.
+ */
+@Slf4j(topic = "library.sql")
+public class SlowQueryLogListener implements QueryExecutionListener {
+
+    private final long slowThresholdMillis;
+    private final double sampleRate;
+    private final int maxSqlLength;
+
+    public SlowQueryLogListener(SqlLogConfig config) {
+        this.slowThresholdMillis = config.getSlowThreshold().toMillis();
+        this.sampleRate = config.getSampleRate();
+        this.maxSqlLength = config.getMaxSqlLength();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        if (elapsed >= slowThresholdMillis) {
+            if (log.isWarnEnabled()) {
+                log.warn("Slow SQL ({} ms, batch size {}, success {}): {}",
+                        elapsed, execInfo.getBatchSize(), execInfo.isSuccess(), sql(queryInfoList));
+            }
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && log.isInfoEnabled()) {
+            log.info("Sampled SQL ({} ms): {}", elapsed, sql(queryInfoList));
+        }
+    }
+
+    private String sql(List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.stream()
+                .map(QueryInfo::getQuery)
+                .collect(Collectors.joining("; "))
+                .replaceAll("\\s+", " ");
+        return sql.length() > maxSqlLength ? sql.substring(0, maxSqlLength) + "..." : sql;
+    }
+}
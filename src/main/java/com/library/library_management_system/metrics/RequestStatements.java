@@ -0,0 +1,96 @@
+package com.library.library_management_system.metrics;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * SQL statements run on behalf of the current request: how many, rows read or written, time
+ * spent in the driver and how often each query shape ran.
+ * <p>
+ * Bound to the request thread by {@link StatementBudgetFilter}; statements of scheduled jobs
+ * and {@code @Async} work are not attributed to any request.
+ */
+@Getter
+public class RequestStatements {
+
+    private static final ThreadLocal<RequestStatements> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int statements;
+    private long rows;
+    private long elapsedMillis;
+    // Sum of the @StatementBudget of the endpoint methods invoked; null when none declared one
+    private Integer budget;
+    // GraphQL root fields resolved by the request
+    private final Set<String> operations = new LinkedHashSet<>();
+    private final Map<String, Integer> shapes = new LinkedHashMap<>();
+
+    public static RequestStatements current() {
+        return CURRENT.get();
+    }
+
+    static RequestStatements begin() {
+        RequestStatements statements = new RequestStatements();
+        CURRENT.set(statements);
+        return statements;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * One round trip to the database; a JDBC batch carries several queries
+     */
+    void recordExecution(List<String> queries, long elapsedMillis, long updatedRows) {
+        statements++;
+        this.elapsedMillis += elapsedMillis;
+        rows += updatedRows;
+        queries.forEach(query -> shapes.merge(shape(query), 1, Integer::sum));
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    void addBudget(int statementBudget) {
+        budget = budget == null ? statementBudget : budget + statementBudget;
+    }
+
+    public void addOperation(String operation) {
+        operations.add(operation);
+    }
+
+    /**
+     * Query shapes run at least {@code threshold} times, most frequent first: the signature of
+     * lazy loads in a loop (N+1)
+     */
+    Map<String, Integer> repeatedShapes(int threshold) {
+        return shapes.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /**
+     * The query with literals replaced by ? and IN lists collapsed, so the same query with
+     * different arguments has the same shape
+     */
+    static String shape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase();
+    }
+}
@@ -0,0 +1,64 @@
+package com.library.library_management_system.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Logs how long the application took to become ready and how it was started (AOT, CDS).
+ * <p>
+ * The fast-start build profile starts the application with library.startup.report-file and
+ * library.startup.exit-when-ready set, to append one measurement per variant and exit.
+ */
+@Component
+@Slf4j
+public class StartupTimeReporter {
+
+    @Value("${library.startup.label:jvm}")
+    private String label;
+
+    @Value("${library.startup.report-file:}")
+    private String reportFile;
+
+    @Value("${library.startup.exit-when-ready:false}")
+    private boolean exitWhenReady;
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        long readyMillis = event.getTimeTaken().toMillis();
+        long uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        int loadedClasses = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+        boolean aot = AotDetector.useGeneratedArtifacts();
+        boolean cds = ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .anyMatch(argument -> argument.startsWith("-XX:SharedArchiveFile"));
+        log.info("Ready in {} ms (JVM up {} ms, {} classes loaded, AOT {}, CDS archive {})",
+                readyMillis, uptimeMillis, loadedClasses, aot, cds);
+
+        if (!reportFile.isEmpty()) {
+            String line = String.format("%-12s ready %6d ms  jvm uptime %6d ms  classes %6d  aot %-5s  cds %s%n",
+                    label, readyMillis, uptimeMillis, loadedClasses, aot, cds);
+            try {
+                Path file = Path.of(reportFile);
+                Files.createDirectories(file.toAbsolutePath().getParent());
+                Files.writeString(file, line, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException ex) {
+                log.warn("Could not write startup report to {}: {}", reportFile, ex.getMessage());
+            }
+        }
+        if (exitWhenReady) {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+}
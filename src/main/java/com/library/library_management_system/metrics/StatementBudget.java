@@ -0,0 +1,20 @@
+package com.library.library_management_system.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements a request may run when it goes through this controller or
+ * GraphQL resolver method. A GraphQL operation selecting several root fields gets the sum of
+ * their budgets; endpoints without a budget get library.sql-budget.default-budget.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface StatementBudget {
+
+    int value();
+}
@@ -0,0 +1,23 @@
+package com.library.library_management_system.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the {@link StatementBudget} of invoked endpoint methods to the current request
+ */
+@Aspect
+@Component
+public class StatementBudgetAspect {
+
+    @Around("@annotation(budget)")
+    public Object declareBudget(ProceedingJoinPoint joinPoint, StatementBudget budget) throws Throwable {
+        RequestStatements statements = RequestStatements.current();
+        if (statements != null) {
+            statements.addBudget(budget.value());
+        }
+        return joinPoint.proceed();
+    }
+}
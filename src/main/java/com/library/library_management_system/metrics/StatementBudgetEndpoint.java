@@ -0,0 +1,24 @@
+package com.library.library_management_system.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * /actuator/sqlbudget: statement budget and observed statement counts per endpoint
+ */
+@Component
+@Endpoint(id = "sqlbudget")
+@RequiredArgsConstructor
+public class StatementBudgetEndpoint {
+
+    private final StatementBudgetMonitor monitor;
+
+    @ReadOperation
+    public Map<String, StatementBudgetMonitor.EndpointSummary> budgets() {
+        return monitor.summaries();
+    }
+}
@@ -0,0 +1,12 @@
+package com.library.library_management_system.metrics;
+
+/**
+ * Thrown when a request ran more SQL statements than its budget and
+ * library.sql-budget.fail-on-violation is set
+ */
+public class StatementBudgetExceededException extends IllegalStateException {
+
+    public StatementBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,59 @@
+package com.library.library_management_system.metrics;
+
+import com.library.library_management_system.config.StatementBudgetConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements of each request and hands them to {@link StatementBudgetMonitor}.
+ * Runs after the security filter chain, so authentication lookups are not part of any budget.
+ * <p>
+ * REST requests are reported as "METHOD /pattern", GraphQL requests as the root fields they
+ * resolved; requests that reached no handler are not reported.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    private final StatementBudgetConfig config;
+    private final StatementBudgetMonitor monitor;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestStatements statements = RequestStatements.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatements.end();
+        }
+
+        String endpoint = endpoint(request, statements);
+        if (endpoint != null) {
+            monitor.record(endpoint, statements);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !config.isEnabled();
+    }
+
+    private static String endpoint(HttpServletRequest request, RequestStatements statements) {
+        if (!statements.getOperations().isEmpty()) {
+            return "graphql " + String.join(",", statements.getOperations());
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? request.getMethod() + " " + pattern : null;
+    }
+}
@@ -0,0 +1,116 @@
+package com.library.library_management_system.metrics;
+
+import com.library.library_management_system.config.StatementBudgetConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Checks each request's statements against its endpoint's budget, flags repeated query shapes
+ * as N+1 and keeps per-endpoint totals for the sqlbudget actuator endpoint
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatementBudgetMonitor {
+
+    public static final String STATEMENTS_METRIC = "library.sql.statements";
+    public static final String ROWS_METRIC = "library.sql.rows";
+    public static final String TIME_METRIC = "library.sql.time";
+    public static final String BUDGET_EXCEEDED_COUNTER = "library.sql.budget.exceeded";
+    public static final String N_PLUS_ONE_COUNTER = "library.sql.nplusone";
+
+    private final StatementBudgetConfig config;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, EndpointTotals> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, RequestStatements statements) {
+        int budget = statements.getBudget() != null ? statements.getBudget() : config.getDefaultBudget();
+        int count = statements.getStatements();
+
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("SQL statements per request")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(count);
+        DistributionSummary.builder(ROWS_METRIC)
+                .description("Rows read or written per request")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(statements.getRows());
+        Timer.builder(TIME_METRIC)
+                .description("Time spent executing SQL per request")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(Duration.ofMillis(statements.getElapsedMillis()));
+
+        Map<String, Integer> repeated = statements.repeatedShapes(config.getRepeatedQueryThreshold());
+        if (!repeated.isEmpty()) {
+            meterRegistry.counter(N_PLUS_ONE_COUNTER, "endpoint", endpoint).increment();
+            repeated.forEach((shape, times) ->
+                    log.warn("Possible N+1 in {}: {} executions of {}", endpoint, times, shape));
+        }
+
+        boolean exceeded = count > budget;
+        endpoints.computeIfAbsent(endpoint, key -> new EndpointTotals()).add(budget, count, exceeded, !repeated.isEmpty());
+
+        if (exceeded) {
+            meterRegistry.counter(BUDGET_EXCEEDED_COUNTER, "endpoint", endpoint).increment();
+            String message = String.format("%s ran %d SQL statements, budget is %d", endpoint, count, budget);
+            if (config.isFailOnViolation()) {
+                throw new StatementBudgetExceededException(message);
+            }
+            log.warn(message);
+        } else {
+            log.debug("{}: {} statements, {} rows, {} ms in SQL (budget {})",
+                    endpoint, count, statements.getRows(), statements.getElapsedMillis(), budget);
+        }
+    }
+
+    /**
+     * Budget and observed statement counts of every endpoint called so far
+     */
+    public Map<String, EndpointSummary> summaries() {
+        Map<String, EndpointSummary> summaries = new TreeMap<>();
+        endpoints.forEach((endpoint, totals) -> summaries.put(endpoint, totals.summary()));
+        return summaries;
+    }
+
+    public record EndpointSummary(int budget, long requests, int maxStatements, double averageStatements,
+                                  long budgetExceeded, long nPlusOneSuspected) {
+    }
+
+    private static class EndpointTotals {
+
+        private int budget;
+        private long requests;
+        private long statements;
+        private int maxStatements;
+        private long budgetExceeded;
+        private long nPlusOneSuspected;
+
+        synchronized void add(int budget, int count, boolean exceeded, boolean repeated) {
+            this.budget = budget;
+            requests++;
+            statements += count;
+            maxStatements = Math.max(maxStatements, count);
+            budgetExceeded += exceeded ? 1 : 0;
+            nPlusOneSuspected += repeated ? 1 : 0;
+        }
+
+        synchronized EndpointSummary summary() {
+            return new EndpointSummary(budget, requests, maxStatements,
+                    requests == 0 ? 0 : (double) statements / requests, budgetExceeded, nPlusOneSuspected);
+        }
+    }
+}
@@ -3,23 +3,32 @@ package com.library.library_management_system.repository;
 import com.library.library_management_system.entity.Book;
 import com.library.library_management_system.enums.BookStatus;
 import com.library.library_management_system.enums.Genre;
+import com.library.library_management_system.repository.projection.BookAvailabilityStats;
+import com.library.library_management_system.repository.projection.GenreBookStats;
+import com.library.library_management_system.repository.projection.GenreBorrowStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
- * Repository for Book entity with custom queries and native SQL
+ * Repository for Book entity with custom queries and native SQL.
+ * Native UPDATEs declare their table as query space so Hibernate only invalidates the
+ * affected cache regions instead of the whole second-level cache.
  */
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends NaturalIdRepository<Book, Long> {
 
     // ============= Basic CRUD Operations =============
 
@@ -27,6 +36,8 @@ public interface BookRepository extends JpaRepository<Book, Long> {
 
     boolean existsByIsbn(String isbn);
 
+    List<Book> findAllByIsbnIn(Collection<String> isbns);
+
     List<Book> findByGenre(Genre genre);
 
     List<Book> findByIsActiveTrue();
@@ -103,32 +114,38 @@ public interface BookRepository extends JpaRepository<Book, Long> {
      */
     @Query(value = """
         SELECT 
-            COUNT(*) as total_books,
-            SUM(b.total_copies) as total_copies,
-            SUM(b.available_copies) as available_copies,
-            SUM(b.total_copies - b.available_copies) as borrowed_copies,
-            COUNT(CASE WHEN b.available_copies = 0 THEN 1 END) as out_of_stock_books
+            COUNT(*) AS totalBooks,
+            COALESCE(SUM(b.total_copies), 0) AS totalCopies,
+            COALESCE(SUM(b.available_copies), 0) AS availableCopies,
+            COALESCE(SUM(b.total_copies - b.available_copies), 0) AS borrowedCopies,
+            COUNT(CASE WHEN b.available_copies = 0 THEN 1 END) AS outOfStockBooks
         FROM books b 
         WHERE b.is_active = true
         """, nativeQuery = true)
-    Object[] getBookAvailabilityStats();
+    BookAvailabilityStats getBookAvailabilityStats();
 
     /**
      * Find books by genre with availability info using native SQL
      */
     @Query(value = """
         SELECT 
-            b.*,
-            COUNT(br.id) as total_borrows,
-            COUNT(CASE WHEN br.status = 'BORROWED' THEN 1 END) as current_borrows
+            b.id AS bookId,
+            b.title AS title,
+            b.author AS author,
+            b.isbn AS isbn,
+            b.total_copies AS totalCopies,
+            b.available_copies AS availableCopies,
+            COUNT(br.id) AS totalBorrows,
+            COUNT(CASE WHEN br.status = 'BORROWED' THEN 1 END) AS currentBorrows
         FROM books b 
         LEFT JOIN borrowing_records br ON b.id = br.book_id
         WHERE b.is_active = true 
         AND b.genre = :genre
         GROUP BY b.id
-        ORDER BY total_borrows DESC
+        ORDER BY totalBorrows DESC
+        LIMIT :limit
         """, nativeQuery = true)
-    List<Object[]> findBooksByGenreWithStats(@Param("genre") String genre);
+    List<GenreBookStats> findBooksByGenreWithStats(@Param("genre") String genre, @Param("limit") int limit);
 
     /**
      * Get recently added books using native SQL
@@ -145,6 +162,7 @@ public interface BookRepository extends JpaRepository<Book, Long> {
      * Update book availability using native SQL
      */
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "books"))
     @Query(value = """
         UPDATE books SET 
             available_copies = available_copies - 1,
@@ -162,7 +180,8 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     /**
      * Return book (increment availability) using native SQL
      */
-    @Modifying
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "books"))
     @Query(value = """
         UPDATE books SET 
             available_copies = available_copies + 1,
@@ -204,25 +223,45 @@ public interface BookRepository extends JpaRepository<Book, Long> {
      */
     @Query(value = """
         SELECT 
-            b.genre,
-            COUNT(br.id) as total_borrows,
-            COUNT(DISTINCT b.id) as unique_books
+            b.genre AS genre,
+            COUNT(br.id) AS totalBorrows,
+            COUNT(DISTINCT b.id) AS uniqueBooks
         FROM books b 
         INNER JOIN borrowing_records br ON b.id = br.book_id
         WHERE b.is_active = true
         GROUP BY b.genre
-        ORDER BY total_borrows DESC
+        ORDER BY totalBorrows DESC
         """, nativeQuery = true)
-    List<Object[]> getPopularGenreStats();
+    List<GenreBorrowStats> getPopularGenreStats();
 
     // ============= JPA Query Methods =============
 
     List<Book> findByStatus(BookStatus status);
 
     @Query("SELECT b FROM Book b WHERE b.isActive = true AND b.availableCopies > 0")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Book> findAvailableBooks();
 
+    // ============= Streaming Queries =============
+    // Rows are fetched in batches (server-side cursor with useCursorFetch on MySQL) and the
+    // caller must consume the stream inside a transaction and close it
+
+    @Query("SELECT b FROM Book b WHERE b.isActive = true AND b.availableCopies > 0 ORDER BY b.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Book> streamAvailableBooks();
+
+    @Query("SELECT b FROM Book b WHERE b.genre = :genre ORDER BY b.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Book> streamByGenre(@Param("genre") Genre genre);
+
     @Query("SELECT COUNT(b) FROM Book b WHERE b.genre = :genre AND b.isActive = true")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     long countBooksByGenre(@Param("genre") Genre genre);
 
     @Query("SELECT b FROM Book b WHERE b.publicationDate >= :date AND b.isActive = true ORDER BY b.publicationDate DESC")
@@ -2,15 +2,29 @@ package com.library.library_management_system.repository;
 
 import com.library.library_management_system.entity.BorrowingRecord;
 import com.library.library_management_system.enums.BorrowStatus;
+import com.library.library_management_system.repository.projection.ArchiveSummary;
+import com.library.library_management_system.repository.projection.BookBorrowStats;
+import com.library.library_management_system.repository.projection.BorrowingCapacity;
+import com.library.library_management_system.repository.projection.BorrowingHistoryView;
+import com.library.library_management_system.repository.projection.LibraryMetric;
+import com.library.library_management_system.repository.projection.MemberActivityStats;
+import com.library.library_management_system.repository.projection.MonthlyBorrowingTrend;
+import com.library.library_management_system.repository.projection.OverdueStatistics;
+import com.library.library_management_system.repository.projection.UserFineSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,77 +40,115 @@ public interface BorrowingRecordRepository extends JpaRepository<BorrowingRecord
 
     List<BorrowingRecord> findByBookId(Long bookId);
 
+    @EntityGraph(BorrowingRecord.WITH_BOOK_AND_USER)
     List<BorrowingRecord> findByStatus(BorrowStatus status);
 
+    @Override
+    @EntityGraph(BorrowingRecord.WITH_BOOK_AND_USER)
+    Page<BorrowingRecord> findAll(Pageable pageable);
+
+    long countByStatus(BorrowStatus status);
+
     // ============= User Borrowing History Queries =============
 
     /**
-     * Get user's borrowing history with pagination using native SQL
+     * Get user's borrowing history with pagination, newest first
      */
     @Query(value = """
-        SELECT br.*, b.title as book_title, b.author as book_author
-        FROM borrowing_records br
-        INNER JOIN books b ON br.book_id = b.id
-        WHERE br.user_id = :userId
-        ORDER BY br.borrow_date DESC
-        """, nativeQuery = true)
-    Page<Object[]> findUserBorrowingHistory(@Param("userId") Long userId, Pageable pageable);
+        SELECT new com.library.library_management_system.repository.projection.BorrowingHistoryRow(
+            br.id, br.borrowDate, br.dueDate, br.returnDate, br.status, br.fineAmount,
+            br.renewalCount, br.maxRenewalsAllowed, br.notes, br.issuedBy, br.returnedTo,
+            b.id, b.title, b.author, b.isbn,
+            u.id, u.username, u.fullName,
+            br.createdAt, br.updatedAt)
+        FROM BorrowingRecord br
+        JOIN br.book b
+        JOIN br.user u
+        WHERE u.id = :userId
+        ORDER BY br.borrowDate DESC, br.id DESC
+        """,
+        countQuery = "SELECT COUNT(br) FROM BorrowingRecord br WHERE br.user.id = :userId")
+    Page<BorrowingHistoryView> findUserBorrowingHistory(@Param("userId") Long userId, Pageable pageable);
 
     /**
-     * Get user's currently borrowed books using native SQL
+     * Get book's borrowing history with pagination, newest first
      */
     @Query(value = """
-        SELECT br.*, b.title, b.author, b.isbn
-        FROM borrowing_records br
-        INNER JOIN books b ON br.book_id = b.id
-        WHERE br.user_id = :userId 
+        SELECT new com.library.library_management_system.repository.projection.BorrowingHistoryRow(
+            br.id, br.borrowDate, br.dueDate, br.returnDate, br.status, br.fineAmount,
+            br.renewalCount, br.maxRenewalsAllowed, br.notes, br.issuedBy, br.returnedTo,
+            b.id, b.title, b.author, b.isbn,
+            u.id, u.username, u.fullName,
+            br.createdAt, br.updatedAt)
+        FROM BorrowingRecord br
+        JOIN br.book b
+        JOIN br.user u
+        WHERE b.id = :bookId
+        ORDER BY br.borrowDate DESC, br.id DESC
+        """,
+        countQuery = "SELECT COUNT(br) FROM BorrowingRecord br WHERE br.book.id = :bookId")
+    Page<BorrowingHistoryView> findBookBorrowingHistory(@Param("bookId") Long bookId, Pageable pageable);
+
+    /**
+     * Get user's currently borrowed books
+     */
+    @Query("""
+        SELECT new com.library.library_management_system.repository.projection.BorrowingHistoryRow(
+            br.id, br.borrowDate, br.dueDate, br.returnDate, br.status, br.fineAmount,
+            br.renewalCount, br.maxRenewalsAllowed, br.notes, br.issuedBy, br.returnedTo,
+            b.id, b.title, b.author, b.isbn,
+            u.id, u.username, u.fullName,
+            br.createdAt, br.updatedAt)
+        FROM BorrowingRecord br
+        JOIN br.book b
+        JOIN br.user u
+        WHERE u.id = :userId
         AND br.status = 'BORROWED'
-        ORDER BY br.due_date ASC
-        """, nativeQuery = true)
-    List<Object[]> findUserCurrentBorrowedBooks(@Param("userId") Long userId);
+        ORDER BY br.dueDate ASC
+        """)
+    List<BorrowingHistoryView> findUserCurrentBorrowedBooks(@Param("userId") Long userId);
 
     /**
      * Check if user can borrow more books using native SQL
      */
     @Query(value = """
         SELECT 
-            u.max_books_allowed,
-            COUNT(br.id) as current_borrowed
+            u.max_books_allowed AS maxBooksAllowed,
+            COUNT(br.id) AS currentBorrowed
         FROM users u
         LEFT JOIN borrowing_records br ON u.id = br.user_id 
             AND br.status = 'BORROWED'
         WHERE u.id = :userId
         GROUP BY u.id, u.max_books_allowed
         """, nativeQuery = true)
-    Object[] getUserBorrowingCapacity(@Param("userId") Long userId);
+    BorrowingCapacity getUserBorrowingCapacity(@Param("userId") Long userId);
 
     // ============= Overdue Management Queries =============
 
     /**
-     * Find all overdue books using native SQL
+     * Find all overdue books, most overdue first
      */
-    @Query(value = """
-        SELECT 
-            br.*,
-            u.username,
-            u.full_name,
-            u.email,
-            b.title,
-            b.author,
-            DATEDIFF(CURRENT_DATE, br.due_date) as days_overdue
-        FROM borrowing_records br
-        INNER JOIN users u ON br.user_id = u.id
-        INNER JOIN books b ON br.book_id = b.id
+    @Query("""
+        SELECT new com.library.library_management_system.repository.projection.BorrowingHistoryRow(
+            br.id, br.borrowDate, br.dueDate, br.returnDate, br.status, br.fineAmount,
+            br.renewalCount, br.maxRenewalsAllowed, br.notes, br.issuedBy, br.returnedTo,
+            b.id, b.title, b.author, b.isbn,
+            u.id, u.username, u.fullName,
+            br.createdAt, br.updatedAt)
+        FROM BorrowingRecord br
+        JOIN br.book b
+        JOIN br.user u
         WHERE br.status IN ('BORROWED', 'OVERDUE')
-        AND br.due_date < CURRENT_DATE
-        ORDER BY days_overdue DESC
-        """, nativeQuery = true)
-    List<Object[]> findOverdueBooks();
+        AND br.dueDate < CURRENT_DATE
+        ORDER BY br.dueDate ASC
+        """)
+    List<BorrowingHistoryView> findOverdueBooks();
 
     /**
      * Update overdue records status using native SQL
      */
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "borrowing_records"))
     @Query(value = """
         UPDATE borrowing_records SET 
             status = 'OVERDUE',
@@ -111,14 +163,14 @@ public interface BorrowingRecordRepository extends JpaRepository<BorrowingRecord
      */
     @Query(value = """
         SELECT 
-            COUNT(*) as total_overdue,
-            COUNT(DISTINCT br.user_id) as unique_users,
-            AVG(DATEDIFF(CURRENT_DATE, br.due_date)) as avg_days_overdue,
-            SUM(br.fine_amount) as total_fines
+            COUNT(*) AS totalOverdue,
+            COUNT(DISTINCT br.user_id) AS uniqueUsers,
+            AVG(TIMESTAMPDIFF(DAY, br.due_date, CURRENT_DATE)) AS averageDaysOverdue,
+            COALESCE(SUM(br.fine_amount), 0) AS totalFines
         FROM borrowing_records br
         WHERE br.status = 'OVERDUE'
         """, nativeQuery = true)
-    Object[] getOverdueStatistics();
+    OverdueStatistics getOverdueStatistics();
 
     // ============= Popular Books and Analytics =============
 
@@ -127,42 +179,44 @@ public interface BorrowingRecordRepository extends JpaRepository<BorrowingRecord
      */
     @Query(value = """
         SELECT 
-            b.id,
-            b.title,
-            b.author,
-            b.isbn,
-            b.genre,
-            COUNT(br.id) as total_borrows,
-            COUNT(DISTINCT br.user_id) as unique_borrowers,
+            b.id AS bookId,
+            b.title AS title,
+            b.author AS author,
+            b.isbn AS isbn,
+            b.genre AS genre,
+            COUNT(br.id) AS totalBorrows,
+            COUNT(DISTINCT br.user_id) AS uniqueBorrowers,
             AVG(CASE 
                 WHEN br.return_date IS NOT NULL 
-                THEN DATEDIFF(br.return_date, br.borrow_date)
+                THEN TIMESTAMPDIFF(DAY, br.borrow_date, br.return_date)
                 ELSE NULL 
-            END) as avg_borrow_duration
+            END) AS averageBorrowDuration
         FROM books b
         INNER JOIN borrowing_records br ON b.id = br.book_id
         WHERE b.is_active = true
         GROUP BY b.id
-        ORDER BY total_borrows DESC
+        ORDER BY totalBorrows DESC
         LIMIT :limit
         """, nativeQuery = true)
-    List<Object[]> getMostBorrowedBooksWithStats(@Param("limit") int limit);
+    List<BookBorrowStats> getMostBorrowedBooksWithStats(@Param("limit") int limit);
 
     /**
      * Get borrowing trends by month using native SQL
      */
     @Query(value = """
         SELECT 
-            DATE_FORMAT(br.borrow_date, '%Y-%m') as month,
-            COUNT(*) as total_borrows,
-            COUNT(DISTINCT br.user_id) as unique_users,
-            COUNT(DISTINCT br.book_id) as unique_books
+            DATE_FORMAT(br.borrow_date, '%Y-%m') AS month,
+            COUNT(*) AS totalBorrows,
+            COUNT(DISTINCT br.user_id) AS uniqueUsers,
+            COUNT(DISTINCT br.book_id) AS uniqueBooks,
+            COUNT(CASE WHEN br.return_date <= br.due_date THEN 1 END) AS onTimeReturns,
+            COUNT(CASE WHEN br.return_date > br.due_date THEN 1 END) AS lateReturns
         FROM borrowing_records br
         WHERE br.borrow_date >= :startDate
         GROUP BY DATE_FORMAT(br.borrow_date, '%Y-%m')
         ORDER BY month DESC
         """, nativeQuery = true)
-    List<Object[]> getBorrowingTrendsByMonth(@Param("startDate") LocalDate startDate);
+    List<MonthlyBorrowingTrend> getBorrowingTrendsByMonth(@Param("startDate") LocalDate startDate);
 
     // ============= Active Members Analytics =============
 
@@ -171,28 +225,28 @@ public interface BorrowingRecordRepository extends JpaRepository<BorrowingRecord
      */
     @Query(value = """
         SELECT 
-            u.id,
-            u.username,
-            u.full_name,
-            u.email,
-            COUNT(br.id) as total_borrows,
-            COUNT(CASE WHEN br.status = 'RETURNED' THEN 1 END) as returned_books,
-            COUNT(CASE WHEN br.status = 'OVERDUE' THEN 1 END) as overdue_books,
+            u.id AS userId,
+            u.username AS username,
+            u.full_name AS fullName,
+            u.email AS email,
+            COUNT(br.id) AS totalBorrows,
+            COUNT(CASE WHEN br.status = 'RETURNED' THEN 1 END) AS returnedBooks,
+            COUNT(CASE WHEN br.status = 'OVERDUE' THEN 1 END) AS overdueBooks,
             AVG(CASE 
                 WHEN br.return_date IS NOT NULL 
-                THEN DATEDIFF(br.return_date, br.borrow_date)
+                THEN TIMESTAMPDIFF(DAY, br.borrow_date, br.return_date)
                 ELSE NULL 
-            END) as avg_borrow_duration,
-            SUM(br.fine_amount) as total_fines
+            END) AS averageBorrowDuration,
+            SUM(br.fine_amount) AS totalFines
         FROM users u
         INNER JOIN borrowing_records br ON u.id = br.user_id
         WHERE u.is_active = true
         AND br.borrow_date >= :startDate
         GROUP BY u.id
-        ORDER BY total_borrows DESC
+        ORDER BY totalBorrows DESC
         LIMIT :limit
         """, nativeQuery = true)
-    List<Object[]> getMostActiveMembers(@Param("startDate") LocalDate startDate, @Param("limit") int limit);
+    List<MemberActivityStats> getMostActiveMembers(@Param("startDate") LocalDate startDate, @Param("limit") int limit);
 
     // ============= Fine Management =============
 
@@ -200,9 +254,10 @@ public interface BorrowingRecordRepository extends JpaRepository<BorrowingRecord
      * Calculate and update fines for overdue books using native SQL
      */
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "borrowing_records"))
     @Query(value = """
         UPDATE borrowing_records SET 
-            fine_amount = DATEDIFF(CURRENT_DATE, due_date) * :finePerDay,
+            fine_amount = TIMESTAMPDIFF(DAY, due_date, CURRENT_DATE) * :finePerDay,
             updated_at = CURRENT_TIMESTAMP
         WHERE status = 'OVERDUE' 
         AND due_date < CURRENT_DATE
@@ -214,45 +269,58 @@ public interface BorrowingRecordRepository extends JpaRepository<BorrowingRecord
      */
     @Query(value = """
         SELECT 
-            u.id,
-            u.username,
-            u.full_name,
-            u.email,
-            SUM(br.fine_amount) as total_fines,
-            COUNT(br.id) as overdue_books
+            u.id AS userId,
+            u.username AS username,
+            u.full_name AS fullName,
+            u.email AS email,
+            SUM(br.fine_amount) AS totalFines,
+            COUNT(br.id) AS finedLoans
         FROM users u
         INNER JOIN borrowing_records br ON u.id = br.user_id
         WHERE br.fine_amount > 0
         AND br.status IN ('OVERDUE', 'RETURNED')
         GROUP BY u.id
-        HAVING total_fines > 0
-        ORDER BY total_fines DESC
+        ORDER BY totalFines DESC
         """, nativeQuery = true)
-    List<Object[]> getUsersWithOutstandingFines();
+    List<UserFineSummary> getUsersWithOutstandingFines();
+
+    @Query("""
+        SELECT COUNT(br) > 0 FROM BorrowingRecord br
+        WHERE br.user.id = :userId
+        AND br.fineAmount > 0
+        AND br.status IN ('OVERDUE', 'RETURNED')
+        """)
+    boolean hasOutstandingFines(@Param("userId") Long userId);
 
     // ============= Book Return Operations =============
 
     /**
-     * Return a book using native SQL
+     * Return a book using native SQL. Only open loans match, so of two concurrent
+     * returns of the same record exactly one updates a row. A fine already assessed on the
+     * loan (e.g. by updateOverdueFines) is never lowered.
      */
-    @Modifying
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "borrowing_records"))
     @Query(value = """
         UPDATE borrowing_records SET 
             return_date = CURRENT_DATE,
             status = 'RETURNED',
             returned_to = :returnedTo,
-            fine_amount = CASE 
-                WHEN due_date < CURRENT_DATE 
-                THEN DATEDIFF(CURRENT_DATE, due_date) * :finePerDay
-                ELSE 0 
-            END,
-            updated_at = CURRENT_TIMESTAMP
+            notes = COALESCE(:notes, notes),
+            fine_amount = GREATEST(COALESCE(fine_amount, 0), CASE
+                WHEN due_date < CURRENT_DATE
+                THEN TIMESTAMPDIFF(DAY, due_date, CURRENT_DATE) * :finePerDay
+                ELSE 0
+            END),
+            updated_at = CURRENT_TIMESTAMP,
+            updated_by = :returnedTo
         WHERE id = :recordId 
         AND status IN ('BORROWED', 'OVERDUE', 'RENEWED')
         """, nativeQuery = true)
     int returnBook(
             @Param("recordId") Long recordId,
             @Param("returnedTo") String returnedTo,
+            @Param("notes") String notes,
             @Param("finePerDay") double finePerDay
     );
 
@@ -260,9 +328,10 @@ public interface BorrowingRecordRepository extends JpaRepository<BorrowingRecord
      * Renew a book borrowing using native SQL
      */
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "borrowing_records"))
     @Query(value = """
         UPDATE borrowing_records SET 
-            due_date = DATE_ADD(due_date, INTERVAL :additionalDays DAY),
+            due_date = TIMESTAMPADD(DAY, :additionalDays, due_date),
             renewal_count = renewal_count + 1,
             status = 'RENEWED',
             updated_at = CURRENT_TIMESTAMP
@@ -280,29 +349,29 @@ public interface BorrowingRecordRepository extends JpaRepository<BorrowingRecord
      */
     @Query(value = """
         SELECT 
-            'TOTAL_BORROWS' as metric,
-            COUNT(*) as value
+            'TOTAL_BORROWS' AS metric,
+            COUNT(*) AS value
         FROM borrowing_records
         UNION ALL
         SELECT 
-            'ACTIVE_BORROWS' as metric,
-            COUNT(*) as value
+            'ACTIVE_BORROWS' AS metric,
+            COUNT(*) AS value
         FROM borrowing_records 
         WHERE status = 'BORROWED'
         UNION ALL
         SELECT 
-            'OVERDUE_BORROWS' as metric,
-            COUNT(*) as value
+            'OVERDUE_BORROWS' AS metric,
+            COUNT(*) AS value
         FROM borrowing_records 
         WHERE status = 'OVERDUE'
         UNION ALL
         SELECT 
-            'TOTAL_FINES' as metric,
-            COALESCE(SUM(fine_amount), 0) as value
+            'TOTAL_FINES' AS metric,
+            COALESCE(SUM(fine_amount), 0) AS value
         FROM borrowing_records 
         WHERE fine_amount > 0
         """, nativeQuery = true)
-    List<Object[]> getLibraryStatistics();
+    List<LibraryMetric> getLibraryStatistics();
 
     // ============= JPA Query Methods =============
 
@@ -314,4 +383,130 @@ public interface BorrowingRecordRepository extends JpaRepository<BorrowingRecord
 
     @Query("SELECT br FROM BorrowingRecord br WHERE br.dueDate < :date AND br.status IN ('BORROWED', 'OVERDUE')")
     List<BorrowingRecord> findOverdueRecords(@Param("date") LocalDate date);
+
+    @Query("SELECT COUNT(br) FROM BorrowingRecord br WHERE br.dueDate < :date AND br.status IN ('BORROWED', 'OVERDUE')")
+    long countOverdueRecords(@Param("date") LocalDate date);
+
+    @Query("SELECT br FROM BorrowingRecord br JOIN FETCH br.book " +
+            "WHERE br.user.id IN :userIds AND br.dueDate <= :date AND br.status IN ('BORROWED', 'OVERDUE')")
+    List<BorrowingRecord> findOpenLoansDueBy(@Param("userIds") Collection<Long> userIds, @Param("date") LocalDate date);
+
+    @Query("SELECT br FROM BorrowingRecord br JOIN FETCH br.book JOIN FETCH br.user WHERE br.id = :id")
+    Optional<BorrowingRecord> findByIdWithBookAndUser(@Param("id") Long id);
+
+    // ============= Archive =============
+
+    /**
+     * Closed loans past the cutoff, oldest ids first. Returned loans with an unpaid fine
+     * stay live so hasOutstandingFines and getUsersWithOutstandingFines keep seeing them.
+     */
+    @Query(value = """
+        SELECT id FROM borrowing_records
+        WHERE (status = 'RETURNED' AND return_date < :cutoff AND COALESCE(fine_amount, 0) = 0)
+        OR (status = 'LOST' AND updated_at < :cutoff)
+        ORDER BY id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findArchivableIds(@Param("cutoff") LocalDate cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "borrowing_records_archive"))
+    @Query(value = """
+        INSERT INTO borrowing_records_archive (
+            id, user_id, book_id, borrow_date, due_date, return_date, status, fine_amount,
+            renewal_count, max_renewals_allowed, notes, issued_by, returned_to,
+            created_at, updated_at, created_by, updated_by,
+            archived_at)
+        SELECT id, user_id, book_id, borrow_date, due_date, return_date, status, fine_amount,
+            renewal_count, max_renewals_allowed, notes, issued_by, returned_to,
+            created_at, updated_at, created_by, updated_by,
+            CURRENT_TIMESTAMP
+        FROM borrowing_records WHERE id IN (:ids)
+        """, nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "borrowing_records"))
+    @Query(value = "DELETE FROM borrowing_records WHERE id IN (:ids)", nativeQuery = true)
+    int deleteArchivedRecords(@Param("ids") Collection<Long> ids);
+
+    // History across the live and archive tables. Archived loans are always older than live
+    // loans borrowed after the latest archived borrow date, so callers only need the union
+    // when a page reaches past those.
+
+    long countByUserId(Long userId);
+
+    long countByBookId(Long bookId);
+
+    long countByUserIdAndBorrowDateAfter(Long userId, LocalDate date);
+
+    long countByBookIdAndBorrowDateAfter(Long bookId, LocalDate date);
+
+    @Query(value = """
+        SELECT COUNT(*) AS total, MAX(borrow_date) AS latestBorrowDate
+        FROM borrowing_records_archive WHERE user_id = :userId
+        """, nativeQuery = true)
+    ArchiveSummary summarizeUserArchive(@Param("userId") Long userId);
+
+    @Query(value = """
+        SELECT COUNT(*) AS total, MAX(borrow_date) AS latestBorrowDate
+        FROM borrowing_records_archive WHERE book_id = :bookId
+        """, nativeQuery = true)
+    ArchiveSummary summarizeBookArchive(@Param("bookId") Long bookId);
+
+    /**
+     * One page of the union, joined to books and users only after the page has been cut.
+     * Archived loans keep no foreign keys, hence the outer joins.
+     */
+    @Query(value = """
+        SELECT h.id AS id, h.borrow_date AS borrowDate, h.due_date AS dueDate,
+            h.return_date AS returnDate, h.status AS status, h.fine_amount AS fineAmount,
+            h.renewal_count AS renewalCount, h.max_renewals_allowed AS maxRenewalsAllowed,
+            h.notes AS notes, h.issued_by AS issuedBy, h.returned_to AS returnedTo,
+            h.book_id AS bookId, b.title AS bookTitle, b.author AS bookAuthor, b.isbn AS bookIsbn,
+            h.user_id AS userId, u.username AS username, u.full_name AS userFullName,
+            h.created_at AS createdAt, h.updated_at AS updatedAt
+        FROM (
+            SELECT id, user_id, book_id, borrow_date, due_date, return_date, status, fine_amount,
+                renewal_count, max_renewals_allowed, notes, issued_by, returned_to, created_at, updated_at
+            FROM borrowing_records WHERE user_id = :userId
+            UNION ALL
+            SELECT id, user_id, book_id, borrow_date, due_date, return_date, status, fine_amount,
+                renewal_count, max_renewals_allowed, notes, issued_by, returned_to, created_at, updated_at
+            FROM borrowing_records_archive WHERE user_id = :userId
+            ORDER BY borrow_date DESC, id DESC
+            LIMIT :limit OFFSET :offset
+        ) h
+        LEFT JOIN books b ON b.id = h.book_id
+        LEFT JOIN users u ON u.id = h.user_id
+        ORDER BY h.borrow_date DESC, h.id DESC
+        """, nativeQuery = true)
+    List<BorrowingHistoryView> findUserHistoryIncludingArchive(@Param("userId") Long userId,
+            @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query(value = """
+        SELECT h.id AS id, h.borrow_date AS borrowDate, h.due_date AS dueDate,
+            h.return_date AS returnDate, h.status AS status, h.fine_amount AS fineAmount,
+            h.renewal_count AS renewalCount, h.max_renewals_allowed AS maxRenewalsAllowed,
+            h.notes AS notes, h.issued_by AS issuedBy, h.returned_to AS returnedTo,
+            h.book_id AS bookId, b.title AS bookTitle, b.author AS bookAuthor, b.isbn AS bookIsbn,
+            h.user_id AS userId, u.username AS username, u.full_name AS userFullName,
+            h.created_at AS createdAt, h.updated_at AS updatedAt
+        FROM (
+            SELECT id, user_id, book_id, borrow_date, due_date, return_date, status, fine_amount,
+                renewal_count, max_renewals_allowed, notes, issued_by, returned_to, created_at, updated_at
+            FROM borrowing_records WHERE book_id = :bookId
+            UNION ALL
+            SELECT id, user_id, book_id, borrow_date, due_date, return_date, status, fine_amount,
+                renewal_count, max_renewals_allowed, notes, issued_by, returned_to, created_at, updated_at
+            FROM borrowing_records_archive WHERE book_id = :bookId
+            ORDER BY borrow_date DESC, id DESC
+            LIMIT :limit OFFSET :offset
+        ) h
+        LEFT JOIN books b ON b.id = h.book_id
+        LEFT JOIN users u ON u.id = h.user_id
+        ORDER BY h.borrow_date DESC, h.id DESC
+        """, nativeQuery = true)
+    List<BorrowingHistoryView> findBookHistoryIncludingArchive(@Param("bookId") Long bookId,
+            @Param("limit") int limit, @Param("offset") long offset);
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.library.library_management_system.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for entities with a {@code @NaturalId}. Lookups by natural id go through
+ * Hibernate's natural-id cache instead of running a query.
+ */
+@NoRepositoryBean
+public interface NaturalIdRepository<T, ID> extends JpaRepository<T, ID> {
+
+    Optional<T> findBySimpleNaturalId(Object naturalId);
+
+    /**
+     * Like findAllById, but entities already in the persistence context or the second-level
+     * cache are not queried again; the rest are loaded with one IN query. Unknown ids are skipped.
+     */
+    List<T> findAllByIdCached(Collection<ID> ids);
+}
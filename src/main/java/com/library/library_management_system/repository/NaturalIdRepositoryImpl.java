@@ -0,0 +1,46 @@
+package com.library.library_management_system.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Repository base class (see DatabaseConfig) backing {@link NaturalIdRepository}
+ */
+public class NaturalIdRepositoryImpl<T, ID> extends SimpleJpaRepository<T, ID> implements NaturalIdRepository<T, ID> {
+
+    private final EntityManager entityManager;
+
+    public NaturalIdRepositoryImpl(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<T> findBySimpleNaturalId(Object naturalId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(getDomainClass())
+                .loadOptional(naturalId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<T> findAllByIdCached(Collection<ID> ids) {
+        Session session = entityManager.unwrap(Session.class);
+        // Without an explicit cache mode multiLoad skips the second-level cache
+        return session.byMultipleIds(getDomainClass())
+                .with(session.getCacheMode())
+                .enableSessionCheck(true)
+                .multiLoad(List.copyOf(ids)).stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -2,11 +2,14 @@ package com.library.library_management_system.repository;
 
 import com.library.library_management_system.entity.User;
 import com.library.library_management_system.enums.UserRole;
+import com.library.library_management_system.repository.projection.UserBorrowingStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,10 +21,12 @@ import java.util.Optional;
  * Repository for User entity with custom queries
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends NaturalIdRepository<User, Long> {
 
     // ============= Basic CRUD Operations =============
 
+    // Email is mutable, so it is looked up through the query cache rather than as a natural id
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
 
     Optional<User> findByUsername(String username);
@@ -30,6 +35,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByUsername(String username);
 
+    /**
+     * Username-or-email lookup served from the second-level cache: the username natural id
+     * first, then the cached email query. Unlike findByEmailOrUsername, inactive users are returned:
+     * callers must check isActive (CustomUserDetailsService rejects them, JwtAuthenticationFilter
+     * and WebSocketAuthInterceptor check the principal again).
+     */
+    default Optional<User> findByIdentifier(String identifier) {
+        return findBySimpleNaturalId(identifier).or(() -> findByEmail(identifier));
+    }
+
     // ============= Native SQL Queries =============
 
     /**
@@ -100,24 +115,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query(value = """
         SELECT 
-            u.id,
-            u.username,
-            u.full_name,
-            COUNT(CASE WHEN br.status = 'BORROWED' THEN 1 END) as currently_borrowed,
-            COUNT(CASE WHEN br.status = 'RETURNED' THEN 1 END) as total_returned,
-            COUNT(CASE WHEN br.status = 'OVERDUE' THEN 1 END) as overdue_count,
-            COALESCE(SUM(br.fine_amount), 0) as total_fines
+            u.id AS userId,
+            u.username AS username,
+            u.full_name AS fullName,
+            COUNT(br.id) AS totalBorrowed,
+            COUNT(CASE WHEN br.status = 'BORROWED' THEN 1 END) AS currentlyBorrowed,
+            COUNT(CASE WHEN br.status = 'RETURNED' THEN 1 END) AS totalReturned,
+            COUNT(CASE WHEN br.status = 'OVERDUE' THEN 1 END) AS overdueCount,
+            COALESCE(SUM(br.fine_amount), 0) AS totalFines
         FROM users u 
         LEFT JOIN borrowing_records br ON u.id = br.user_id
         WHERE u.id = :userId
         GROUP BY u.id, u.username, u.full_name
         """, nativeQuery = true)
-    Object[] getUserBorrowingStats(@Param("userId") Long userId);
+    UserBorrowingStats getUserBorrowingStats(@Param("userId") Long userId);
 
     /**
      * Update user active status using native SQL
      */
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
     @Query(value = """
         UPDATE users SET 
             is_active = :isActive,
@@ -170,6 +187,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByIsActiveFalse();
 
     @Query("SELECT COUNT(u) FROM User u WHERE u.role = :role AND u.isActive = true")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     long countActiveUsersByRole(@Param("role") UserRole role);
 
     @Query("SELECT u FROM User u WHERE u.membershipDate >= :date AND u.isActive = true")
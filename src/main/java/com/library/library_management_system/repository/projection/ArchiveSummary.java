@@ -0,0 +1,17 @@
+package com.library.library_management_system.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Archived loans of one user or book: how many, and the latest borrow date among them
+ */
+public interface ArchiveSummary {
+
+    long getTotal();
+
+    LocalDate getLatestBorrowDate();
+
+    default boolean isEmpty() {
+        return getTotal() == 0;
+    }
+}
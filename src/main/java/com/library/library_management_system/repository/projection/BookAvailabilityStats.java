@@ -0,0 +1,17 @@
+package com.library.library_management_system.repository.projection;
+
+/**
+ * Copy counts over all active books
+ */
+public interface BookAvailabilityStats {
+
+    long getTotalBooks();
+
+    long getTotalCopies();
+
+    long getAvailableCopies();
+
+    long getBorrowedCopies();
+
+    long getOutOfStockBooks();
+}
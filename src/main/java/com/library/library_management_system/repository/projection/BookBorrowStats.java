@@ -0,0 +1,25 @@
+package com.library.library_management_system.repository.projection;
+
+import com.library.library_management_system.enums.Genre;
+
+/**
+ * Borrowing totals for one book
+ */
+public interface BookBorrowStats {
+
+    Long getBookId();
+
+    String getTitle();
+
+    String getAuthor();
+
+    String getIsbn();
+
+    Genre getGenre();
+
+    long getTotalBorrows();
+
+    long getUniqueBorrowers();
+
+    Double getAverageBorrowDuration();
+}
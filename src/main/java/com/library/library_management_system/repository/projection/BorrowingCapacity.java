@@ -0,0 +1,11 @@
+package com.library.library_management_system.repository.projection;
+
+/**
+ * How many books a user may borrow and how many they currently have out
+ */
+public interface BorrowingCapacity {
+
+    Integer getMaxBooksAllowed();
+
+    long getCurrentBorrowed();
+}
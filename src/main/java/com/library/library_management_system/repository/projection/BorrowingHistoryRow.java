@@ -0,0 +1,37 @@
+package com.library.library_management_system.repository.projection;
+
+import com.library.library_management_system.enums.BorrowStatus;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * {@link BorrowingHistoryView} built by a JPQL constructor expression. Listings use it instead
+ * of an interface projection, which Spring Data wraps in a proxy per row: on the overdue
+ * listing that cost several times the query itself. Fields are in constructor argument order.
+ */
+@Value
+public class BorrowingHistoryRow implements BorrowingHistoryView {
+
+    Long id;
+    LocalDate borrowDate;
+    LocalDate dueDate;
+    LocalDate returnDate;
+    BorrowStatus status;
+    Double fineAmount;
+    Integer renewalCount;
+    Integer maxRenewalsAllowed;
+    String notes;
+    String issuedBy;
+    String returnedTo;
+    Long bookId;
+    String bookTitle;
+    String bookAuthor;
+    String bookIsbn;
+    Long userId;
+    String username;
+    String userFullName;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+}
@@ -0,0 +1,53 @@
+package com.library.library_management_system.repository.projection;
+
+import com.library.library_management_system.enums.BorrowStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A loan with the book and borrower columns needed for history and overdue listings,
+ * read without hydrating BorrowingRecord, Book or User entities
+ */
+public interface BorrowingHistoryView {
+
+    Long getId();
+
+    LocalDate getBorrowDate();
+
+    LocalDate getDueDate();
+
+    LocalDate getReturnDate();
+
+    BorrowStatus getStatus();
+
+    Double getFineAmount();
+
+    Integer getRenewalCount();
+
+    Integer getMaxRenewalsAllowed();
+
+    String getNotes();
+
+    String getIssuedBy();
+
+    String getReturnedTo();
+
+    Long getBookId();
+
+    String getBookTitle();
+
+    String getBookAuthor();
+
+    String getBookIsbn();
+
+    Long getUserId();
+
+    String getUsername();
+
+    String getUserFullName();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,23 @@
+package com.library.library_management_system.repository.projection;
+
+/**
+ * A book of one genre with its all-time and current borrow counts
+ */
+public interface GenreBookStats {
+
+    Long getBookId();
+
+    String getTitle();
+
+    String getAuthor();
+
+    String getIsbn();
+
+    int getTotalCopies();
+
+    int getAvailableCopies();
+
+    long getTotalBorrows();
+
+    long getCurrentBorrows();
+}
@@ -0,0 +1,15 @@
+package com.library.library_management_system.repository.projection;
+
+import com.library.library_management_system.enums.Genre;
+
+/**
+ * Borrowing totals for one genre
+ */
+public interface GenreBorrowStats {
+
+    Genre getGenre();
+
+    long getTotalBorrows();
+
+    long getUniqueBooks();
+}
@@ -0,0 +1,11 @@
+package com.library.library_management_system.repository.projection;
+
+/**
+ * One named library-wide figure, e.g. TOTAL_BORROWS or TOTAL_FINES
+ */
+public interface LibraryMetric {
+
+    String getMetric();
+
+    double getValue();
+}
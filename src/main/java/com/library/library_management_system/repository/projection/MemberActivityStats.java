@@ -0,0 +1,25 @@
+package com.library.library_management_system.repository.projection;
+
+/**
+ * Borrowing activity of one member since a start date
+ */
+public interface MemberActivityStats {
+
+    Long getUserId();
+
+    String getUsername();
+
+    String getFullName();
+
+    String getEmail();
+
+    long getTotalBorrows();
+
+    long getReturnedBooks();
+
+    long getOverdueBooks();
+
+    Double getAverageBorrowDuration();
+
+    Double getTotalFines();
+}
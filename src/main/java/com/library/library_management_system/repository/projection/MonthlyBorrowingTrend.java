@@ -0,0 +1,19 @@
+package com.library.library_management_system.repository.projection;
+
+/**
+ * Borrowing activity of one calendar month, keyed as yyyy-MM
+ */
+public interface MonthlyBorrowingTrend {
+
+    String getMonth();
+
+    long getTotalBorrows();
+
+    long getUniqueUsers();
+
+    long getUniqueBooks();
+
+    long getOnTimeReturns();
+
+    long getLateReturns();
+}
@@ -0,0 +1,15 @@
+package com.library.library_management_system.repository.projection;
+
+/**
+ * Totals over all loans currently marked overdue
+ */
+public interface OverdueStatistics {
+
+    long getTotalOverdue();
+
+    long getUniqueUsers();
+
+    Double getAverageDaysOverdue();
+
+    Double getTotalFines();
+}
@@ -0,0 +1,23 @@
+package com.library.library_management_system.repository.projection;
+
+/**
+ * Loan counts and fines of one user
+ */
+public interface UserBorrowingStats {
+
+    Long getUserId();
+
+    String getUsername();
+
+    String getFullName();
+
+    long getTotalBorrowed();
+
+    long getCurrentlyBorrowed();
+
+    long getTotalReturned();
+
+    long getOverdueCount();
+
+    double getTotalFines();
+}
@@ -0,0 +1,19 @@
+package com.library.library_management_system.repository.projection;
+
+/**
+ * A user with fines on overdue or returned loans
+ */
+public interface UserFineSummary {
+
+    Long getUserId();
+
+    String getUsername();
+
+    String getFullName();
+
+    String getEmail();
+
+    double getTotalFines();
+
+    long getFinedLoans();
+}
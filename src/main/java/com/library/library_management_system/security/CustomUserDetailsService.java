@@ -25,7 +25,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String identifier) throws UsernameNotFoundException {
         log.debug("Loading user by identifier: {}", identifier);
 
-        User user = userRepository.findByEmailOrUsername(identifier)
+        User user = userRepository.findByIdentifier(identifier)
                 .orElseThrow(() -> {
                     log.error("User not found with identifier: {}", identifier);
                     return new UsernameNotFoundException("User not found with identifier: " + identifier);
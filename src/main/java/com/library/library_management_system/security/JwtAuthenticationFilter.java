@@ -1,6 +1,8 @@
 package com.library.library_management_system.security;
 
 import com.library.library_management_system.config.JwtConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,29 +28,43 @@ import java.io.IOException;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    public static final String AUTHENTICATION_TIMER = "library.security.jwt.authentication";
+
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtConfig jwtConfig;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
                                     @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
 
+        // Only token validation and the user lookup are timed, not the rest of the chain
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "NO_TOKEN";
         try {
             String jwt = getJwtFromRequest(request);
+            if (StringUtils.hasText(jwt)) {
+                outcome = "INVALID";
+            }
 
             if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
                 String username = tokenProvider.getUsernameFromToken(jwt);
 
                 UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
 
-                if (userDetails != null) {
+                // A token outlives deactivation: the account must still be usable on every request
+                if (userDetails != null && (!userDetails.isEnabled() || !userDetails.isAccountNonLocked())) {
+                    outcome = "DISABLED";
+                    log.warn("Rejecting token of disabled or locked user: {}", username);
+                } else if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    outcome = "AUTHENTICATED";
                     log.debug("Authentication set for user: {}", username);
                 }
             }
@@ -56,7 +72,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             log.error("Could not set user authentication in security context", ex);
             // Clear the context to be safe
             SecurityContextHolder.clearContext();
+            outcome = "ERROR";
         }
+        sample.stop(Timer.builder(AUTHENTICATION_TIMER)
+                .description("Latency of JWT validation and user lookup")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
 
         filterChain.doFilter(request, response);
     }
@@ -77,12 +99,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
 
-        // Skip JWT processing for public endpoints
+        // Skip JWT processing for public endpoints. /graphql is public too, but its resolvers
+        // check roles with @PreAuthorize, so a token sent with the request must still be read.
+        // WebSocket connections authenticate in WebSocketAuthInterceptor instead.
         return path.startsWith("/api/auth/") ||
                 path.startsWith("/api/public/") ||
                 path.startsWith("/v3/api-docs") ||
                 path.startsWith("/swagger-ui") ||
-                path.startsWith("/graphql") ||
+                path.startsWith("/graphql-ws") ||
                 path.startsWith("/graphiql") ||
                 path.startsWith("/actuator/health") ||
                 path.startsWith("/actuator/info");
@@ -0,0 +1,17 @@
+package com.library.library_management_system.service;
+
+import com.library.library_management_system.dto.response.BookImportResponse;
+
+import java.io.InputStream;
+
+/**
+ * Bulk Book Import Service Interface
+ */
+public interface BookImportService {
+
+    /**
+     * Import books from a CSV stream with a header row. Rows whose ISBN already
+     * exists update that book; invalid rows are skipped and reported.
+     */
+    BookImportResponse importBooks(InputStream csv);
+}
@@ -7,9 +7,14 @@ import com.library.library_management_system.dto.response.BookResponse;
 import com.library.library_management_system.dto.response.PagedResponse;
 import com.library.library_management_system.enums.BookStatus;
 import com.library.library_management_system.enums.Genre;
+import com.library.library_management_system.repository.projection.BookAvailabilityStats;
+import com.library.library_management_system.repository.projection.GenreBorrowStats;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Book Service Interface
@@ -31,6 +36,11 @@ public interface BookService {
      */
     BookResponse getBookByIsbn(String isbn);
 
+    /**
+     * Get books by IDs, keyed by ID. Cached books are not queried; the rest are loaded in a single query
+     */
+    Map<Long, BookResponse> getBooksByIds(Collection<Long> ids);
+
     /**
      * Update book details
      */
@@ -61,6 +71,11 @@ public interface BookService {
      */
     List<BookResponse> getBooksByGenre(Genre genre);
 
+    /**
+     * Pass the books of a genre to the action one at a time, straight from the database
+     */
+    void streamBooksByGenre(Genre genre, Consumer<? super BookResponse> action);
+
     /**
      * Get books by author
      */
@@ -71,6 +86,11 @@ public interface BookService {
      */
     List<BookResponse> getAvailableBooks();
 
+    /**
+     * Pass the available books to the action one at a time, straight from the database
+     */
+    void streamAvailableBooks(Consumer<? super BookResponse> action);
+
     /**
      * Get books by status
      */
@@ -104,12 +124,12 @@ public interface BookService {
     /**
      * Get book availability statistics
      */
-    Object[] getBookAvailabilityStats();
+    BookAvailabilityStats getBookAvailabilityStats();
 
     /**
      * Get popular genres statistics
      */
-    List<Object[]> getPopularGenreStats();
+    List<GenreBorrowStats> getPopularGenreStats();
 
     /**
      * Count books by genre
@@ -0,0 +1,13 @@
+package com.library.library_management_system.service;
+
+/**
+ * Borrowing Record Archival Service Interface
+ */
+public interface BorrowingArchiveService {
+
+    /**
+     * Move returned and lost loans older than the retention period into the archive table,
+     * batch by batch. Returns the number of records moved.
+     */
+    int archiveClosedRecords();
+}
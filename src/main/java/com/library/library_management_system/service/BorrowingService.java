@@ -6,6 +6,11 @@ import com.library.library_management_system.dto.request.ReturnBookRequest;
 import com.library.library_management_system.dto.response.BorrowingHistoryResponse;
 import com.library.library_management_system.dto.response.PagedResponse;
 import com.library.library_management_system.enums.BorrowStatus;
+import com.library.library_management_system.repository.projection.BorrowingCapacity;
+import com.library.library_management_system.repository.projection.LibraryMetric;
+import com.library.library_management_system.repository.projection.MonthlyBorrowingTrend;
+import com.library.library_management_system.repository.projection.OverdueStatistics;
+import com.library.library_management_system.repository.projection.UserFineSummary;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -98,22 +103,22 @@ public interface BorrowingService {
     /**
      * Get users with outstanding fines
      */
-    List<Object[]> getUsersWithOutstandingFines();
+    List<UserFineSummary> getUsersWithOutstandingFines();
 
     /**
      * Get borrowing statistics for dashboard
      */
-    List<Object[]> getLibraryStatistics();
+    List<LibraryMetric> getLibraryStatistics();
 
     /**
      * Get overdue statistics
      */
-    Object[] getOverdueStatistics();
+    OverdueStatistics getOverdueStatistics();
 
     /**
      * Get borrowing trends by month
      */
-    List<Object[]> getBorrowingTrendsByMonth(LocalDate startDate);
+    List<MonthlyBorrowingTrend> getBorrowingTrendsByMonth(LocalDate startDate);
 
     /**
      * Check if user can borrow book
@@ -133,7 +138,7 @@ public interface BorrowingService {
     /**
      * Get user's borrowing capacity info
      */
-    Object[] getUserBorrowingCapacity(Long userId);
+    BorrowingCapacity getUserBorrowingCapacity(Long userId);
 
     /**
      * Count active borrowings for user
@@ -3,6 +3,10 @@ package com.library.library_management_system.service;
 import com.library.library_management_system.dto.request.ReportRequest;
 import com.library.library_management_system.dto.response.DashboardStatsResponse;
 import com.library.library_management_system.dto.response.ReportResponse;
+import com.library.library_management_system.repository.projection.GenreBookStats;
+import com.library.library_management_system.repository.projection.LibraryMetric;
+import com.library.library_management_system.repository.projection.MemberActivityStats;
+import com.library.library_management_system.repository.projection.MonthlyBorrowingTrend;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -70,22 +74,22 @@ public interface ReportService {
     /**
      * Get real-time library statistics
      */
-    List<Object[]> getLibraryStatistics();
+    List<LibraryMetric> getLibraryStatistics();
 
     /**
      * Get book circulation statistics
      */
-    List<Object[]> getBookCirculationStats(LocalDate startDate, LocalDate endDate);
+    List<MonthlyBorrowingTrend> getBookCirculationStats(LocalDate startDate, LocalDate endDate);
 
     /**
      * Get user engagement metrics
      */
-    List<Object[]> getUserEngagementMetrics(LocalDate startDate, LocalDate endDate);
+    List<MemberActivityStats> getUserEngagementMetrics(LocalDate startDate, LocalDate endDate);
 
     /**
      * Get popular books by genre
      */
-    List<Object[]> getPopularBooksByGenre(String genre, int limit);
+    List<GenreBookStats> getPopularBooksByGenre(String genre, int limit);
 
     /**
      * Get library usage patterns
@@ -7,7 +7,9 @@ import com.library.library_management_system.dto.response.UserResponse;
 import com.library.library_management_system.enums.UserRole;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * User Service Interface
@@ -29,6 +31,11 @@ public interface UserService {
      */
     UserResponse getUserByEmail(String email);
 
+    /**
+     * Get users by IDs, keyed by ID. Cached users are not queried; the rest are loaded in a single query
+     */
+    Map<Long, UserResponse> getUsersByIds(Collection<Long> ids);
+
     /**
      * Update user profile
      */
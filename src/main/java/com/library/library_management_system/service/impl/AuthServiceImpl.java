@@ -72,7 +72,7 @@ public class AuthServiceImpl implements AuthService {
     @Override
     @Transactional(readOnly = true)
     public AuthResponse login(LoginRequest request) {
-        log.info("Login attempt for identifier: {}", request.getIdentifier());
+        log.debug("Login attempt for identifier: {}", request.getIdentifier());
 
         try {
             // Authenticate user
@@ -115,7 +115,7 @@ public class AuthServiceImpl implements AuthService {
     @Override
     @Transactional(readOnly = true)
     public AuthResponse refreshToken(String refreshToken) {
-        log.info("Refreshing access token");
+        log.debug("Refreshing access token");
 
         try {
             if (!tokenProvider.validateToken(refreshToken)) {
@@ -164,7 +164,7 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public void logout(String token) {
-        log.info("User logging out");
+        log.debug("User logging out");
         // In a real implementation, you might want to maintain a blacklist of tokens
         // For now, we'll just clear the security context
         SecurityContextHolder.clearContext();
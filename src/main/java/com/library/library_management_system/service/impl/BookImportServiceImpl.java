@@ -0,0 +1,402 @@
+package com.library.library_management_system.service.impl;
+
+import com.library.library_management_system.config.BookImportConfig;
+import com.library.library_management_system.config.CacheConfig;
+import com.library.library_management_system.datasource.Workload;
+import com.library.library_management_system.datasource.WorkloadType;
+import com.library.library_management_system.dto.mapper.BookMapper;
+import com.library.library_management_system.dto.request.BookRequest;
+import com.library.library_management_system.dto.response.BookImportResponse;
+import com.library.library_management_system.entity.Book;
+import com.library.library_management_system.enums.Genre;
+import com.library.library_management_system.exception.BadRequestException;
+import com.library.library_management_system.repository.BookRepository;
+import com.library.library_management_system.service.BookImportService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk Book Import Service Implementation
+ *
+ * The file is read line by line and processed in chunks: rows are converted and validated
+ * in parallel, existing books are found with one ISBN IN query per chunk, and each chunk is
+ * written in its own transaction so inserts go out as JDBC batches. Book caches are cleared
+ * once at the end instead of once per row.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookImportServiceImpl implements BookImportService {
+
+    private static final Set<String> REQUIRED_COLUMNS = Set.of("title", "author", "isbn", "genre");
+
+    private final BookRepository bookRepository;
+    private final BookImportConfig importConfig;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+
+    @Override
+    @Workload(WorkloadType.BATCH)
+    public BookImportResponse importBooks(InputStream csv) {
+        long start = System.nanoTime();
+        ImportProgress progress = new ImportProgress(importConfig.getMaxReportedErrors());
+        Set<String> seenIsbns = new HashSet<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = readHeader(reader.readLine());
+            log.info("Starting book import with columns: {}", columns.keySet());
+
+            List<CsvRow> chunk = new ArrayList<>(importConfig.getChunkSize());
+            int rowNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                rowNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(new CsvRow(rowNumber, parseCsvLine(line)));
+                if (chunk.size() == importConfig.getChunkSize()) {
+                    processChunk(chunk, columns, seenIsbns, progress);
+                    chunk = new ArrayList<>(importConfig.getChunkSize());
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, columns, seenIsbns, progress);
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read import file: " + e.getMessage());
+        } finally {
+            if (progress.created + progress.updated > 0) {
+                evictBookCaches();
+            }
+        }
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Book import finished: {} rows, {} created, {} updated, {} failed in {} ms",
+                progress.total, progress.created, progress.updated, progress.failed, durationMs);
+
+        return BookImportResponse.builder()
+                .totalRows(progress.total)
+                .created(progress.created)
+                .updated(progress.updated)
+                .failed(progress.failed)
+                .durationMs(durationMs)
+                .rowsPerSecond(durationMs > 0 ? progress.total * 1000.0 / durationMs : progress.total)
+                .errors(progress.errors)
+                .errorsTruncated(progress.failed > progress.errors.size())
+                .build();
+    }
+
+    private void processChunk(List<CsvRow> rows, Map<String, Integer> columns,
+                              Set<String> seenIsbns, ImportProgress progress) {
+        progress.total += rows.size();
+
+        // Conversion and bean validation (including the ISBN pattern) are CPU-bound and independent per row
+        List<ParsedRow> parsedRows = rows.parallelStream()
+                .map(row -> parseRow(row, columns))
+                .toList();
+
+        List<ParsedRow> validRows = new ArrayList<>(parsedRows.size());
+        for (ParsedRow row : parsedRows) {
+            if (row.error() != null) {
+                progress.fail(row.rowNumber(), row.isbn(), row.error());
+            } else if (!seenIsbns.add(row.isbn())) {
+                progress.fail(row.rowNumber(), row.isbn(), "Duplicate ISBN in import file");
+            } else {
+                validRows.add(row);
+            }
+        }
+        if (validRows.isEmpty()) {
+            return;
+        }
+
+        try {
+            ChunkOutcome outcome = transactionTemplate.execute(status -> upsertChunk(validRows));
+            progress.created += outcome.created();
+            progress.updated += outcome.updated();
+            outcome.rejected().forEach(row -> progress.fail(row.rowNumber(), row.isbn(), row.error()));
+        } catch (DataAccessException e) {
+            String message = "Chunk could not be saved: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            log.warn("Book import chunk starting at row {} failed", validRows.get(0).rowNumber(), e);
+            validRows.forEach(row -> progress.fail(row.rowNumber(), row.isbn(), message));
+        }
+    }
+
+    private ChunkOutcome upsertChunk(List<ParsedRow> rows) {
+        // Stored ISBNs are normalized (Book.normalizeIsbn), as are the parsed rows
+        Set<String> lookup = rows.stream().map(ParsedRow::isbn).collect(Collectors.toSet());
+        Map<String, Book> existingBooks = bookRepository.findAllByIsbnIn(lookup)
+                .stream()
+                .collect(Collectors.toMap(Book::getIsbn, Function.identity()));
+
+        List<Book> newBooks = new ArrayList<>();
+        List<ParsedRow> rejected = new ArrayList<>();
+        int updated = 0;
+        for (ParsedRow row : rows) {
+            Book existing = existingBooks.get(row.isbn());
+            if (existing == null) {
+                Book book = BookMapper.toEntity(row.request());
+                book.setIsbn(row.isbn());
+                newBooks.add(book);
+                continue;
+            }
+
+            String error = applyUpdate(existing, row.request());
+            if (error != null) {
+                rejected.add(ParsedRow.failed(row.rowNumber(), row.isbn(), error));
+            } else {
+                updated++;
+            }
+        }
+
+        bookRepository.saveAll(newBooks);
+        log.debug("Imported chunk: {} created, {} updated", newBooks.size(), updated);
+        return new ChunkOutcome(newBooks.size(), updated, rejected);
+    }
+
+    private String applyUpdate(Book book, BookRequest request) {
+        int borrowedCopies = book.getBorrowedCopies();
+        if (request.getTotalCopies() < borrowedCopies) {
+            return "Total copies (" + request.getTotalCopies() + ") is below the "
+                    + borrowedCopies + " copies currently borrowed";
+        }
+
+        book.setTitle(request.getTitle());
+        book.setAuthor(request.getAuthor());
+        book.setGenre(request.getGenre());
+        if (request.getDescription() != null) book.setDescription(request.getDescription());
+        if (request.getPublisher() != null) book.setPublisher(request.getPublisher());
+        if (request.getLanguage() != null) book.setLanguage(request.getLanguage());
+        if (request.getPages() != null) book.setPages(request.getPages());
+        if (request.getPublicationDate() != null) book.setPublicationDate(request.getPublicationDate());
+        if (request.getPrice() != null) book.setPrice(request.getPrice());
+        if (request.getEdition() != null) book.setEdition(request.getEdition());
+        if (request.getShelfLocation() != null) book.setShelfLocation(request.getShelfLocation());
+        if (request.getCoverImageUrl() != null) book.setCoverImageUrl(request.getCoverImageUrl());
+
+        book.setTotalCopies(request.getTotalCopies());
+        book.setAvailableCopies(request.getTotalCopies() - borrowedCopies);
+        return null;
+    }
+
+    private ParsedRow parseRow(CsvRow row, Map<String, Integer> columns) {
+        String isbn = value(row, columns, "isbn");
+        try {
+            BookRequest request = new BookRequest();
+            request.setTitle(value(row, columns, "title"));
+            request.setAuthor(value(row, columns, "author"));
+            request.setIsbn(isbn);
+            request.setGenre(parseGenre(value(row, columns, "genre")));
+            request.setDescription(value(row, columns, "description"));
+            request.setPublisher(value(row, columns, "publisher"));
+            request.setLanguage(value(row, columns, "language"));
+            request.setPages(parseInteger(value(row, columns, "pages"), "pages"));
+            request.setPublicationDate(parseDate(value(row, columns, "publicationdate")));
+            request.setPrice(parseDouble(value(row, columns, "price")));
+            request.setEdition(value(row, columns, "edition"));
+            request.setShelfLocation(value(row, columns, "shelflocation"));
+            request.setCoverImageUrl(value(row, columns, "coverimageurl"));
+
+            Integer totalCopies = parseInteger(value(row, columns, "totalcopies"), "totalCopies");
+            request.setTotalCopies(totalCopies != null ? totalCopies : 1);
+
+            Set<ConstraintViolation<BookRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+                return ParsedRow.failed(row.rowNumber(), isbn, message);
+            }
+            return new ParsedRow(row.rowNumber(), Book.normalizeIsbn(isbn), request, null);
+        } catch (IllegalArgumentException e) {
+            return ParsedRow.failed(row.rowNumber(), isbn, e.getMessage());
+        }
+    }
+
+    private Map<String, Integer> readHeader(String headerLine) {
+        if (headerLine == null) {
+            throw new BadRequestException("Import file is empty");
+        }
+
+        List<String> names = parseCsvLine(headerLine.replace("\uFEFF", ""));
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(normalizeColumn(names.get(i)), i);
+        }
+
+        Set<String> missing = new HashSet<>(REQUIRED_COLUMNS);
+        missing.removeAll(columns.keySet());
+        if (!missing.isEmpty()) {
+            throw new BadRequestException("Import file is missing required columns: " + missing);
+        }
+        return columns;
+    }
+
+    private void evictBookCaches() {
+        for (String cacheName : List.of(CacheConfig.BOOKS_CACHE, CacheConfig.BOOK_STATS_CACHE)) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    // ============= Value Parsing =============
+
+    private static String value(CsvRow row, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= row.fields().size()) {
+            return null;
+        }
+        String value = row.fields().get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String normalizeColumn(String name) {
+        return name.trim().toLowerCase(Locale.ROOT).replace("_", "").replace(" ", "");
+    }
+
+    private static Genre parseGenre(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Genre.valueOf(value.toUpperCase(Locale.ROOT).replace(' ', '_').replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown genre: '" + value + "'");
+        }
+    }
+
+    private static Integer parseInteger(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + column + ": '" + value + "'");
+        }
+    }
+
+    private static Double parseDouble(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid price: '" + value + "'");
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid publication date (expected yyyy-MM-dd): '" + value + "'");
+        }
+    }
+
+    /**
+     * Split one CSV line (RFC 4180 quoting, no embedded line breaks)
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    // ============= Import State =============
+
+    private record CsvRow(int rowNumber, List<String> fields) {
+    }
+
+    // isbn is normalized for valid rows; request keeps the ISBN as written in the file
+    private record ParsedRow(int rowNumber, String isbn, BookRequest request, String error) {
+
+        static ParsedRow failed(int rowNumber, String isbn, String error) {
+            return new ParsedRow(rowNumber, isbn, null, error);
+        }
+    }
+
+    private record ChunkOutcome(int created, int updated, List<ParsedRow> rejected) {
+    }
+
+    private static final class ImportProgress {
+
+        private final int maxReportedErrors;
+        private final List<BookImportResponse.RowError> errors = new ArrayList<>();
+        private int total;
+        private int created;
+        private int updated;
+        private int failed;
+
+        private ImportProgress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void fail(int row, String isbn, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(BookImportResponse.RowError.builder()
+                        .row(row)
+                        .isbn(isbn)
+                        .message(message)
+                        .build());
+            }
+        }
+    }
+}
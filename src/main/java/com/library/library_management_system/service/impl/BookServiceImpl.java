@@ -1,5 +1,7 @@
 package com.library.library_management_system.service.impl;
 
+import com.library.library_management_system.datasource.Workload;
+import com.library.library_management_system.datasource.WorkloadType;
 import com.library.library_management_system.dto.mapper.BookMapper;
 import com.library.library_management_system.dto.mapper.PageMapper;
 import com.library.library_management_system.dto.request.BookRequest;
@@ -14,7 +16,11 @@ import com.library.library_management_system.exception.BadRequestException;
 import com.library.library_management_system.exception.ResourceNotFoundException;
 import com.library.library_management_system.repository.BookRepository;
 import com.library.library_management_system.repository.BorrowingRecordRepository;
+import com.library.library_management_system.repository.projection.BookAvailabilityStats;
+import com.library.library_management_system.repository.projection.GenreBorrowStats;
 import com.library.library_management_system.service.BookService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -29,7 +35,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Book Service Implementation
@@ -41,6 +52,7 @@ public class BookServiceImpl implements BookService {
 
     private final BookRepository bookRepository;
     private final BorrowingRecordRepository borrowingRecordRepository;
+    private final EntityManager entityManager;
 
     @Override
     @CacheEvict(value = {"books", "bookStats"}, allEntries = true)
@@ -48,8 +60,8 @@ public class BookServiceImpl implements BookService {
     public BookResponse addBook(BookRequest request) {
         log.info("Adding new book: {}", request.getTitle());
 
-        // Check if ISBN already exists
-        if (bookRepository.existsByIsbn(request.getIsbn())) {
+        // Check if ISBN already exists, in any spelling
+        if (bookRepository.existsByIsbn(Book.normalizeIsbn(request.getIsbn()))) {
             throw new BadRequestException("Book with ISBN " + request.getIsbn() + " already exists");
         }
 
@@ -73,17 +85,30 @@ public class BookServiceImpl implements BookService {
     }
 
     @Override
-    @Cacheable(value = "books", key = "#isbn")
+    @Cacheable(value = "books", key = "T(com.library.library_management_system.entity.Book).normalizeIsbn(#isbn)")
     @Transactional(readOnly = true)
     public BookResponse getBookByIsbn(String isbn) {
         log.debug("Getting book by ISBN: {}", isbn);
 
-        Book book = bookRepository.findByIsbn(isbn)
+        Book book = bookRepository.findBySimpleNaturalId(Book.normalizeIsbn(isbn))
                 .orElseThrow(() -> new ResourceNotFoundException("Book not found with ISBN: " + isbn));
 
         return BookMapper.toResponse(book);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, BookResponse> getBooksByIds(Collection<Long> ids) {
+        log.debug("Getting {} books by ID", ids.size());
+
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return bookRepository.findAllByIdCached(ids).stream()
+                .collect(Collectors.toMap(Book::getId, BookMapper::toResponse));
+    }
+
     @Override
     @CacheEvict(value = {"books", "bookStats"}, key = "#id")
     @Transactional
@@ -172,6 +197,7 @@ public class BookServiceImpl implements BookService {
 
     @Override
     @Transactional(readOnly = true)
+    @Timed(value = "library.books.search", description = "Latency of book searches", histogram = true)
     public PagedResponse<BookResponse> searchBooks(BookSearchRequest request) {
         log.debug("Searching books with filters: {}", request);
 
@@ -210,6 +236,16 @@ public class BookServiceImpl implements BookService {
         return books.stream().map(BookMapper::toResponse).toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamBooksByGenre(Genre genre, Consumer<? super BookResponse> action) {
+        log.debug("Streaming books by genre: {}", genre);
+
+        try (Stream<Book> books = bookRepository.streamByGenre(genre)) {
+            books.forEach(book -> emit(book, action));
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<BookResponse> getBooksByAuthor(String author, int page, int size) {
@@ -231,6 +267,16 @@ public class BookServiceImpl implements BookService {
         return books.stream().map(BookMapper::toResponse).toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAvailableBooks(Consumer<? super BookResponse> action) {
+        log.debug("Streaming available books");
+
+        try (Stream<Book> books = bookRepository.streamAvailableBooks()) {
+            books.forEach(book -> emit(book, action));
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<BookResponse> getBooksByStatus(BookStatus status) {
@@ -243,6 +289,7 @@ public class BookServiceImpl implements BookService {
     @Override
     @Cacheable(value = "bookStats", key = "'mostBorrowed:' + #limit")
     @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
     public List<BookResponse> getMostBorrowedBooks(int limit) {
         log.debug("Getting most borrowed books, limit: {}", limit);
 
@@ -272,6 +319,7 @@ public class BookServiceImpl implements BookService {
     @Override
     @Cacheable(value = "bookStats", key = "'needingAttention'")
     @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
     public List<BookResponse> getBooksNeedingAttention() {
         log.debug("Getting books needing attention");
 
@@ -296,7 +344,8 @@ public class BookServiceImpl implements BookService {
     @Override
     @Cacheable(value = "bookStats", key = "'availability'")
     @Transactional(readOnly = true)
-    public Object[] getBookAvailabilityStats() {
+    @Workload(WorkloadType.REPORTING)
+    public BookAvailabilityStats getBookAvailabilityStats() {
         log.debug("Getting book availability statistics");
         return bookRepository.getBookAvailabilityStats();
     }
@@ -304,7 +353,8 @@ public class BookServiceImpl implements BookService {
     @Override
     @Cacheable(value = "bookStats", key = "'genreStats'")
     @Transactional(readOnly = true)
-    public List<Object[]> getPopularGenreStats() {
+    @Workload(WorkloadType.REPORTING)
+    public List<GenreBorrowStats> getPopularGenreStats() {
         log.debug("Getting popular genre statistics");
         return bookRepository.getPopularGenreStats();
     }
@@ -330,7 +380,7 @@ public class BookServiceImpl implements BookService {
     @Override
     @Transactional(readOnly = true)
     public boolean existsByIsbn(String isbn) {
-        return bookRepository.existsByIsbn(isbn);
+        return bookRepository.existsByIsbn(Book.normalizeIsbn(isbn));
     }
 
     @Override
@@ -385,6 +435,13 @@ public class BookServiceImpl implements BookService {
         log.info("Book availability updated successfully for: {} (ID: {})", book.getTitle(), bookId);
     }
 
+    // Detached once mapped, so the persistence context stays small however many rows are streamed
+    private void emit(Book book, Consumer<? super BookResponse> action) {
+        BookResponse response = BookMapper.toResponse(book);
+        entityManager.detach(book);
+        action.accept(response);
+    }
+
     private String getCurrentUsername() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.isAuthenticated()) {
@@ -0,0 +1,90 @@
+package com.library.library_management_system.service.impl;
+
+import com.library.library_management_system.config.ArchivalConfig;
+import com.library.library_management_system.datasource.Workload;
+import com.library.library_management_system.datasource.WorkloadType;
+import com.library.library_management_system.repository.BorrowingRecordRepository;
+import com.library.library_management_system.service.BorrowingArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Borrowing Record Archival Service Implementation
+ *
+ * Each batch copies closed loans into borrowing_records_archive and deletes them from
+ * borrowing_records in one short transaction, so the live table stays small without
+ * long-held locks. Batches are separated by a pause to leave room for OLTP traffic.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Workload(WorkloadType.BATCH)
+public class BorrowingArchiveServiceImpl implements BorrowingArchiveService {
+
+    private final BorrowingRecordRepository borrowingRecordRepository;
+    private final ArchivalConfig archivalConfig;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "#{@archivalConfig.cron}")
+    public void scheduledArchival() {
+        if (!archivalConfig.isEnabled()) {
+            return;
+        }
+        archiveClosedRecords();
+    }
+
+    @Override
+    public int archiveClosedRecords() {
+        LocalDate cutoff = LocalDate.now().minus(archivalConfig.getRetention());
+        log.info("Archiving borrowing records closed before {}", cutoff);
+
+        int archived = 0;
+        for (int batch = 0; batch < archivalConfig.getMaxBatchesPerRun(); batch++) {
+            if (batch > 0 && !pause()) {
+                break;
+            }
+
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            archived += moved;
+            if (moved < archivalConfig.getBatchSize()) {
+                break;
+            }
+        }
+
+        log.info("Archived {} borrowing records", archived);
+        return archived;
+    }
+
+    private int archiveBatch(LocalDate cutoff) {
+        List<Long> ids = borrowingRecordRepository.findArchivableIds(cutoff, archivalConfig.getBatchSize());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int copied = borrowingRecordRepository.copyToArchive(ids);
+        int deleted = borrowingRecordRepository.deleteArchivedRecords(ids);
+        if (copied != deleted) {
+            // Rolls back the batch; a record changed between the copy and the delete
+            throw new IllegalStateException(
+                    "Archived " + copied + " borrowing records but deleted " + deleted);
+        }
+        return deleted;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(archivalConfig.getPauseBetweenBatches().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Borrowing record archival interrupted");
+            return false;
+        }
+    }
+}
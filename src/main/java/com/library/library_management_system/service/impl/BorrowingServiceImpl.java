@@ -1,5 +1,7 @@
 package com.library.library_management_system.service.impl;
 
+import com.library.library_management_system.datasource.Workload;
+import com.library.library_management_system.datasource.WorkloadType;
 import com.library.library_management_system.dto.mapper.BorrowingMapper;
 import com.library.library_management_system.dto.request.BorrowBookRequest;
 import com.library.library_management_system.dto.request.BorrowingSearchRequest;
@@ -10,16 +12,26 @@ import com.library.library_management_system.entity.Book;
 import com.library.library_management_system.entity.BorrowingRecord;
 import com.library.library_management_system.entity.User;
 import com.library.library_management_system.enums.BorrowStatus;
+import com.library.library_management_system.event.BookAvailabilityEvent;
 import com.library.library_management_system.exception.BadRequestException;
 import com.library.library_management_system.exception.ResourceNotFoundException;
 import com.library.library_management_system.exception.UnauthorizedException;
 import com.library.library_management_system.repository.BookRepository;
 import com.library.library_management_system.repository.BorrowingRecordRepository;
 import com.library.library_management_system.repository.UserRepository;
+import com.library.library_management_system.repository.projection.ArchiveSummary;
+import com.library.library_management_system.repository.projection.BorrowingCapacity;
+import com.library.library_management_system.repository.projection.BorrowingHistoryView;
+import com.library.library_management_system.repository.projection.LibraryMetric;
+import com.library.library_management_system.repository.projection.MonthlyBorrowingTrend;
+import com.library.library_management_system.repository.projection.OverdueStatistics;
+import com.library.library_management_system.repository.projection.UserFineSummary;
 import com.library.library_management_system.security.UserPrincipal;
 import com.library.library_management_system.service.BorrowingService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -30,7 +42,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
 
 /**
  * Borrowing Service Implementation
@@ -43,13 +60,15 @@ public class BorrowingServiceImpl implements BorrowingService {
     private final BorrowingRecordRepository borrowingRecordRepository;
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final double DEFAULT_FINE_PER_DAY = 1.0;
 
     @Override
     @Transactional
+    @Timed(value = "library.circulation", description = "Latency of borrow, return and renew operations", histogram = true)
     public BorrowingHistoryResponse borrowBook(BorrowBookRequest request) {
-        log.info("Processing book borrow request for book ID: {}", request.getBookId());
+        log.debug("Processing book borrow request for book ID: {}", request.getBookId());
 
         UserPrincipal currentUser = getCurrentUser();
 
@@ -75,6 +94,7 @@ public class BorrowingServiceImpl implements BorrowingService {
 
         book.borrowCopy();
         bookRepository.save(book);
+        eventPublisher.publishEvent(BookAvailabilityEvent.of(book));
 
         // Save borrowing record
         BorrowingRecord savedRecord = borrowingRecordRepository.save(borrowingRecord);
@@ -85,50 +105,93 @@ public class BorrowingServiceImpl implements BorrowingService {
 
     @Override
     @Transactional
+    @Timed(value = "library.circulation", description = "Latency of borrow, return and renew operations", histogram = true)
     public BorrowingHistoryResponse returnBook(ReturnBookRequest request) {
-        log.info("Processing book return for borrowing record ID: {}", request.getBorrowingRecordId());
+        log.debug("Processing book return for borrowing record ID: {}", request.getBorrowingRecordId());
 
         UserPrincipal currentUser = getCurrentUser();
+        Long recordId = request.getBorrowingRecordId();
 
-        BorrowingRecord borrowingRecord = borrowingRecordRepository.findById(request.getBorrowingRecordId())
+        BorrowingRecord borrowingRecord = borrowingRecordRepository.findByIdWithBookAndUser(recordId)
                 .orElseThrow(() -> new ResourceNotFoundException("Borrowing record not found"));
 
         // Validate return eligibility
         validateReturnEligibility(borrowingRecord, currentUser);
 
-        // Process return
         if (request.getIsLost()) {
-            borrowingRecord.markAsLost();
-        } else {
-            borrowingRecord.returnBook();
+            return markRecordAsLost(borrowingRecord, currentUser.getUsername(), request.getNotes());
         }
 
-        borrowingRecord.setReturnedTo(currentUser.getUsername());
-        borrowingRecord.setNotes(request.getNotes());
+        // Guarded set-based updates: the record update only matches an open loan, so a
+        // concurrent return of the same record cannot release the copy twice
+        int returned = borrowingRecordRepository.returnBook(recordId, currentUser.getUsername(),
+                request.getNotes(), DEFAULT_FINE_PER_DAY);
+        if (returned == 0) {
+            throw new BadRequestException("Book has already been returned");
+        }
 
-        // Update book availability
         Book book = borrowingRecord.getBook();
-        if (!request.getIsLost()) {
+        if (bookRepository.incrementAvailableCopies(book.getId(), currentUser.getUsername()) == 0) {
+            log.warn("Book ID {} already had all copies available on return of record {}", book.getId(), recordId);
+        } else {
             book.returnCopy();
-            bookRepository.save(book);
         }
 
-        BorrowingRecord savedRecord = borrowingRecordRepository.save(borrowingRecord);
+        // The updates detached the loaded record and book; apply the same changes to them for
+        // the event and the response instead of reading both back
+        applyReturn(borrowingRecord, currentUser.getUsername(), request.getNotes());
+        eventPublisher.publishEvent(BookAvailabilityEvent.of(book));
 
         log.info("Book returned successfully: {} by user: {}",
                 book.getTitle(), borrowingRecord.getUser().getUsername());
 
-        return BorrowingMapper.toResponse(savedRecord);
+        return BorrowingMapper.toResponse(borrowingRecord);
+    }
+
+    /**
+     * In-memory counterpart of BorrowingRecordRepository.returnBook
+     */
+    private static void applyReturn(BorrowingRecord record, String returnedTo, String notes) {
+        LocalDate today = LocalDate.now();
+        double overdueFine = record.getDueDate().isBefore(today)
+                ? (today.toEpochDay() - record.getDueDate().toEpochDay()) * DEFAULT_FINE_PER_DAY
+                : 0;
+        double currentFine = record.getFineAmount() != null ? record.getFineAmount() : 0;
+
+        record.setReturnDate(today);
+        record.setStatus(BorrowStatus.RETURNED);
+        record.setReturnedTo(returnedTo);
+        if (notes != null) {
+            record.setNotes(notes);
+        }
+        record.setFineAmount(Math.max(currentFine, overdueFine));
+        record.setUpdatedAt(LocalDateTime.now());
+        record.setUpdatedBy(returnedTo);
+    }
+
+    private BorrowingHistoryResponse markRecordAsLost(BorrowingRecord borrowingRecord, String returnedTo,
+                                                      String notes) {
+        // Lost books keep their copy out of circulation; only the record changes and
+        // @DynamicUpdate limits the flush to the modified columns
+        borrowingRecord.markAsLost();
+        borrowingRecord.setReturnedTo(returnedTo);
+        borrowingRecord.setNotes(notes);
+
+        log.info("Book marked as lost on return: {} by user: {}",
+                borrowingRecord.getBook().getTitle(), borrowingRecord.getUser().getUsername());
+
+        return BorrowingMapper.toResponse(borrowingRecord);
     }
 
     @Override
     @Transactional
+    @Timed(value = "library.circulation", description = "Latency of borrow, return and renew operations", histogram = true)
     public BorrowingHistoryResponse renewBook(Long borrowingRecordId, int additionalDays) {
-        log.info("Renewing book for borrowing record ID: {}", borrowingRecordId);
+        log.debug("Renewing book for borrowing record ID: {}", borrowingRecordId);
 
         UserPrincipal currentUser = getCurrentUser();
 
-        BorrowingRecord borrowingRecord = borrowingRecordRepository.findById(borrowingRecordId)
+        BorrowingRecord borrowingRecord = borrowingRecordRepository.findByIdWithBookAndUser(borrowingRecordId)
                 .orElseThrow(() -> new ResourceNotFoundException("Borrowing record not found"));
 
         // Validate renewal eligibility
@@ -150,11 +213,11 @@ public class BorrowingServiceImpl implements BorrowingService {
     @Override
     @Transactional
     public BorrowingHistoryResponse markBookAsLost(Long borrowingRecordId) {
-        log.info("Marking book as lost for borrowing record ID: {}", borrowingRecordId);
+        log.debug("Marking book as lost for borrowing record ID: {}", borrowingRecordId);
 
         UserPrincipal currentUser = getCurrentUser();
 
-        BorrowingRecord borrowingRecord = borrowingRecordRepository.findById(borrowingRecordId)
+        BorrowingRecord borrowingRecord = borrowingRecordRepository.findByIdWithBookAndUser(borrowingRecordId)
                 .orElseThrow(() -> new ResourceNotFoundException("Borrowing record not found"));
 
         // Validate user permissions
@@ -176,7 +239,7 @@ public class BorrowingServiceImpl implements BorrowingService {
     public BorrowingHistoryResponse getBorrowingRecordById(Long id) {
         log.debug("Getting borrowing record by ID: {}", id);
 
-        BorrowingRecord record = borrowingRecordRepository.findById(id)
+        BorrowingRecord record = borrowingRecordRepository.findByIdWithBookAndUser(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Borrowing record not found"));
 
         UserPrincipal currentUser = getCurrentUser();
@@ -201,15 +264,12 @@ public class BorrowingServiceImpl implements BorrowingService {
             throw new UnauthorizedException("Not authorized to view this user's borrowing history");
         }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "borrowDate"));
-        Page<Object[]> historyPage = borrowingRecordRepository.findUserBorrowingHistory(userId, pageable);
-
-        // Convert Object[] results to BorrowingHistoryResponse
-        List<BorrowingHistoryResponse> content = historyPage.getContent().stream()
-                .map(this::mapObjectArrayToResponse)
-                .toList();
-
-        return PagedResponse.of(content, page, size, historyPage.getTotalElements());
+        return archiveAwareHistory(page, size,
+                borrowingRecordRepository.summarizeUserArchive(userId),
+                pageable -> borrowingRecordRepository.findUserBorrowingHistory(userId, pageable),
+                date -> borrowingRecordRepository.countByUserIdAndBorrowDateAfter(userId, date),
+                () -> borrowingRecordRepository.countByUserId(userId),
+                (limit, offset) -> borrowingRecordRepository.findUserHistoryIncludingArchive(userId, limit, offset));
     }
 
     @Override
@@ -231,10 +291,8 @@ public class BorrowingServiceImpl implements BorrowingService {
             throw new UnauthorizedException("Not authorized to view this user's borrowed books");
         }
 
-        List<Object[]> currentBooks = borrowingRecordRepository.findUserCurrentBorrowedBooks(userId);
-
-        return currentBooks.stream()
-                .map(this::mapObjectArrayToResponse)
+        return borrowingRecordRepository.findUserCurrentBorrowedBooks(userId).stream()
+                .map(BorrowingMapper::toResponse)
                 .toList();
     }
 
@@ -277,13 +335,12 @@ public class BorrowingServiceImpl implements BorrowingService {
 
     @Override
     @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
     public List<BorrowingHistoryResponse> getOverdueBooks() {
         log.debug("Getting overdue books");
 
-        List<Object[]> overdueBooks = borrowingRecordRepository.findOverdueBooks();
-
-        return overdueBooks.stream()
-                .map(this::mapObjectArrayToResponse)
+        return borrowingRecordRepository.findOverdueBooks().stream()
+                .map(BorrowingMapper::toResponse)
                 .toList();
     }
 
@@ -304,18 +361,17 @@ public class BorrowingServiceImpl implements BorrowingService {
     public PagedResponse<BorrowingHistoryResponse> getBookBorrowingHistory(Long bookId, int page, int size) {
         log.debug("Getting borrowing history for book ID: {}", bookId);
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "borrowDate"));
-        List<BorrowingRecord> records = borrowingRecordRepository.findByBookId(bookId);
-
-        List<BorrowingHistoryResponse> content = records.stream()
-                .map(BorrowingMapper::toResponse)
-                .toList();
-
-        return PagedResponse.of(content, page, size, records.size());
+        return archiveAwareHistory(page, size,
+                borrowingRecordRepository.summarizeBookArchive(bookId),
+                pageable -> borrowingRecordRepository.findBookBorrowingHistory(bookId, pageable),
+                date -> borrowingRecordRepository.countByBookIdAndBorrowDateAfter(bookId, date),
+                () -> borrowingRecordRepository.countByBookId(bookId),
+                (limit, offset) -> borrowingRecordRepository.findBookHistoryIncludingArchive(bookId, limit, offset));
     }
 
     @Override
     @Transactional
+    @Workload(WorkloadType.BATCH)
     public int updateOverdueRecords() {
         log.info("Updating overdue records");
         return borrowingRecordRepository.markOverdueRecords();
@@ -323,6 +379,7 @@ public class BorrowingServiceImpl implements BorrowingService {
 
     @Override
     @Transactional
+    @Workload(WorkloadType.BATCH)
     public int updateOverdueFines(double finePerDay) {
         log.info("Updating overdue fines with rate: {} per day", finePerDay);
         return borrowingRecordRepository.updateOverdueFines(finePerDay);
@@ -330,28 +387,32 @@ public class BorrowingServiceImpl implements BorrowingService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Object[]> getUsersWithOutstandingFines() {
+    @Workload(WorkloadType.REPORTING)
+    public List<UserFineSummary> getUsersWithOutstandingFines() {
         log.debug("Getting users with outstanding fines");
         return borrowingRecordRepository.getUsersWithOutstandingFines();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Object[]> getLibraryStatistics() {
+    @Workload(WorkloadType.REPORTING)
+    public List<LibraryMetric> getLibraryStatistics() {
         log.debug("Getting library statistics");
         return borrowingRecordRepository.getLibraryStatistics();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Object[] getOverdueStatistics() {
+    @Workload(WorkloadType.REPORTING)
+    public OverdueStatistics getOverdueStatistics() {
         log.debug("Getting overdue statistics");
         return borrowingRecordRepository.getOverdueStatistics();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Object[]> getBorrowingTrendsByMonth(LocalDate startDate) {
+    @Workload(WorkloadType.REPORTING)
+    public List<MonthlyBorrowingTrend> getBorrowingTrendsByMonth(LocalDate startDate) {
         log.debug("Getting borrowing trends since: {}", startDate);
         return borrowingRecordRepository.getBorrowingTrendsByMonth(startDate);
     }
@@ -394,7 +455,7 @@ public class BorrowingServiceImpl implements BorrowingService {
 
     @Override
     @Transactional(readOnly = true)
-    public Object[] getUserBorrowingCapacity(Long userId) {
+    public BorrowingCapacity getUserBorrowingCapacity(Long userId) {
         return borrowingRecordRepository.getUserBorrowingCapacity(userId);
     }
 
@@ -407,19 +468,44 @@ public class BorrowingServiceImpl implements BorrowingService {
     @Override
     @Transactional(readOnly = true)
     public long countOverdueBooks() {
-        List<BorrowingRecord> overdueRecords = borrowingRecordRepository.findOverdueRecords(LocalDate.now());
-        return overdueRecords.size();
+        return borrowingRecordRepository.countOverdueRecords(LocalDate.now());
     }
 
     @Override
     @Transactional(readOnly = true)
     public long countBorrowingsByStatus(BorrowStatus status) {
-        List<BorrowingRecord> records = borrowingRecordRepository.findByStatus(status);
-        return records.size();
+        return borrowingRecordRepository.countByStatus(status);
     }
 
     // Private helper methods
 
+    /**
+     * Page through live and archived loans newest first. Archived loans are older than any live
+     * loan borrowed after the latest archived one, so pages made up only of those come from the
+     * live table alone and the union with the archive is queried only for deeper pages.
+     */
+    private PagedResponse<BorrowingHistoryResponse> archiveAwareHistory(
+            int page, int size, ArchiveSummary archive,
+            Function<Pageable, Page<BorrowingHistoryView>> livePage,
+            ToLongFunction<LocalDate> liveCountAfter,
+            LongSupplier liveCount,
+            BiFunction<Integer, Long, List<BorrowingHistoryView>> unionPage) {
+
+        long pageEnd = (long) (page + 1) * size;
+        if (archive.isEmpty() || pageEnd <= liveCountAfter.applyAsLong(archive.getLatestBorrowDate())) {
+            Page<BorrowingHistoryView> records = livePage.apply(PageRequest.of(page, size));
+            List<BorrowingHistoryResponse> content = records.getContent().stream()
+                    .map(BorrowingMapper::toResponse)
+                    .toList();
+            return PagedResponse.of(content, page, size, records.getTotalElements() + archive.getTotal());
+        }
+
+        List<BorrowingHistoryResponse> content = unionPage.apply(size, (long) page * size).stream()
+                .map(BorrowingMapper::toResponse)
+                .toList();
+        return PagedResponse.of(content, page, size, liveCount.getAsLong() + archive.getTotal());
+    }
+
     private UserPrincipal getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -450,11 +536,7 @@ public class BorrowingServiceImpl implements BorrowingService {
         }
 
         // Check for outstanding fines (optional rule)
-        List<Object[]> fines = borrowingRecordRepository.getUsersWithOutstandingFines();
-        boolean hasOutstandingFines = fines.stream()
-                .anyMatch(fine -> ((Number) fine[0]).longValue() == user.getId());
-
-        if (hasOutstandingFines) {
+        if (borrowingRecordRepository.hasOutstandingFines(user.getId())) {
             throw new BadRequestException("User has outstanding fines. Please clear fines before borrowing.");
         }
     }
@@ -486,11 +568,4 @@ public class BorrowingServiceImpl implements BorrowingService {
             throw new BadRequestException("Only borrowed books can be renewed");
         }
     }
-
-    private BorrowingHistoryResponse mapObjectArrayToResponse(Object[] result) {
-        // This would map the Object[] from native queries to BorrowingHistoryResponse
-        // Implementation would depend on the exact query structure
-        // For now, return a basic response (this should be properly implemented)
-        return BorrowingHistoryResponse.builder().build();
-    }
 }
\ No newline at end of file
@@ -1,10 +1,14 @@
 package com.library.library_management_system.service.impl;
 
 import com.library.library_management_system.config.CacheConfig;
+import com.library.library_management_system.datasource.Workload;
+import com.library.library_management_system.datasource.WorkloadType;
 import com.library.library_management_system.dto.mapper.BookMapper;
+import com.library.library_management_system.dto.mapper.BorrowingMapper;
 import com.library.library_management_system.dto.mapper.UserMapper;
 import com.library.library_management_system.dto.request.ReportRequest;
 import com.library.library_management_system.dto.response.BookResponse;
+import com.library.library_management_system.dto.response.BorrowingHistoryResponse;
 import com.library.library_management_system.dto.response.DashboardStatsResponse;
 import com.library.library_management_system.dto.response.ReportResponse;
 import com.library.library_management_system.dto.response.UserResponse;
@@ -14,10 +18,20 @@ import com.library.library_management_system.exception.BadRequestException;
 import com.library.library_management_system.repository.BookRepository;
 import com.library.library_management_system.repository.BorrowingRecordRepository;
 import com.library.library_management_system.repository.UserRepository;
+import com.library.library_management_system.repository.projection.BookAvailabilityStats;
+import com.library.library_management_system.repository.projection.BookBorrowStats;
+import com.library.library_management_system.repository.projection.GenreBookStats;
+import com.library.library_management_system.repository.projection.GenreBorrowStats;
+import com.library.library_management_system.repository.projection.LibraryMetric;
+import com.library.library_management_system.repository.projection.MemberActivityStats;
+import com.library.library_management_system.repository.projection.MonthlyBorrowingTrend;
+import com.library.library_management_system.repository.projection.OverdueStatistics;
+import com.library.library_management_system.repository.projection.UserFineSummary;
 import com.library.library_management_system.service.BookService;
 import com.library.library_management_system.service.BorrowingService;
 import com.library.library_management_system.service.ReportService;
 import com.library.library_management_system.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -36,6 +50,8 @@ import java.util.Map;
  * Report Service Implementation (Fixed)
  */
 @Service
+@Workload(WorkloadType.REPORTING)
+@Timed(value = "library.reports", description = "Latency of report generation", histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class ReportServiceImpl implements ReportService {
@@ -51,23 +67,23 @@ public class ReportServiceImpl implements ReportService {
     @Cacheable(value = CacheConfig.DASHBOARD_CACHE, key = "'dashboard'")
     @Transactional(readOnly = true)
     public DashboardStatsResponse getDashboardStats() {
-        log.info("Generating dashboard statistics");
+        log.debug("Generating dashboard statistics");
 
         // Get basic statistics using existing repositories
-        Object[] bookAvailability = bookRepository.getBookAvailabilityStats();
-        List<Object[]> genreStats = bookRepository.getPopularGenreStats();
+        BookAvailabilityStats bookAvailability = bookRepository.getBookAvailabilityStats();
+        List<GenreBorrowStats> genreStats = bookRepository.getPopularGenreStats();
 
         // Get most borrowed book and most active user
         List<BookResponse> mostBorrowedBooks = bookService.getMostBorrowedBooks(1);
         List<UserResponse> mostActiveUsers = userService.getMostActiveUsers(1);
 
-        String mostPopularGenre = genreStats.isEmpty() ? "N/A" : (String) genreStats.get(0)[0];
+        String mostPopularGenre = genreStats.isEmpty() ? "N/A" : genreStats.get(0).getGenre().name();
 
         return DashboardStatsResponse.builder()
-                .totalBooks(bookAvailability != null ? ((Number) bookAvailability[0]).longValue() : 0L)
-                .totalBooks(bookAvailability != null ? ((Number) bookAvailability[1]).longValue() : 0L)
-                .availableCopies(bookAvailability != null ? ((Number) bookAvailability[2]).longValue() : 0L)
-                .borrowedCopies(bookAvailability != null ? ((Number) bookAvailability[3]).longValue() : 0L)
+                .totalBooks(bookAvailability != null ? bookAvailability.getTotalBooks() : 0L)
+                .totalCopies(bookAvailability != null ? bookAvailability.getTotalCopies() : 0L)
+                .availableCopies(bookAvailability != null ? bookAvailability.getAvailableCopies() : 0L)
+                .borrowedCopies(bookAvailability != null ? bookAvailability.getBorrowedCopies() : 0L)
                 .availabilityPercentage(bookAvailability != null ?
                         calculateAvailabilityPercentage(bookAvailability) : 0.0)
                 .activeUsers(userService.countActiveUsers())
@@ -91,7 +107,7 @@ public class ReportServiceImpl implements ReportService {
     @Cacheable(value = CacheConfig.REPORTS_CACHE, key = "#request.toString()")
     @Transactional(readOnly = true)
     public ReportResponse generateReport(ReportRequest request) {
-        log.info("Generating report: {}", request.getReportType());
+        log.debug("Generating report: {}", request.getReportType());
 
         return switch (request.getReportType()) {
             case "MOST_BORROWED_BOOKS" -> getMostBorrowedBooksReport(
@@ -111,19 +127,19 @@ public class ReportServiceImpl implements ReportService {
     @Cacheable(value = CacheConfig.REPORTS_CACHE, key = "'mostBorrowed:' + #startDate + ':' + #endDate + ':' + #limit")
     @Transactional(readOnly = true)
     public ReportResponse getMostBorrowedBooksReport(LocalDate startDate, LocalDate endDate, int limit) {
-        log.info("Generating most borrowed books report from {} to {} (limit: {})", startDate, endDate, limit);
+        log.debug("Generating most borrowed books report from {} to {} (limit: {})", startDate, endDate, limit);
 
-        List<Object[]> mostBorrowedStats = borrowingRecordRepository.getMostBorrowedBooksWithStats(limit);
+        List<BookBorrowStats> mostBorrowedStats = borrowingRecordRepository.getMostBorrowedBooksWithStats(limit);
 
         List<ReportResponse.MostBorrowedBookDto> mostBorrowedBooks = mostBorrowedStats.stream()
                 .map(stats -> ReportResponse.MostBorrowedBookDto.builder()
-                        .bookId(((Number) stats[0]).longValue())
-                        .title((String) stats[1])
-                        .author((String) stats[2])
-                        .genre((String) stats[4])
-                        .totalBorrows(((Number) stats[5]).longValue())
-                        .uniqueBorrowers(((Number) stats[6]).longValue())
-                        .averageBorrowDuration(stats[7] != null ? ((Number) stats[7]).doubleValue() : 0.0)
+                        .bookId(stats.getBookId())
+                        .title(stats.getTitle())
+                        .author(stats.getAuthor())
+                        .genre(stats.getGenre().name())
+                        .totalBorrows(stats.getTotalBorrows())
+                        .uniqueBorrowers(stats.getUniqueBorrowers())
+                        .averageBorrowDuration(orZero(stats.getAverageBorrowDuration()))
                         .circulationRate(0.0) // Calculate based on total copies
                         .build())
                 .toList();
@@ -143,21 +159,21 @@ public class ReportServiceImpl implements ReportService {
     @Cacheable(value = CacheConfig.REPORTS_CACHE, key = "'activeMembers:' + #startDate + ':' + #endDate + ':' + #limit")
     @Transactional(readOnly = true)
     public ReportResponse getActiveMembersReport(LocalDate startDate, LocalDate endDate, int limit) {
-        log.info("Generating active members report from {} to {} (limit: {})", startDate, endDate, limit);
+        log.debug("Generating active members report from {} to {} (limit: {})", startDate, endDate, limit);
 
-        List<Object[]> activeMembersStats = borrowingRecordRepository.getMostActiveMembers(startDate, limit);
+        List<MemberActivityStats> activeMembersStats = borrowingRecordRepository.getMostActiveMembers(startDate, limit);
 
         List<ReportResponse.ActiveMemberDto> activeMembers = activeMembersStats.stream()
                 .map(stats -> ReportResponse.ActiveMemberDto.builder()
-                        .userId(((Number) stats[0]).longValue())
-                        .username((String) stats[1])
-                        .fullName((String) stats[2])
-                        .email((String) stats[3])
-                        .totalBorrows(((Number) stats[4]).longValue())
-                        .returnedBooks(((Number) stats[5]).longValue())
-                        .overdueBooks(((Number) stats[6]).longValue())
-                        .averageBorrowDuration(stats[7] != null ? ((Number) stats[7]).doubleValue() : 0.0)
-                        .totalFines(stats[8] != null ? ((Number) stats[8]).doubleValue() : 0.0)
+                        .userId(stats.getUserId())
+                        .username(stats.getUsername())
+                        .fullName(stats.getFullName())
+                        .email(stats.getEmail())
+                        .totalBorrows(stats.getTotalBorrows())
+                        .returnedBooks(stats.getReturnedBooks())
+                        .overdueBooks(stats.getOverdueBooks())
+                        .averageBorrowDuration(orZero(stats.getAverageBorrowDuration()))
+                        .totalFines(orZero(stats.getTotalFines()))
                         .build())
                 .toList();
 
@@ -176,18 +192,18 @@ public class ReportServiceImpl implements ReportService {
     @Cacheable(value = CacheConfig.REPORTS_CACHE, key = "'bookAvailability'")
     @Transactional(readOnly = true)
     public ReportResponse getBookAvailabilityReport() {
-        log.info("Generating book availability report");
+        log.debug("Generating book availability report");
 
-        Object[] availabilityStats = bookRepository.getBookAvailabilityStats();
+        BookAvailabilityStats availabilityStats = bookRepository.getBookAvailabilityStats();
 
         ReportResponse.BookAvailabilityDto bookAvailability = null;
         if (availabilityStats != null) {
             bookAvailability = ReportResponse.BookAvailabilityDto.builder()
-                    .totalBooks(((Number) availabilityStats[0]).longValue())
-                    .totalCopies(((Number) availabilityStats[1]).longValue())
-                    .availableCopies(((Number) availabilityStats[2]).longValue())
-                    .borrowedCopies(((Number) availabilityStats[3]).longValue())
-                    .outOfStockBooks(((Number) availabilityStats[4]).longValue())
+                    .totalBooks(availabilityStats.getTotalBooks())
+                    .totalCopies(availabilityStats.getTotalCopies())
+                    .availableCopies(availabilityStats.getAvailableCopies())
+                    .borrowedCopies(availabilityStats.getBorrowedCopies())
+                    .outOfStockBooks(availabilityStats.getOutOfStockBooks())
                     .availabilityPercentage(calculateAvailabilityPercentage(availabilityStats))
                     .build();
         }
@@ -205,17 +221,19 @@ public class ReportServiceImpl implements ReportService {
     @Cacheable(value = CacheConfig.REPORTS_CACHE, key = "'overdueBooks'")
     @Transactional(readOnly = true)
     public ReportResponse getOverdueBooksReport() {
-        log.info("Generating overdue books report");
+        log.debug("Generating overdue books report");
 
-        Object[] overdueStats = borrowingRecordRepository.getOverdueStatistics();
-        List<Object[]> overdueBooks = borrowingRecordRepository.findOverdueBooks();
+        OverdueStatistics overdueStats = borrowingRecordRepository.getOverdueStatistics();
+        List<BorrowingHistoryResponse> overdueBooks = borrowingRecordRepository.findOverdueBooks().stream()
+                .map(BorrowingMapper::toResponse)
+                .toList();
 
         Map<String, Object> customData = new HashMap<>();
         if (overdueStats != null) {
-            customData.put("totalOverdue", overdueStats[0]);
-            customData.put("uniqueUsers", overdueStats[1]);
-            customData.put("averageDaysOverdue", overdueStats[2]);
-            customData.put("totalFines", overdueStats[3]);
+            customData.put("totalOverdue", overdueStats.getTotalOverdue());
+            customData.put("uniqueUsers", overdueStats.getUniqueUsers());
+            customData.put("averageDaysOverdue", orZero(overdueStats.getAverageDaysOverdue()));
+            customData.put("totalFines", orZero(overdueStats.getTotalFines()));
         }
         customData.put("overdueBooksList", overdueBooks);
 
@@ -232,18 +250,18 @@ public class ReportServiceImpl implements ReportService {
     @Cacheable(value = CacheConfig.REPORTS_CACHE, key = "'genreDistribution'")
     @Transactional(readOnly = true)
     public ReportResponse getGenreDistributionReport() {
-        log.info("Generating genre distribution report");
+        log.debug("Generating genre distribution report");
 
         // ✅ FIXED: Use existing repository methods instead of LibraryStatsRepository
-        List<Object[]> genreStats = bookRepository.getPopularGenreStats();
+        List<GenreBorrowStats> genreStats = bookRepository.getPopularGenreStats();
 
         List<ReportResponse.GenreStatsDto> genreDistribution = genreStats.stream()
                 .map(stats -> ReportResponse.GenreStatsDto.builder()
-                        .genre((String) stats[0])
-                        .totalBooks(((Number) stats[1]).longValue())
+                        .genre(stats.getGenre().name())
+                        .totalBooks(stats.getUniqueBooks())
                         .totalCopies(0L) // Would need additional query
                         .availableCopies(0L) // Would need additional query
-                        .totalBorrows(((Number) stats[1]).longValue())
+                        .totalBorrows(stats.getTotalBorrows())
                         .averageBorrowDays(0.0) // Would need additional query
                         .build())
                 .toList();
@@ -261,18 +279,18 @@ public class ReportServiceImpl implements ReportService {
     @Cacheable(value = CacheConfig.REPORTS_CACHE, key = "'monthlyTrends:' + #startDate + ':' + #endDate")
     @Transactional(readOnly = true)
     public ReportResponse getMonthlyTrendsReport(LocalDate startDate, LocalDate endDate) {
-        log.info("Generating monthly trends report from {} to {}", startDate, endDate);
+        log.debug("Generating monthly trends report from {} to {}", startDate, endDate);
 
-        List<Object[]> monthlyStats = borrowingRecordRepository.getBorrowingTrendsByMonth(startDate);
+        List<MonthlyBorrowingTrend> monthlyStats = borrowingRecordRepository.getBorrowingTrendsByMonth(startDate);
 
         List<ReportResponse.MonthlyTrendDto> monthlyTrends = monthlyStats.stream()
                 .map(stats -> ReportResponse.MonthlyTrendDto.builder()
-                        .month((String) stats[0])
-                        .totalBorrows(((Number) stats[1]).longValue())
-                        .uniqueUsers(((Number) stats[2]).longValue())
-                        .uniqueBooks(((Number) stats[3]).longValue())
-                        .onTimeReturns(((Number) stats[4]).longValue())
-                        .lateReturns(((Number) stats[5]).longValue())
+                        .month(stats.getMonth())
+                        .totalBorrows(stats.getTotalBorrows())
+                        .uniqueUsers(stats.getUniqueUsers())
+                        .uniqueBooks(stats.getUniqueBooks())
+                        .onTimeReturns(stats.getOnTimeReturns())
+                        .lateReturns(stats.getLateReturns())
                         .build())
                 .toList();
 
@@ -290,14 +308,14 @@ public class ReportServiceImpl implements ReportService {
     @Override
     @Transactional(readOnly = true)
     public ReportResponse getFineCollectionReport(LocalDate startDate, LocalDate endDate) {
-        log.info("Generating fine collection report from {} to {}", startDate, endDate);
+        log.debug("Generating fine collection report from {} to {}", startDate, endDate);
 
-        List<Object[]> fineStats = borrowingRecordRepository.getUsersWithOutstandingFines();
+        List<UserFineSummary> fineStats = borrowingRecordRepository.getUsersWithOutstandingFines();
 
         Map<String, Object> customData = new HashMap<>();
         customData.put("usersWithFines", fineStats);
         customData.put("totalOutstandingFines",
-                fineStats.stream().mapToDouble(stat -> ((Number) stat[4]).doubleValue()).sum());
+                fineStats.stream().mapToDouble(UserFineSummary::getTotalFines).sum());
 
         return ReportResponse.builder()
                 .reportType("FINE_COLLECTION")
@@ -313,7 +331,7 @@ public class ReportServiceImpl implements ReportService {
     @Override
     @Transactional(readOnly = true)
     public ReportResponse getUserActivityReport(LocalDate startDate, LocalDate endDate) {
-        log.info("Generating user activity report from {} to {}", startDate, endDate);
+        log.debug("Generating user activity report from {} to {}", startDate, endDate);
 
         // ✅ FIXED: Use existing repository methods
         List<UserResponse> activeUsers = userService.getMostActiveUsers(50);
@@ -336,7 +354,7 @@ public class ReportServiceImpl implements ReportService {
     @Cacheable(value = CacheConfig.REPORTS_CACHE, key = "'inventoryHealth'")
     @Transactional(readOnly = true)
     public ReportResponse getInventoryHealthReport() {
-        log.info("Generating inventory health report");
+        log.debug("Generating inventory health report");
 
         // ✅ FIXED: Use existing service methods
         List<BookResponse> lowStockBooks = bookService.getBooksWithLowAvailability(2);
@@ -357,26 +375,26 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Object[]> getLibraryStatistics() {
+    public List<LibraryMetric> getLibraryStatistics() {
         return borrowingRecordRepository.getLibraryStatistics();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Object[]> getBookCirculationStats(LocalDate startDate, LocalDate endDate) {
+    public List<MonthlyBorrowingTrend> getBookCirculationStats(LocalDate startDate, LocalDate endDate) {
         return borrowingRecordRepository.getBorrowingTrendsByMonth(startDate);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Object[]> getUserEngagementMetrics(LocalDate startDate, LocalDate endDate) {
+    public List<MemberActivityStats> getUserEngagementMetrics(LocalDate startDate, LocalDate endDate) {
         return borrowingRecordRepository.getMostActiveMembers(startDate, 100);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Object[]> getPopularBooksByGenre(String genre, int limit) {
-        return bookRepository.findBooksByGenreWithStats(genre);
+    public List<GenreBookStats> getPopularBooksByGenre(String genre, int limit) {
+        return bookRepository.findBooksByGenreWithStats(genre, limit);
     }
 
     @Override
@@ -391,7 +409,7 @@ public class ReportServiceImpl implements ReportService {
     @Cacheable(value = CacheConfig.REPORTS_CACHE, key = "'executiveSummary:' + #startDate + ':' + #endDate")
     @Transactional(readOnly = true)
     public ReportResponse getExecutiveSummary(LocalDate startDate, LocalDate endDate) {
-        log.info("Generating executive summary from {} to {}", startDate, endDate);
+        log.debug("Generating executive summary from {} to {}", startDate, endDate);
 
         // Combine multiple reports for executive overview
         DashboardStatsResponse dashboard = getDashboardStats();
@@ -451,14 +469,14 @@ public class ReportServiceImpl implements ReportService {
 
     // Helper methods
 
-    private Double calculateAvailabilityPercentage(Object[] stats) {
-        if (stats.length >= 3 && stats[1] != null && stats[2] != null) {
-            double totalCopies = ((Number) stats[1]).doubleValue();
-            double availableCopies = ((Number) stats[2]).doubleValue();
-            if (totalCopies > 0) {
-                return (availableCopies / totalCopies) * 100.0;
-            }
+    private Double calculateAvailabilityPercentage(BookAvailabilityStats stats) {
+        if (stats.getTotalCopies() > 0) {
+            return ((double) stats.getAvailableCopies() / stats.getTotalCopies()) * 100.0;
         }
         return 0.0;
     }
+
+    private static double orZero(Double value) {
+        return value != null ? value : 0.0;
+    }
 }
\ No newline at end of file
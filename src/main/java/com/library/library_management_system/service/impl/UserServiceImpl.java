@@ -1,5 +1,7 @@
 package com.library.library_management_system.service.impl;
 
+import com.library.library_management_system.datasource.Workload;
+import com.library.library_management_system.datasource.WorkloadType;
 import com.library.library_management_system.dto.mapper.PageMapper;
 import com.library.library_management_system.dto.mapper.UserMapper;
 import com.library.library_management_system.dto.request.UserSearchRequest;
@@ -13,6 +15,8 @@ import com.library.library_management_system.exception.ResourceNotFoundException
 import com.library.library_management_system.exception.UnauthorizedException;
 import com.library.library_management_system.repository.BorrowingRecordRepository;
 import com.library.library_management_system.repository.UserRepository;
+import com.library.library_management_system.repository.projection.BorrowingCapacity;
+import com.library.library_management_system.repository.projection.UserBorrowingStats;
 import com.library.library_management_system.security.UserPrincipal;
 import com.library.library_management_system.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -29,7 +33,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * User Service Implementation
@@ -60,7 +67,7 @@ public class UserServiceImpl implements UserService {
     public UserResponse getUserByUsername(String username) {
         log.debug("Getting user by username: {}", username);
 
-        User user = userRepository.findByUsername(username)
+        User user = userRepository.findBySimpleNaturalId(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
 
         return UserMapper.toResponse(user);
@@ -78,6 +85,19 @@ public class UserServiceImpl implements UserService {
         return UserMapper.toResponse(user);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, UserResponse> getUsersByIds(Collection<Long> ids) {
+        log.debug("Getting {} users by ID", ids.size());
+
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return userRepository.findAllByIdCached(ids).stream()
+                .collect(Collectors.toMap(User::getId, UserMapper::toResponse));
+    }
+
     @Override
     @CacheEvict(value = "users", key = "#id")
     @Transactional
@@ -232,6 +252,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Cacheable(value = "userStats", key = "'overdueUsers'")
     @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
     public List<UserResponse> getUsersWithOverdueBooks() {
         log.debug("Getting users with overdue books");
 
@@ -242,6 +263,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Cacheable(value = "userStats", key = "'mostActive:' + #limit")
     @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
     public List<UserResponse> getMostActiveUsers(int limit) {
         log.debug("Getting most active users, limit: {}", limit);
 
@@ -278,15 +300,11 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
 
-        Object[] stats = userRepository.getUserBorrowingStats(userId);
-
-        if (stats != null && stats.length >= 7) {
-            Long totalBorrowed = ((Number) stats[4]).longValue();
-            Long totalReturned = ((Number) stats[5]).longValue();
-            Long overdueCount = ((Number) stats[6]).longValue();
-            Double totalFines = ((Number) stats[7]).doubleValue();
+        UserBorrowingStats stats = userRepository.getUserBorrowingStats(userId);
 
-            return UserMapper.toResponseWithStats(user, totalBorrowed, totalReturned, overdueCount, totalFines);
+        if (stats != null) {
+            return UserMapper.toResponseWithStats(user, stats.getTotalBorrowed(), stats.getCurrentlyBorrowed(),
+                    stats.getOverdueCount(), stats.getTotalFines());
         }
 
         return UserMapper.toResponse(user);
@@ -313,16 +331,10 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public boolean canUserBorrowBooks(Long userId) {
-        Object[] capacity = borrowingRecordRepository.getUserBorrowingCapacity(userId);
-
-        if (capacity != null && capacity.length >= 2) {
-            Integer maxAllowed = (Integer) capacity[0];
-            Long currentBorrowed = ((Number) capacity[1]).longValue();
-
-            return currentBorrowed < maxAllowed;
-        }
+        BorrowingCapacity capacity = borrowingRecordRepository.getUserBorrowingCapacity(userId);
 
-        return false;
+        return capacity != null && capacity.getMaxBooksAllowed() != null
+                && capacity.getCurrentBorrowed() < capacity.getMaxBooksAllowed();
     }
 
     private String getCurrentUsername() {
@@ -0,0 +1,99 @@
+-- Baseline schema, equivalent to what ddl-auto=update produced from the entities.
+-- Databases created that way are baselined at this version and start at V2.
+
+CREATE TABLE users (
+    id                BIGINT       NOT NULL,
+    username          VARCHAR(255) NOT NULL,
+    full_name         VARCHAR(255) NOT NULL,
+    email             VARCHAR(255) NOT NULL,
+    password          VARCHAR(255) NOT NULL,
+    role              ENUM ('ADMIN','MEMBER') NOT NULL,
+    phone_number      VARCHAR(255),
+    address           VARCHAR(255),
+    date_of_birth     DATE,
+    membership_date   DATE,
+    is_active         BIT,
+    max_books_allowed INTEGER,
+    created_at        DATETIME(6)  NOT NULL,
+    updated_at        DATETIME(6)  NOT NULL,
+    created_by        VARCHAR(255),
+    updated_by        VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_username UNIQUE (username)
+) ENGINE = InnoDB;
+
+CREATE TABLE books (
+    id               BIGINT       NOT NULL,
+    title            VARCHAR(200) NOT NULL,
+    author           VARCHAR(100) NOT NULL,
+    isbn             VARCHAR(20)  NOT NULL,
+    description      TEXT,
+    genre            ENUM ('FICTION','NON_FICTION','MYSTERY','THRILLER','ROMANCE','SCIENCE_FICTION','FANTASY',
+                           'BIOGRAPHY','AUTOBIOGRAPHY','HISTORY','SCIENCE','TECHNOLOGY','PHILOSOPHY','PSYCHOLOGY',
+                           'SELF_HELP','BUSINESS','ECONOMICS','POLITICS','RELIGION','HEALTH','COOKING','TRAVEL',
+                           'ART','MUSIC','POETRY','DRAMA','CHILDREN','YOUNG_ADULT','EDUCATIONAL','REFERENCE',
+                           'OTHER') NOT NULL,
+    publication_date DATE,
+    publisher        VARCHAR(100),
+    language         VARCHAR(50),
+    pages            INTEGER,
+    total_copies     INTEGER      NOT NULL,
+    available_copies INTEGER      NOT NULL,
+    status           ENUM ('AVAILABLE','BORROWED','RESERVED','MAINTENANCE','LOST','DAMAGED') NOT NULL,
+    shelf_location   VARCHAR(50),
+    cover_image_url  VARCHAR(255),
+    price            FLOAT(53),
+    edition          VARCHAR(20),
+    is_active        BIT,
+    created_at       DATETIME(6)  NOT NULL,
+    updated_at       DATETIME(6)  NOT NULL,
+    created_by       VARCHAR(255),
+    updated_by       VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_books_isbn UNIQUE (isbn)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_book_title ON books (title);
+CREATE INDEX idx_book_author ON books (author);
+CREATE INDEX idx_book_genre ON books (genre);
+CREATE INDEX idx_book_status ON books (status);
+
+CREATE TABLE borrowing_records (
+    id                   BIGINT      NOT NULL,
+    user_id              BIGINT      NOT NULL,
+    book_id              BIGINT      NOT NULL,
+    borrow_date          DATE        NOT NULL,
+    due_date             DATE        NOT NULL,
+    return_date          DATE,
+    status               ENUM ('BORROWED','RETURNED','OVERDUE','LOST','RENEWED') NOT NULL,
+    fine_amount          FLOAT(53),
+    renewal_count        INTEGER,
+    max_renewals_allowed INTEGER,
+    notes                TEXT,
+    issued_by            VARCHAR(255),
+    returned_to          VARCHAR(255),
+    created_at           DATETIME(6) NOT NULL,
+    updated_at           DATETIME(6) NOT NULL,
+    created_by           VARCHAR(255),
+    updated_by           VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_borrowing_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_borrowing_book FOREIGN KEY (book_id) REFERENCES books (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_borrowing_user ON borrowing_records (user_id);
+CREATE INDEX idx_borrowing_book ON borrowing_records (book_id);
+CREATE INDEX idx_borrowing_status ON borrowing_records (status);
+CREATE INDEX idx_borrowing_borrow_date ON borrowing_records (borrow_date);
+CREATE INDEX idx_borrowing_due_date ON borrowing_records (due_date);
+
+-- Id generators (MySQL has no sequences, Hibernate emulates them with one-row tables)
+CREATE TABLE users_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO users_seq VALUES (1);
+
+CREATE TABLE books_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO books_seq VALUES (1);
+
+CREATE TABLE borrowing_records_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO borrowing_records_seq VALUES (1);
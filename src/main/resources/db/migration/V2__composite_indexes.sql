@@ -0,0 +1,21 @@
+-- Composite indexes for the hot predicates. QueryPlanRegressionTest checks that the
+-- queries below keep using them.
+
+-- countActiveUserBorrowings / findActiveUserBorrowings: WHERE user_id = ? AND status = ?
+-- (covering for the count)
+CREATE INDEX idx_borrowing_user_status ON borrowing_records (user_id, status);
+
+-- Overdue detection and markOverdueRecords: WHERE status IN (...) AND due_date < ?
+CREATE INDEX idx_borrowing_status_due_date ON borrowing_records (status, due_date);
+
+-- Per-book history: WHERE book_id = ? ORDER BY borrow_date
+CREATE INDEX idx_borrowing_book_borrow_date ON borrowing_records (book_id, borrow_date);
+
+-- Filtered browsing: WHERE is_active = true AND genre = ? ORDER BY title
+CREATE INDEX idx_book_active_genre_title ON books (is_active, genre, title);
+
+-- Single-column indexes that are now left prefixes of the composites above. The foreign
+-- keys on user_id and book_id are served by the new indexes.
+DROP INDEX idx_borrowing_user ON borrowing_records;
+DROP INDEX idx_borrowing_book ON borrowing_records;
+DROP INDEX idx_borrowing_status ON borrowing_records;
@@ -0,0 +1,15 @@
+-- Rows written before ids came from the *_seq tables (IDENTITY) may already use ids the
+-- generators would hand out. Move each generator past MAX(id) plus one allocation block
+-- (allocationSize = 50); never move one backwards.
+
+CREATE TABLE IF NOT EXISTS users_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO users_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM users_seq);
+UPDATE users_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM users));
+
+CREATE TABLE IF NOT EXISTS books_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO books_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM books_seq);
+UPDATE books_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM books));
+
+CREATE TABLE IF NOT EXISTS borrowing_records_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO borrowing_records_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM borrowing_records_seq);
+UPDATE borrowing_records_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM borrowing_records));
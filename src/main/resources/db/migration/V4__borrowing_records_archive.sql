@@ -0,0 +1,31 @@
+-- Closed loans older than the retention horizon are moved here by BorrowingArchiveService.
+-- Same columns as borrowing_records plus archived_at; no foreign keys, rows are never updated.
+
+CREATE TABLE borrowing_records_archive (
+    id                   BIGINT      NOT NULL,
+    user_id              BIGINT      NOT NULL,
+    book_id              BIGINT      NOT NULL,
+    borrow_date          DATE        NOT NULL,
+    due_date             DATE        NOT NULL,
+    return_date          DATE,
+    status               ENUM ('BORROWED','RETURNED','OVERDUE','LOST','RENEWED') NOT NULL,
+    fine_amount          FLOAT(53),
+    renewal_count        INTEGER,
+    max_renewals_allowed INTEGER,
+    notes                TEXT,
+    issued_by            VARCHAR(255),
+    returned_to          VARCHAR(255),
+    created_at           DATETIME(6) NOT NULL,
+    updated_at           DATETIME(6) NOT NULL,
+    created_by           VARCHAR(255),
+    updated_by           VARCHAR(255),
+    archived_at          DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- History lookups; (…, borrow_date) also answers "how many, and up to when" per user/book
+CREATE INDEX idx_archive_user_borrow_date ON borrowing_records_archive (user_id, borrow_date);
+CREATE INDEX idx_archive_book_borrow_date ON borrowing_records_archive (book_id, borrow_date);
+
+-- Lets the archival job find returned loans past the horizon without scanning
+CREATE INDEX idx_borrowing_status_return_date ON borrowing_records (status, return_date);
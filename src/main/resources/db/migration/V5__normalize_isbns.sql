@@ -0,0 +1,8 @@
+-- Store ISBNs in the canonical form Book.normalizeIsbn produces (no "ISBN" prefix, hyphens or
+-- spaces); every write path and lookup now uses it. A book already stored under the canonical
+-- spelling as well is left as is: the two rows have their own loans and must be merged by hand.
+
+UPDATE books
+SET isbn = REGEXP_REPLACE(UPPER(isbn), '^ISBN(-1[03])?:? |[- ]', '')
+WHERE isbn <> REGEXP_REPLACE(UPPER(isbn), '^ISBN(-1[03])?:? |[- ]', '')
+  AND REGEXP_REPLACE(UPPER(isbn), '^ISBN(-1[03])?:? |[- ]', '') NOT IN (SELECT isbn FROM (SELECT isbn FROM books) stored);
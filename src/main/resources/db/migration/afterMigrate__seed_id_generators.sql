@@ -0,0 +1,8 @@
+-- Runs after every Flyway migrate. Keeps each id generator (users_seq, books_seq,
+-- borrowing_records_seq) past MAX(id) plus one allocation block (allocationSize = 50), so
+-- rows written with explicit ids outside Hibernate (restores, manual fixes, IDENTITY-era
+-- data) never collide with a block the generators hand out. Never moves one backwards.
+
+UPDATE users_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM users));
+UPDATE books_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM books));
+UPDATE borrowing_records_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM borrowing_records));
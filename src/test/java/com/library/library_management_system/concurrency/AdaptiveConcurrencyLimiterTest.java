@@ -0,0 +1,93 @@
+package com.library.library_management_system.concurrency;
+
+import com.library.library_management_system.config.ConcurrencyLimitProperties;
+import com.library.library_management_system.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(10).toNanos();
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.getReports().setInitialLimit(2);
+        properties.getCirculation().setInitialLimit(10);
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+    }
+
+    @Test
+    void requestsOverTheLimitAreShedWithRetryAfter() {
+        limiter.acquire(EndpointClass.REPORTS);
+        limiter.acquire(EndpointClass.REPORTS);
+
+        assertThatThrownBy(() -> limiter.acquire(EndpointClass.REPORTS))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .extracting(ex -> ((ServiceOverloadedException) ex).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(5));
+        assertThat(meterRegistry.counter(AdaptiveConcurrencyLimiter.REJECTED_COUNTER, "class", "reports").count())
+                .isEqualTo(1);
+
+        limiter.release(EndpointClass.REPORTS, FAST, false);
+        limiter.acquire(EndpointClass.REPORTS);
+    }
+
+    @Test
+    void slowCallsShrinkTheLimitAndFastCallsUnderLoadGrowItBack() {
+        AimdLimiter circulation = limiter.limiter(EndpointClass.CIRCULATION);
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(EndpointClass.CIRCULATION);
+            limiter.release(EndpointClass.CIRCULATION, SLOW, false);
+        }
+        assertThat(circulation.getLimit()).isEqualTo(5);
+
+        // An idle class does not grow its limit
+        limiter.acquire(EndpointClass.CIRCULATION);
+        limiter.release(EndpointClass.CIRCULATION, FAST, false);
+        assertThat(circulation.getLimit()).isEqualTo(5);
+
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < circulation.getLimit(); i++) {
+                limiter.acquire(EndpointClass.CIRCULATION);
+            }
+            while (circulation.getInFlight() > 0) {
+                limiter.release(EndpointClass.CIRCULATION, FAST, false);
+            }
+        }
+        assertThat(circulation.getLimit()).isGreaterThan(5);
+    }
+
+    @Test
+    void slowCirculationBacksOffLowerPriorityClassesOnly() {
+        AimdLimiter catalogue = limiter.limiter(EndpointClass.CATALOGUE);
+        AimdLimiter reports = limiter.limiter(EndpointClass.REPORTS);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(EndpointClass.CIRCULATION);
+            limiter.release(EndpointClass.CIRCULATION, SLOW, false);
+        }
+        assertThat(catalogue.getLimit()).isLessThan(20);
+        assertThat(reports.getLimit()).isEqualTo(1);
+
+        int catalogueLimit = catalogue.getLimit();
+        AimdLimiter circulation = limiter.limiter(EndpointClass.CIRCULATION);
+        int circulationLimit = circulation.getLimit();
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(EndpointClass.REPORTS);
+            limiter.release(EndpointClass.REPORTS, SLOW, false);
+        }
+        assertThat(catalogue.getLimit()).isEqualTo(catalogueLimit);
+        assertThat(circulation.getLimit()).isEqualTo(circulationLimit);
+    }
+}
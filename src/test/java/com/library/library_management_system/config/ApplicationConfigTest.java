@@ -0,0 +1,28 @@
+package com.library.library_management_system.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.library_management_system.repository.projection.LibraryMetric;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplicationConfigTest {
+
+    private final ObjectMapper objectMapper = new ApplicationConfig().objectMapper(new JsonProperties());
+
+    @Test
+    void projectionProxiesSerializeWithBytecodeSerializersEnabled() throws Exception {
+        LibraryMetric metric = new SpelAwareProxyProjectionFactory()
+                .createProjection(LibraryMetric.class, Map.of("metric", "TOTAL_BORROWS", "value", 4.0));
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(List.of(metric)));
+
+        assertThat(json.get(0).get("metric").asText()).isEqualTo("TOTAL_BORROWS");
+        assertThat(json.get(0).get("value").asDouble()).isEqualTo(4.0);
+    }
+}
@@ -0,0 +1,161 @@
+package com.library.library_management_system.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes against two embedded H2 databases standing in for the primary and a replica
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private ReplicaLagMonitor lagMonitor;
+    private MutableClock clock;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWriteTx;
+    private TransactionTemplate readOnlyTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+
+        lagMonitor = new ReplicaLagMonitor(Map.of("replica-0", replica), Duration.ofSeconds(5),
+                "SELECT lag_seconds FROM replication_status", "lag_seconds");
+        clock = new MutableClock();
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), clock);
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, lagMonitor.getReplicas(),
+                lagMonitor, tracker);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        assertThat(databaseFor(readOnlyTx)).isEqualTo("replica");
+        assertThat(databaseFor(readWriteTx)).isEqualTo("primary");
+    }
+
+    @Test
+    void readsFallBackToPrimaryWhenReplicaLags() {
+        setReplicaLag(30);
+        lagMonitor.checkReplicas();
+        assertThat(databaseFor(readOnlyTx)).isEqualTo("primary");
+
+        setReplicaLag(1);
+        lagMonitor.checkReplicas();
+        assertThat(databaseFor(readOnlyTx)).isEqualTo("replica");
+    }
+
+    @Test
+    void readsFallBackToPrimaryWhenLagIsUnknown() {
+        replicaJdbcTemplate().execute("DELETE FROM replication_status");
+        lagMonitor.checkReplicas();
+
+        assertThat(lagMonitor.isHealthy("replica-0")).isFalse();
+        assertThat(databaseFor(readOnlyTx)).isEqualTo("primary");
+    }
+
+    @Test
+    void userReadsOwnWritesFromPrimaryWithinWindow() {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("alice", null, List.of()));
+
+        readWriteTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE marker SET touched = TRUE"));
+        assertThat(databaseFor(readOnlyTx)).isEqualTo("primary");
+
+        clock.advance(Duration.ofSeconds(6));
+        assertThat(databaseFor(readOnlyTx)).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWritesDoNotPinReads() {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("bob", null, List.of()));
+
+        readWriteTx.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE marker SET touched = TRUE");
+            status.setRollbackOnly();
+        });
+
+        assertThat(databaseFor(readOnlyTx)).isEqualTo("replica");
+    }
+
+    private String databaseFor(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    private void setReplicaLag(int seconds) {
+        replicaJdbcTemplate().update("UPDATE replication_status SET lag_seconds = ?", seconds);
+    }
+
+    private JdbcTemplate replicaJdbcTemplate() {
+        return new JdbcTemplate(lagMonitor.getReplicas().get("replica-0"));
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE marker (name VARCHAR(20), touched BOOLEAN DEFAULT FALSE)");
+        template.update("INSERT INTO marker (name) VALUES (?)", name);
+        template.execute("CREATE TABLE replication_status (lag_seconds INT)");
+        template.update("INSERT INTO replication_status (lag_seconds) VALUES (0)");
+        return dataSource;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
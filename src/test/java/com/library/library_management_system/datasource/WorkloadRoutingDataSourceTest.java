@@ -0,0 +1,91 @@
+package com.library.library_management_system.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes against three embedded H2 databases standing in for the OLTP, reporting and batch pools
+ */
+class WorkloadRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ReportingService reportingService;
+
+    @BeforeEach
+    void setUp() {
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource(h2("oltp"),
+                Map.of(WorkloadType.REPORTING, h2("reporting"), WorkloadType.BATCH, h2("batch")));
+        routing.afterPropertiesSet();
+        jdbcTemplate = new JdbcTemplate(new LazyConnectionDataSourceProxy(routing));
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new ReportingService(jdbcTemplate));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new WorkloadAspect());
+        reportingService = proxyFactory.getProxy();
+    }
+
+    @Test
+    void unannotatedCallsUseOltpPool() {
+        assertThat(currentDatabase(jdbcTemplate)).isEqualTo("oltp");
+    }
+
+    @Test
+    void classLevelWorkloadSelectsPool() {
+        assertThat(reportingService.report()).isEqualTo("reporting");
+    }
+
+    @Test
+    void methodLevelWorkloadOverridesClassLevel() {
+        assertThat(reportingService.nightlyJob()).isEqualTo("batch");
+    }
+
+    @Test
+    void workloadIsRestoredAfterCall() {
+        reportingService.nightlyJob();
+
+        assertThat(WorkloadContext.current()).isEqualTo(WorkloadType.OLTP);
+        assertThat(currentDatabase(jdbcTemplate)).isEqualTo("oltp");
+    }
+
+    private static String currentDatabase(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE marker (name VARCHAR(20))");
+        template.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    @Workload(WorkloadType.REPORTING)
+    static class ReportingService {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        ReportingService(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        public String report() {
+            return currentDatabase(jdbcTemplate);
+        }
+
+        @Workload(WorkloadType.BATCH)
+        public String nightlyJob() {
+            return currentDatabase(jdbcTemplate);
+        }
+    }
+}
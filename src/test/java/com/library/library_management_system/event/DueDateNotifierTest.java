@@ -0,0 +1,100 @@
+package com.library.library_management_system.event;
+
+import com.library.library_management_system.config.LibraryEventsConfig;
+import com.library.library_management_system.entity.Book;
+import com.library.library_management_system.entity.BorrowingRecord;
+import com.library.library_management_system.entity.User;
+import com.library.library_management_system.enums.Genre;
+import com.library.library_management_system.repository.BorrowingRecordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DueDateNotifierTest {
+
+    private final BorrowingRecordRepository repository = mock(BorrowingRecordRepository.class);
+    private final MutableClock clock = new MutableClock();
+    private final List<DueDateNotification> received = new ArrayList<>();
+    private DueDateNotifier notifier;
+
+    @BeforeEach
+    void setUp() {
+        LibraryEventsConfig config = new LibraryEventsConfig();
+        LibraryEventBus eventBus = new LibraryEventBus(config, new SimpleMeterRegistry());
+        eventBus.dueDateNotifications(7L).subscribe(received::add);
+        notifier = new DueDateNotifier(repository, eventBus, config, clock);
+
+        LocalDate today = LocalDate.now(clock);
+        when(repository.findOpenLoansDueBy(anyCollection(), any(LocalDate.class)))
+                .thenReturn(List.of(loan(1L, today.plusDays(1)), loan(2L, today.minusDays(3))));
+    }
+
+    @Test
+    void eachLoanIsAnnouncedOncePerDay() {
+        notifier.notifyDueDates();
+        clock.advance(Duration.ofHours(1));
+        notifier.notifyDueDates();
+
+        assertThat(received).extracting(DueDateNotification::borrowingRecordId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void loansAreAnnouncedAgainTheNextDay() {
+        notifier.notifyDueDates();
+        clock.advance(Duration.ofDays(1));
+        notifier.notifyDueDates();
+
+        assertThat(received).extracting(DueDateNotification::borrowingRecordId).containsExactly(1L, 2L, 1L, 2L);
+        assertThat(received.subList(2, 4)).extracting(DueDateNotification::daysUntilDue).containsExactly(0L, -4L);
+    }
+
+    private static BorrowingRecord loan(Long id, LocalDate dueDate) {
+        User user = new User("reader", "Avid Reader", "reader@example.com", "secret");
+        user.setId(7L);
+        Book book = new Book("Dune", "Frank Herbert", "9780441172719", Genre.FICTION);
+        book.setId(id);
+        BorrowingRecord record = new BorrowingRecord(user, book);
+        record.setId(id);
+        record.setDueDate(dueDate);
+        return record;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T09:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.library.library_management_system.event;
+
+import com.library.library_management_system.config.LibraryEventsConfig;
+import com.library.library_management_system.enums.BookStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LibraryEventBusTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LibraryEventBus eventBus;
+
+    @BeforeEach
+    void setUp() {
+        LibraryEventsConfig config = new LibraryEventsConfig();
+        config.setSubscriberBufferSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        eventBus = new LibraryEventBus(config, meterRegistry);
+    }
+
+    @Test
+    void slowSubscriberKeepsNewestEventsWithoutBlockingPublisher() {
+        RecordingSubscriber<BookAvailabilityEvent> slow = subscribe(eventBus.availabilityChanges(null), 0);
+
+        for (long id = 1; id <= 5; id++) {
+            eventBus.onBookAvailabilityChanged(availability(id));
+        }
+        slow.request(10);
+
+        assertThat(slow.received).extracting(BookAvailabilityEvent::bookId).containsExactly(4L, 5L);
+        assertThat(meterRegistry.counter("library.events.dropped").count()).isEqualTo(3);
+    }
+
+    @Test
+    void availabilitySubscriptionFiltersByBook() {
+        RecordingSubscriber<BookAvailabilityEvent> subscriber = subscribe(eventBus.availabilityChanges(2L), 10);
+
+        eventBus.onBookAvailabilityChanged(availability(1L));
+        eventBus.onBookAvailabilityChanged(availability(2L));
+
+        assertThat(subscriber.received).extracting(BookAvailabilityEvent::bookId).containsExactly(2L);
+    }
+
+    @Test
+    void dueDateSubscribersAreTrackedPerUser() {
+        RecordingSubscriber<DueDateNotification> subscriber = subscribe(eventBus.dueDateNotifications(7L), 10);
+        assertThat(eventBus.getDueDateSubscriberIds()).containsExactly(7L);
+
+        eventBus.publishDueDateNotification(notification(7L));
+        eventBus.publishDueDateNotification(notification(8L));
+        assertThat(subscriber.received).extracting(DueDateNotification::userId).containsExactly(7L);
+
+        subscriber.dispose();
+        assertThat(eventBus.getDueDateSubscriberIds()).isEmpty();
+    }
+
+    private static BookAvailabilityEvent availability(long bookId) {
+        return new BookAvailabilityEvent(bookId, "Book " + bookId, 1, 2, BookStatus.AVAILABLE, LocalDateTime.now());
+    }
+
+    private static DueDateNotification notification(long userId) {
+        return new DueDateNotification(DueDateNotification.Type.DUE_SOON, 1L, userId, 1L, "Book", LocalDate.now(), 1L);
+    }
+
+    private static <T> RecordingSubscriber<T> subscribe(Flux<T> flux, long initialDemand) {
+        RecordingSubscriber<T> subscriber = new RecordingSubscriber<>(initialDemand);
+        flux.subscribe(subscriber);
+        return subscriber;
+    }
+
+    private static class RecordingSubscriber<T> extends BaseSubscriber<T> {
+
+        private final long initialDemand;
+        private final List<T> received = new ArrayList<>();
+
+        RecordingSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            if (initialDemand > 0) {
+                request(initialDemand);
+            }
+        }
+
+        @Override
+        protected void hookOnNext(T value) {
+            received.add(value);
+        }
+    }
+}
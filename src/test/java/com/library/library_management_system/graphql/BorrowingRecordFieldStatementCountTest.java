@@ -0,0 +1,149 @@
+package com.library.library_management_system.graphql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.library_management_system.entity.User;
+import com.library.library_management_system.enums.UserRole;
+import com.library.library_management_system.security.UserPrincipal;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statements issued by GraphQL borrowing listings that select the nested book and user.
+ * The listing is one query and each nested field one batch, however many records there are;
+ * once the books and users are in the second-level cache the batches issue no statements.
+ * Six users each borrowed each of four books; the first user's loans are current, all others
+ * overdue. Ids start high so the rows do not collide with other tests sharing the loadtest database.
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BorrowingRecordFieldStatementCountTest {
+
+    private static final long FIRST_ID = 900_001;
+    private static final int USERS = 6;
+    private static final int BOOKS = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void insertLoans() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (long user = FIRST_ID; user < FIRST_ID + USERS; user++) {
+            jdbcTemplate.update("""
+                    INSERT INTO users (id, username, full_name, email, password, role, is_active, max_books_allowed,
+                        created_at, updated_at)
+                    VALUES (?, ?, ?, ?, 'secret', 'MEMBER', TRUE, 5, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                    """, user, "batch_reader" + user, "Batch Reader " + user, "batch.reader" + user + "@example.com");
+        }
+        for (long book = FIRST_ID; book < FIRST_ID + BOOKS; book++) {
+            jdbcTemplate.update("""
+                    INSERT INTO books (id, title, author, isbn, genre, total_copies, available_copies, status,
+                        is_active, created_at, updated_at)
+                    VALUES (?, ?, 'Author', ?, 'FICTION', 10, 4, 'AVAILABLE', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                    """, book, "Batch Book " + book, "979" + book);
+        }
+
+        long id = FIRST_ID;
+        for (long user = FIRST_ID; user < FIRST_ID + USERS; user++) {
+            boolean current = user == FIRST_ID;
+            LocalDate borrowDate = LocalDate.now().minusDays(current ? 2 : 30);
+            for (long book = FIRST_ID; book < FIRST_ID + BOOKS; book++, id++) {
+                jdbcTemplate.update("""
+                        INSERT INTO borrowing_records (id, user_id, book_id, borrow_date, due_date, status,
+                            fine_amount, renewal_count, max_renewals_allowed, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, ?, 0, 0, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                        """, id, user, book, borrowDate, borrowDate.plusDays(14), current ? "BORROWED" : "OVERDUE");
+            }
+        }
+    }
+
+    @AfterAll
+    void deleteLoans() {
+        jdbcTemplate.update("DELETE FROM borrowing_records WHERE id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM books WHERE id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM users WHERE id >= ?", FIRST_ID);
+    }
+
+    @Test
+    void overdueListingLoadsBooksAndUsersInOneBatchEach() throws Exception {
+        String query = "{ overdueBooks { id book { title } user { username } } }";
+
+        entityManagerFactory.getCache().evictAll();
+        assertThat(statementsFor(query, admin())).isEqualTo(3);
+
+        // Books and users loaded by the batches are now in the second-level cache
+        assertThat(statementsFor(query, admin())).isEqualTo(1);
+    }
+
+    @Test
+    void memberListingLoadsBooksAndUsersInOneBatchEach() throws Exception {
+        String query = "{ myCurrentBooks { id book { title author } user { username } } }";
+
+        entityManagerFactory.getCache().evictAll();
+        assertThat(statementsFor(query, member())).isEqualTo(3);
+        assertThat(statementsFor(query, member())).isEqualTo(1);
+    }
+
+    private long statementsFor(String query, RequestPostProcessor principal) throws Exception {
+        statistics.clear();
+        MvcResult result = mockMvc.perform(post("/graphql").with(principal)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("query", query))))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.errors").doesNotExist());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private RequestPostProcessor admin() {
+        User admin = new User("batch_admin", "Batch Admin", "batch.admin@example.com", "secret", UserRole.ADMIN);
+        admin.setId(FIRST_ID - 1);
+        return user(UserPrincipal.create(admin));
+    }
+
+    private RequestPostProcessor member() {
+        User member = new User("batch_reader" + FIRST_ID, "Batch Reader", "batch.reader@example.com", "secret",
+                UserRole.MEMBER);
+        member.setId(FIRST_ID);
+        return user(UserPrincipal.create(member));
+    }
+}
@@ -0,0 +1,142 @@
+package com.library.library_management_system.graphql;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingPersistedQuerySupportTest {
+
+    private static final String SCHEMA = """
+            type Book { id: ID! title: String }
+            type Query { books(size: Int): [Book!]! }
+            """;
+
+    private static final String BOOKS_QUERY = "query Books { books(size: 2) { id title } }";
+
+    private GraphQLSchema schema;
+    private BoundedDocumentCache cache;
+    private GraphQL graphQL;
+
+    @BeforeEach
+    void setUp() {
+        RuntimeWiring wiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", builder -> builder.dataFetcher("books",
+                        env -> List.of(Map.of("id", "1", "title", "Dune"), Map.of("id", "2", "title", "Emma"))))
+                .build();
+        schema = new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(SCHEMA), wiring);
+
+        cache = new BoundedDocumentCache(2);
+        graphQL = GraphQL.newGraphQL(schema)
+                .preparsedDocumentProvider(new CachingPersistedQuerySupport(cache))
+                .build();
+    }
+
+    @Test
+    void repeatedQueryIsParsedOnce() {
+        assertThat(execute(BOOKS_QUERY, Map.of()).getErrors()).isEmpty();
+        assertThat(execute(BOOKS_QUERY, Map.of()).getErrors()).isEmpty();
+
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void hashOnlyRequestIsServedAfterRegistration() {
+        Map<String, Object> extensions = persistedQueryExtension(CachingPersistedQuerySupport.sha256Hex(BOOKS_QUERY));
+
+        ExecutionResult unknown = execute(PersistedQuerySupport.PERSISTED_QUERY_MARKER, extensions);
+        assertThat(unknown.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).isEqualTo("PersistedQueryNotFound"));
+
+        assertThat(execute(BOOKS_QUERY, extensions).getErrors()).isEmpty();
+
+        ExecutionResult persisted = execute(PersistedQuerySupport.PERSISTED_QUERY_MARKER, extensions);
+        assertThat(persisted.getErrors()).isEmpty();
+        assertThat(persisted.<Map<String, List<?>>>getData().get("books")).hasSize(2);
+    }
+
+    @Test
+    void fullQueryAndHashShareCacheEntry() {
+        execute(BOOKS_QUERY, Map.of());
+
+        ExecutionResult persisted = execute(PersistedQuerySupport.PERSISTED_QUERY_MARKER,
+                persistedQueryExtension(CachingPersistedQuerySupport.sha256Hex(BOOKS_QUERY)));
+
+        assertThat(persisted.getErrors()).isEmpty();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void mismatchedHashIsRejected() {
+        ExecutionResult result = execute(BOOKS_QUERY, persistedQueryExtension("0".repeat(64)));
+
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).isEqualTo("PersistedQueryIdInvalid"));
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void invalidDocumentsAreNotCached() {
+        assertThat(execute("{ books { unknownField } }", Map.of()).getErrors()).isNotEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void documentsAreLookedUpThroughTheAsyncCacheMethod() {
+        PersistedQueryCache asyncOnly = new PersistedQueryCache() {
+            @Override
+            public CompletableFuture<PreparsedDocumentEntry> getPersistedQueryDocumentAsync(
+                    Object persistedQueryId, ExecutionInput executionInput, PersistedQueryCacheMiss onCacheMiss) {
+                return cache.getPersistedQueryDocumentAsync(persistedQueryId, executionInput, onCacheMiss);
+            }
+
+            @Override
+            public PreparsedDocumentEntry getPersistedQueryDocument(
+                    Object persistedQueryId, ExecutionInput executionInput, PersistedQueryCacheMiss onCacheMiss) {
+                throw new UnsupportedOperationException("deprecated synchronous lookup");
+            }
+        };
+        graphQL = GraphQL.newGraphQL(schema)
+                .preparsedDocumentProvider(new CachingPersistedQuerySupport(asyncOnly))
+                .build();
+
+        assertThat(execute(BOOKS_QUERY, Map.of()).getErrors()).isEmpty();
+        assertThat(execute(PersistedQuerySupport.PERSISTED_QUERY_MARKER,
+                persistedQueryExtension(CachingPersistedQuerySupport.sha256Hex(BOOKS_QUERY))).getErrors()).isEmpty();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cacheIsBounded() {
+        execute("{ books { id } }", Map.of());
+        execute("{ books { title } }", Map.of());
+        execute(BOOKS_QUERY, Map.of());
+
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    private ExecutionResult execute(String query, Map<String, Object> extensions) {
+        return graphQL.execute(ExecutionInput.newExecutionInput(query).extensions(extensions).build());
+    }
+
+    private Map<String, Object> persistedQueryExtension(String hash) {
+        return Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash));
+    }
+}
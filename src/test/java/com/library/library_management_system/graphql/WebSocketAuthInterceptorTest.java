@@ -0,0 +1,74 @@
+package com.library.library_management_system.graphql;
+
+import com.library.library_management_system.config.JwtConfig;
+import com.library.library_management_system.entity.User;
+import com.library.library_management_system.exception.UnauthorizedException;
+import com.library.library_management_system.security.CustomUserDetailsService;
+import com.library.library_management_system.security.JwtTokenProvider;
+import com.library.library_management_system.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.graphql.server.WebSocketSessionInfo;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class WebSocketAuthInterceptorTest {
+
+    private final JwtTokenProvider tokenProvider = mock(JwtTokenProvider.class);
+    private final CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+    private final WebSocketSessionInfo sessionInfo = mock(WebSocketSessionInfo.class);
+    private final Map<String, Object> attributes = new HashMap<>();
+    private WebSocketAuthInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new WebSocketAuthInterceptor(tokenProvider, userDetailsService, new JwtConfig());
+        when(sessionInfo.getId()).thenReturn("session-1");
+        when(sessionInfo.getAttributes()).thenReturn(attributes);
+        when(tokenProvider.validateToken("token")).thenReturn(true);
+        when(tokenProvider.getUsernameFromToken("token")).thenReturn("reader");
+    }
+
+    @Test
+    void activeUserIsExposedToResolvers() {
+        UserPrincipal principal = principal(true);
+        when(userDetailsService.loadUserByUsername("reader")).thenReturn(principal);
+
+        interceptor.handleConnectionInitialization(sessionInfo, Map.of("Authorization", "Bearer token")).block();
+
+        assertThat(attributes).containsEntry(WebSocketAuthInterceptor.PRINCIPAL_KEY, principal);
+    }
+
+    @Test
+    void nonStringTokenIsRejected() {
+        Map<String, Object> payload = Map.of("Authorization", Map.of("token", "token"));
+
+        assertThatThrownBy(() -> interceptor.handleConnectionInitialization(sessionInfo, payload).block())
+                .isInstanceOf(UnauthorizedException.class);
+        verifyNoInteractions(tokenProvider, userDetailsService);
+    }
+
+    @Test
+    void disabledUserIsRejected() {
+        when(userDetailsService.loadUserByUsername("reader")).thenReturn(principal(false));
+
+        assertThatThrownBy(() -> interceptor.handleConnectionInitialization(sessionInfo,
+                Map.of("Authorization", "Bearer token")).block())
+                .isInstanceOf(UnauthorizedException.class);
+        assertThat(attributes).doesNotContainKey(WebSocketAuthInterceptor.PRINCIPAL_KEY);
+    }
+
+    private static UserPrincipal principal(boolean active) {
+        User user = new User("reader", "Avid Reader", "reader@example.com", "secret");
+        user.setId(7L);
+        user.setIsActive(active);
+        return UserPrincipal.create(user);
+    }
+}
@@ -0,0 +1,100 @@
+package com.library.library_management_system.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.library.library_management_system.config.ApplicationConfig;
+import com.library.library_management_system.config.JsonProperties;
+import com.library.library_management_system.dto.response.ApiResponse;
+import com.library.library_management_system.dto.response.BookResponse;
+import com.library.library_management_system.enums.BookStatus;
+import com.library.library_management_system.enums.Genre;
+import com.library.library_management_system.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApiResponseStreamWriterTest {
+
+    private final ObjectMapper objectMapper = new ApplicationConfig().objectMapper(new JsonProperties());
+    private final ApiResponseStreamWriter writer = new ApiResponseStreamWriter(objectMapper);
+
+    private final List<BookResponse> books = LongStream.rangeClosed(1, 3).mapToObj(this::book).toList();
+
+    @Test
+    void streamedBodyMatchesTheSerializedApiResponse() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.writeList(response, BookResponse.class, null, books::forEach);
+
+        JsonNode streamed = objectMapper.readTree(response.getContentAsByteArray());
+        JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsBytes(ApiResponse.success(books)));
+        assertThat(streamed.get("timestamp").isTextual()).isTrue();
+        ((ObjectNode) streamed).remove("timestamp");
+        ((ObjectNode) expected).remove("timestamp");
+        assertThat(streamed).isEqualTo(expected);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo("application/json");
+    }
+
+    @Test
+    void onlySelectedFieldsAreWritten() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.writeList(response, BookResponse.class, "id, title,availableCopies", books::forEach);
+
+        JsonNode data = objectMapper.readTree(response.getContentAsByteArray()).get("data");
+        assertThat(data).hasSize(3);
+        assertThat(data.get(0).properties()).extracting(entry -> entry.getKey())
+                .containsExactlyInAnyOrder("id", "title", "availableCopies");
+        assertThat(data.get(2).get("title").asText()).isEqualTo("Title 3");
+    }
+
+    @Test
+    void unknownFieldsAreRejectedBeforeWriting() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> writer.writeList(response, BookResponse.class, "id,secret", books::forEach))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("[secret]");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void failingSourceLeavesAnUncommittedResponseEmpty() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> writer.writeList(response, BookResponse.class, null, action -> {
+            action.accept(books.get(0));
+            throw new IllegalStateException("connection lost");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(response.isCommitted()).isFalse();
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    private BookResponse book(long id) {
+        return BookResponse.builder()
+                .id(id)
+                .title("Title " + id)
+                .author("Author " + id)
+                .isbn(String.format("978%010d", id))
+                .description("Description of book " + id)
+                .genre(Genre.values()[(int) (id % Genre.values().length)])
+                .publicationDate(LocalDate.of(2000, 1, 1))
+                .totalCopies(5)
+                .availableCopies(3)
+                .borrowedCopies(2)
+                .status(BookStatus.AVAILABLE)
+                .price(19.99)
+                .isActive(true)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+    }
+}
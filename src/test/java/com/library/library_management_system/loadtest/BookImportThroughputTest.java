@@ -0,0 +1,81 @@
+package com.library.library_management_system.loadtest;
+
+import com.library.library_management_system.dto.response.BookImportResponse;
+import com.library.library_management_system.enums.Genre;
+import com.library.library_management_system.service.BookImportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rows per second of the bulk CSV import on the load-test database: a generated catalogue is
+ * imported once into an empty table (inserts) and once more (updates of every row).
+ * <p>
+ * Opt-in with the load test: {@code mvn -Ploadtest test -Dloadtest.import-rows=100000}.
+ * Results are appended to target/loadtest/import.txt.
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+@EnableConfigurationProperties(LoadTestProperties.class)
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class BookImportThroughputTest {
+
+    @Autowired
+    private BookImportService bookImportService;
+
+    @Autowired
+    private LoadTestProperties properties;
+
+    @Test
+    void importThroughput() throws IOException {
+        byte[] csv = catalogue(properties.getImportRows());
+
+        BookImportResponse inserts = bookImportService.importBooks(new ByteArrayInputStream(csv));
+        BookImportResponse updates = bookImportService.importBooks(new ByteArrayInputStream(csv));
+
+        report("insert", inserts);
+        report("update", updates);
+        assertThat(inserts.getCreated()).isEqualTo(properties.getImportRows());
+        assertThat(updates.getUpdated()).isEqualTo(properties.getImportRows());
+        assertThat(inserts.getFailed() + updates.getFailed()).isZero();
+    }
+
+    private static byte[] catalogue(int rows) {
+        StringBuilder csv = new StringBuilder("title,author,isbn,genre,description,publisher,totalCopies\n");
+        Genre[] genres = Genre.values();
+        for (int i = 0; i < rows; i++) {
+            // Hyphenated ISBN-13s in a range the synthetic data set does not use
+            String isbn = String.format("979-1-%07d-%02d-%d", i, i % 100, i % 10);
+            csv.append("\"Imported Title ").append(i).append(", Vol. ").append(i % 7).append("\",")
+                    .append("Author ").append(i % 997).append(',')
+                    .append(isbn).append(',')
+                    .append(genres[i % genres.length].name()).append(',')
+                    .append("\"A catalogue entry with \"\"quoted\"\" text\",")
+                    .append("Publisher ").append(i % 31).append(',')
+                    .append(1 + i % 5).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void report(String phase, BookImportResponse response) throws IOException {
+        String line = String.format("%s %-6s rows=%d duration=%d ms rows/s=%.0f rows/min=%.0f%n", Instant.now(), phase,
+                response.getTotalRows(), response.getDurationMs(), response.getRowsPerSecond(),
+                response.getRowsPerSecond() * 60);
+        System.out.print(line);
+        Files.createDirectories(properties.getReportDirectory());
+        Files.writeString(properties.getReportDirectory().resolve("import.txt"), line,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
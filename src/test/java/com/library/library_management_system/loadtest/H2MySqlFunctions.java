@@ -0,0 +1,29 @@
+package com.library.library_management_system.loadtest;
+
+import lombok.experimental.UtilityClass;
+
+import java.sql.Date;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * MySQL functions used by native queries that H2's MySQL mode lacks, registered as H2 aliases by
+ * the loadtest profile's JDBC URL. DATEDIFF and DATE_ADD are written as TIMESTAMPDIFF and
+ * TIMESTAMPADD in the queries instead, which both databases understand.
+ */
+@UtilityClass
+public class H2MySqlFunctions {
+
+    /**
+     * DATE_FORMAT for the specifiers the reports use (%Y, %m, %d).
+     */
+    public static String dateFormat(Date date, String mysqlFormat) {
+        if (date == null || mysqlFormat == null) {
+            return null;
+        }
+        String pattern = mysqlFormat
+                .replace("%Y", "yyyy")
+                .replace("%m", "MM")
+                .replace("%d", "dd");
+        return date.toLocalDate().format(DateTimeFormatter.ofPattern(pattern));
+    }
+}
@@ -0,0 +1,93 @@
+package com.library.library_management_system.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.library_management_system.loadtest.SyntheticDataGenerator.Dataset;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test: boots the application on an embedded H2 database (MySQL mode), fills it
+ * with a synthetic library and drives each workload mix over HTTP against REST and /graphql.
+ * <p>
+ * Opt-in, as a run takes minutes: {@code mvn -Ploadtest test}, optionally with
+ * {@code -Dloadtest.mixes=CHECKOUT_RUSH -Dloadtest.duration=2m -Dloadtest.virtual-users=32}.
+ * Latency reports are written to target/loadtest, next to a scrape of the application's own
+ * Prometheus metrics (cumulative over the mixes run so far).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@AutoConfigureObservability(tracing = false)
+@EnableConfigurationProperties(LoadTestProperties.class)
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LibraryLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private LoadTestProperties properties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Dataset dataset;
+
+    @BeforeAll
+    void generateData(@Autowired JdbcTemplate jdbcTemplate, @Autowired PasswordEncoder passwordEncoder) {
+        // One hash for every account; BCrypt per row would dominate generation time
+        dataset = new SyntheticDataGenerator(jdbcTemplate)
+                .generate(properties, passwordEncoder.encode(SyntheticDataGenerator.PASSWORD));
+    }
+
+    @ParameterizedTest
+    @EnumSource(WorkloadMix.class)
+    void workload(WorkloadMix mix) throws Exception {
+        Assumptions.assumeTrue(properties.getMixes().contains(mix), () -> mix + " not selected");
+
+        LoadTestReport report = new LoadGenerator("http://localhost:" + port, objectMapper, properties)
+                .run(mix, dataset);
+        report.write(properties.getReportDirectory());
+        report.printSummary(System.out);
+        saveServerMetrics(mix);
+
+        assertThat(report.count(LoadTestReport.Outcome.OK)).isPositive();
+        assertThat(report.errorRate()).isLessThanOrEqualTo(properties.getMaxErrorRate());
+    }
+
+    private void saveServerMetrics(WorkloadMix mix) throws IOException, InterruptedException {
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + managementPort + "/actuator/prometheus")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+
+        Path file = properties.getReportDirectory().resolve(mix.name().toLowerCase().replace('_', '-') + "-server.prom");
+        Files.writeString(file, response.body());
+    }
+}
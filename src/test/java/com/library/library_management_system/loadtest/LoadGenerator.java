@@ -0,0 +1,92 @@
+package com.library.library_management_system.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.library_management_system.loadtest.LoadTestReport.Outcome;
+import com.library.library_management_system.loadtest.SyntheticDataGenerator.Dataset;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load generator: a fixed number of virtual users, each issuing requests of a
+ * {@link WorkloadMix} back to back (or with a think time) for the configured duration.
+ * <p>
+ * A warm-up phase with the same mix runs first and is discarded, so JIT compilation, the
+ * connection pools and the caches are warm when measuring starts. Latency is measured from
+ * request send to fully read response, per operation.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class LoadGenerator {
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final LoadTestProperties properties;
+
+    public LoadTestReport run(WorkloadMix mix, Dataset dataset) throws Exception {
+        int userCount = properties.getVirtualUsers();
+        ZipfSampler bookPopularity = new ZipfSampler(dataset.bookIdsByPopularity().length,
+                properties.getBookPopularitySkew());
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        List<VirtualUser> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            VirtualUser user = new VirtualUser(httpClient, objectMapper, baseUrl, dataset, bookPopularity,
+                    properties.getSeed() * 31 + mix.ordinal() * 1_000 + i);
+            // Spread over the member range, so heavy and occasional readers both take part
+            user.signIn(dataset.memberUsername((int) ((long) i * dataset.memberCount() / userCount)),
+                    mix.needsAdmin());
+            users.add(user);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(userCount);
+        try {
+            log.info("Warming up {} for {}", mix, properties.getWarmup());
+            drive(executor, users, mix, new LoadTestReport(mix), properties.getWarmup());
+
+            log.info("Running {} with {} virtual users for {}", mix, userCount, properties.getDuration());
+            LoadTestReport report = new LoadTestReport(mix);
+            long start = System.nanoTime();
+            drive(executor, users, mix, report, properties.getDuration());
+            report.finish(Duration.ofNanos(System.nanoTime() - start));
+            return report;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void drive(ExecutorService executor, List<VirtualUser> users, WorkloadMix mix, LoadTestReport report,
+                       Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        long thinkMillis = properties.getThinkTime().toMillis();
+
+        List<Future<?>> running = new ArrayList<>(users.size());
+        for (VirtualUser user : users) {
+            running.add(executor.submit(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    Operation operation = user.next(mix);
+                    long start = System.nanoTime();
+                    Outcome outcome = user.execute(operation);
+                    report.record(operation, System.nanoTime() - start, outcome);
+                    if (thinkMillis > 0) {
+                        Thread.sleep(thinkMillis);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : running) {
+            future.get();
+        }
+    }
+}
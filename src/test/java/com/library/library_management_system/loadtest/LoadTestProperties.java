@@ -0,0 +1,53 @@
+package com.library.library_management_system.loadtest;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Load-test configuration properties (application-loadtest.properties, overridable with -Dloadtest.*)
+ */
+@ConfigurationProperties(prefix = "loadtest")
+@Data
+public class LoadTestProperties {
+
+    // Seed for the data generator and every virtual user; same seed, same data and request sequence
+    private long seed = 42L;
+
+    private int books = 5_000;
+    private int users = 1_000;
+    private int borrowings = 50_000;
+
+    // Title popularity skew (s of the Zipf distribution); ~1.0 matches circulation data
+    private double bookPopularitySkew = 1.0;
+    // Member activity skew; a few heavy readers, a long tail of occasional ones
+    private double memberActivitySkew = 0.8;
+    // Days of borrowing history generated behind today
+    private int historyDays = 730;
+    // Share of returns that come back late and carry a fine (fined members cannot borrow)
+    private double lateReturnRate = 0.03;
+
+    // Concurrent virtual users, each with its own login and session state
+    private int virtualUsers = 16;
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofSeconds(60);
+    // Pause between requests of one virtual user; zero drives the server as hard as it goes
+    private Duration thinkTime = Duration.ZERO;
+
+    private Set<WorkloadMix> mixes = EnumSet.allOf(WorkloadMix.class);
+
+    // Runs fail when more than this share of requests end in a 5xx, an internal GraphQL error or an I/O error
+    private double maxErrorRate = 0.01;
+
+    // Rows of the generated catalogue file imported by BookImportThroughputTest (target: 100k per minute)
+    private int importRows = 100_000;
+
+    // Open loans returned by ReturnThroughputTest, spread over virtualUsers concurrent threads
+    private int returns = 20_000;
+
+    private Path reportDirectory = Path.of("target", "loadtest");
+}
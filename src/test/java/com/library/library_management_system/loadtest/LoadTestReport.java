@@ -0,0 +1,134 @@
+package com.library.library_management_system.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and outcome counts of one workload run.
+ * <p>
+ * Latencies are recorded in microseconds with three significant digits. {@link #write} produces
+ * {@code <mix>-summary.txt} (one line per operation) and {@code <mix>.hgrm}, the full percentile
+ * distributions in milliseconds, which HdrHistogram's plotter reads directly.
+ */
+public class LoadTestReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    public enum Outcome {
+        // 2xx without GraphQL errors
+        OK,
+        // Refused by a business rule (4xx, or a non-internal GraphQL error): expected under contention
+        REJECTED,
+        // Shed by the server's concurrency limits (503 with Retry-After, or an UNAVAILABLE GraphQL error)
+        SHED,
+        // Other 5xx, internal GraphQL error, authentication failure or I/O error
+        ERROR
+    }
+
+    private final WorkloadMix mix;
+    private final Map<Operation, ConcurrentHistogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<Outcome, LongAdder>> outcomes = new EnumMap<>(Operation.class);
+    private Duration elapsed = Duration.ZERO;
+
+    public LoadTestReport(WorkloadMix mix) {
+        this.mix = mix;
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            Map<Outcome, LongAdder> counts = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                counts.put(outcome, new LongAdder());
+            }
+            outcomes.put(operation, counts);
+        }
+    }
+
+    public void record(Operation operation, long latencyNanos, Outcome outcome) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        latencies.get(operation).recordValue(micros);
+        outcomes.get(operation).get(outcome).increment();
+    }
+
+    void finish(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    public WorkloadMix getMix() {
+        return mix;
+    }
+
+    public long count(Outcome outcome) {
+        return outcomes.values().stream().mapToLong(counts -> counts.get(outcome).sum()).sum();
+    }
+
+    public long totalRequests() {
+        return count(Outcome.OK) + count(Outcome.REJECTED) + count(Outcome.SHED) + count(Outcome.ERROR);
+    }
+
+    public double errorRate() {
+        long total = totalRequests();
+        return total == 0 ? 0.0 : (double) count(Outcome.ERROR) / total;
+    }
+
+    public Histogram overall() {
+        Histogram overall = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        latencies.values().forEach(overall::add);
+        return overall;
+    }
+
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        String name = mix.name().toLowerCase().replace('_', '-');
+
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(name + "-summary.txt")))) {
+            printSummary(out);
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(name + ".hgrm")))) {
+            for (Operation operation : Operation.values()) {
+                Histogram histogram = latencies.get(operation);
+                if (histogram.getTotalCount() > 0) {
+                    out.printf("# %s (%s)%n", operation, operation.getLabel());
+                    histogram.outputPercentileDistribution(out, 1000.0);
+                    out.println();
+                }
+            }
+            out.println("# ALL");
+            overall().outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    public void printSummary(PrintStream out) {
+        double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+        out.printf("Workload %s: %d requests in %.1fs (%.1f req/s), %d rejected, %d shed, %d errors%n",
+                mix, totalRequests(), seconds, totalRequests() / seconds,
+                count(Outcome.REJECTED), count(Outcome.SHED), count(Outcome.ERROR));
+        out.printf("%-26s %8s %8s %8s %8s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "rejected", "shed", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            if (histogram.getTotalCount() > 0) {
+                Map<Outcome, LongAdder> counts = outcomes.get(operation);
+                printLine(out, operation.name(), histogram, counts.get(Outcome.REJECTED).sum(),
+                        counts.get(Outcome.SHED).sum(), counts.get(Outcome.ERROR).sum(), seconds);
+            }
+        }
+        printLine(out, "ALL", overall(), count(Outcome.REJECTED), count(Outcome.SHED), count(Outcome.ERROR), seconds);
+    }
+
+    private static void printLine(PrintStream out, String name, Histogram histogram, long rejected, long shed,
+                                  long errors, double seconds) {
+        out.printf("%-26s %8d %8d %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name, histogram.getTotalCount(), rejected, shed, errors, histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0, histogram.getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,35 @@
+package com.library.library_management_system.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * One kind of request a virtual user can issue; each gets its own latency histogram
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Operation {
+
+    // Catalogue
+    SEARCH_BOOKS("POST /api/books/search", false),
+    BROWSE_BOOKS("GET /api/books", false),
+    BOOK_DETAILS("GET /api/books/{id}", false),
+    BOOK_AVAILABILITY("GET /api/books/{id}/availability", false),
+    GRAPHQL_SEARCH_BOOKS("graphql books", false),
+
+    // Circulation
+    GRAPHQL_BORROW_BOOK("graphql borrowBook", false),
+    GRAPHQL_RETURN_BOOK("graphql returnBook", false),
+    GRAPHQL_MY_CURRENT_BOOKS("graphql myCurrentBooks", false),
+
+    // Reports (admin)
+    DASHBOARD("GET /api/reports/dashboard", true),
+    MONTHLY_TRENDS("GET /api/reports/monthly-trends", true),
+    OVERDUE_REPORT("GET /api/reports/overdue-books", true),
+    LIBRARY_STATISTICS("GET /api/reports/stats/library", true),
+    GRAPHQL_DASHBOARD_STATS("graphql dashboardStats", true);
+
+    private final String label;
+    // Sent with the admin's token instead of the virtual user's member token
+    private final boolean adminOnly;
+}
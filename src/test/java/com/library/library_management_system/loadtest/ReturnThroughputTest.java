@@ -0,0 +1,153 @@
+package com.library.library_management_system.loadtest;
+
+import com.library.library_management_system.dto.request.ReturnBookRequest;
+import com.library.library_management_system.entity.User;
+import com.library.library_management_system.enums.UserRole;
+import com.library.library_management_system.security.UserPrincipal;
+import com.library.library_management_system.service.BorrowingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Returns per second through BorrowingService.returnBook on the load-test database: the
+ * configured number of open loans (every fourth one overdue) returned by virtualUsers threads.
+ * Ids start high so the rows do not collide with the synthetic data set.
+ * <p>
+ * Opt-in with the load test: {@code mvn -Ploadtest test -Dloadtest.returns=20000}.
+ * Results are appended to target/loadtest/returns.txt.
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+@EnableConfigurationProperties(LoadTestProperties.class)
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class ReturnThroughputTest {
+
+    private static final long FIRST_ID = 800_000_001;
+    private static final int BOOKS = 100;
+
+    @Autowired
+    private BorrowingService borrowingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LoadTestProperties properties;
+
+    @AfterEach
+    void deleteLoans() {
+        jdbcTemplate.update("DELETE FROM borrowing_records WHERE id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM books WHERE id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM users WHERE id >= ?", FIRST_ID);
+    }
+
+    @Test
+    void returnThroughput() throws Exception {
+        int loans = properties.getReturns();
+        insertOpenLoans(loans);
+
+        AtomicLong next = new AtomicLong(FIRST_ID);
+        long lastId = FIRST_ID + loans;
+        UsernamePasswordAuthenticationToken librarian = librarian();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getVirtualUsers());
+        List<Future<?>> workers = new ArrayList<>();
+
+        long started = System.nanoTime();
+        for (int i = 0; i < properties.getVirtualUsers(); i++) {
+            workers.add(executor.submit(() -> {
+                SecurityContextHolder.getContext().setAuthentication(librarian);
+                for (long id = next.getAndIncrement(); id < lastId; id = next.getAndIncrement()) {
+                    ReturnBookRequest request = new ReturnBookRequest();
+                    request.setBorrowingRecordId(id);
+                    borrowingService.returnBook(request);
+                }
+                SecurityContextHolder.clearContext();
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long durationMs = (System.nanoTime() - started) / 1_000_000;
+        executor.shutdown();
+
+        report(loans, durationMs);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM borrowing_records WHERE id >= ? AND status = 'RETURNED'", Long.class, FIRST_ID))
+                .isEqualTo(loans);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(total_copies - available_copies) FROM books WHERE id >= ?", Long.class, FIRST_ID))
+                .isZero();
+    }
+
+    private void insertOpenLoans(int loans) {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, username, full_name, email, password, role, is_active, max_books_allowed,
+                    created_at, updated_at)
+                VALUES (?, 'return_reader', 'Return Reader', 'return.reader@library.test', 'unused', 'MEMBER', TRUE,
+                    5, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, FIRST_ID);
+
+        List<Object[]> books = new ArrayList<>();
+        for (int book = 0; book < BOOKS; book++) {
+            int onLoan = loans / BOOKS + (book < loans % BOOKS ? 1 : 0);
+            books.add(new Object[]{FIRST_ID + book, "Returned Title " + book, "979-8-" + (FIRST_ID + book), onLoan});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO books (id, title, author, isbn, genre, total_copies, available_copies, status, is_active,
+                    created_at, updated_at)
+                VALUES (?, ?, 'Author', ?, 'FICTION', ?, 0, 'BORROWED', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, books);
+
+        LocalDate today = LocalDate.now();
+        List<Object[]> records = new ArrayList<>();
+        for (int loan = 0; loan < loans; loan++) {
+            LocalDate dueDate = loan % 4 == 0 ? today.minusDays(1 + loan % 20) : today.plusDays(1 + loan % 14);
+            records.add(new Object[]{FIRST_ID + loan, FIRST_ID, FIRST_ID + loan % BOOKS, dueDate.minusDays(14),
+                    dueDate, loan % 4 == 0 ? "OVERDUE" : "BORROWED"});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO borrowing_records (id, user_id, book_id, borrow_date, due_date, status,
+                    fine_amount, renewal_count, max_renewals_allowed, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, 0, 0, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, records);
+    }
+
+    private static UsernamePasswordAuthenticationToken librarian() {
+        User librarian = new User("return_librarian", "Return Librarian", "return.librarian@library.test", "unused",
+                UserRole.ADMIN);
+        librarian.setId(FIRST_ID - 1);
+        UserPrincipal principal = UserPrincipal.create(librarian);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private void report(int loans, long durationMs) throws IOException {
+        String line = String.format("%s returns=%d threads=%d duration=%d ms returns/s=%.0f%n", Instant.now(), loans,
+                properties.getVirtualUsers(), durationMs, loans * 1000.0 / Math.max(durationMs, 1));
+        System.out.print(line);
+        Files.createDirectories(properties.getReportDirectory());
+        Files.writeString(properties.getReportDirectory().resolve("returns.txt"), line,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
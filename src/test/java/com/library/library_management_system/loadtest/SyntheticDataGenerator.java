@@ -0,0 +1,275 @@
+package com.library.library_management_system.loadtest;
+
+import com.library.library_management_system.enums.Genre;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic library data set for load tests.
+ * <p>
+ * Books are borrowed with Zipfian title popularity over a shuffled catalogue (popular titles are
+ * not simply the lowest ids), members borrow with a milder Zipfian skew, and borrow dates follow
+ * a seasonal curve with peaks at the start of the academic year and in January plus a weekend
+ * bump. Open loans respect the per-member limit and each book's copy count, and book
+ * availability is derived from them. Rows are written with plain JDBC batches and the Hibernate
+ * id generator tables are moved past the generated ids, as in V3.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataGenerator {
+
+    public static final String MEMBER_PREFIX = "member";
+    public static final String ADMIN_USERNAME = "loadadmin";
+    public static final String PASSWORD = "LoadTest#2024";
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int MAX_BOOKS_PER_MEMBER = 5;
+    private static final int LOAN_DAYS = 14;
+    private static final double FINE_PER_DAY = 1.0;
+    private static final int UNPAID_FINE_DAYS = 30;
+
+    private static final String[] ADJECTIVES = {
+            "Silent", "Hidden", "Broken", "Golden", "Last", "Lost", "Burning", "Frozen", "Distant", "Secret",
+            "Crimson", "Quiet", "Wild", "Endless", "Forgotten", "Hollow", "Bright", "Shattered", "Restless", "Ancient"
+    };
+    private static final String[] NOUNS = {
+            "River", "Garden", "Empire", "Kingdom", "Harbor", "Mirror", "Forest", "Station", "Letter", "Island",
+            "Winter", "Voyage", "Machine", "Orchard", "Lighthouse", "Archive", "Signal", "Frontier", "Tide", "Compass"
+    };
+    private static final String[] PLACES = {
+            "Avalon", "the North", "Lisbon", "the Desert", "Tomorrow", "the Sea", "Kyoto", "the Valley", "Prague", "Dawn"
+    };
+    private static final String[] SURNAMES = {
+            "Okafor", "Lindqvist", "Moreau", "Tanaka", "Haddad", "Kowalski", "Reyes", "Novak", "Adeyemi", "Brennan",
+            "Castillo", "Ivanova", "Mehta", "Schubert", "Walsh", "Yilmaz", "Zhang", "Duarte", "Fischer", "Nakamura"
+    };
+    private static final String[] GIVEN_NAMES = {
+            "Amara", "Bjorn", "Chloe", "Dev", "Elena", "Farid", "Grace", "Hiro", "Ines", "Jonas",
+            "Kemi", "Luca", "Maya", "Nikolai", "Olivia", "Pablo", "Rosa", "Sven", "Tara", "Yusuf"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * What the workload needs to know about the generated data.
+     *
+     * @param bookIdsByPopularity book ids ordered from most to least popular
+     * @param titlesByPopularity  titles in the same order, used to derive search terms
+     */
+    public record Dataset(long[] bookIdsByPopularity, String[] titlesByPopularity,
+                          int memberCount, String adminUsername, String password) {
+
+        public String memberUsername(int index) {
+            return MEMBER_PREFIX + (index + 1);
+        }
+    }
+
+    public Dataset generate(LoadTestProperties properties, String passwordHash) {
+        Random random = new Random(properties.getSeed());
+        LocalDate today = LocalDate.now();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int bookCount = properties.getBooks();
+        int memberCount = properties.getUsers();
+
+        // Popularity rank -> book id, shuffled so popularity is independent of insertion order
+        long[] bookIdsByPopularity = new long[bookCount];
+        for (int i = 0; i < bookCount; i++) {
+            bookIdsByPopularity[i] = i + 1;
+        }
+        for (int i = bookCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long swap = bookIdsByPopularity[i];
+            bookIdsByPopularity[i] = bookIdsByPopularity[j];
+            bookIdsByPopularity[j] = swap;
+        }
+
+        String[] titles = new String[bookCount + 1];
+        int[] totalCopies = new int[bookCount + 1];
+        for (int rank = 0; rank < bookCount; rank++) {
+            int id = (int) bookIdsByPopularity[rank];
+            titles[id] = title(random);
+            // Libraries stock more copies of what circulates
+            totalCopies[id] = rank < bookCount / 100 ? 6 + random.nextInt(5)
+                    : rank < bookCount / 10 ? 3 + random.nextInt(3)
+                    : 1 + random.nextInt(2);
+        }
+
+        insertUsers(memberCount, passwordHash, today, now, random);
+
+        // Loans; only the ones still open at the end count against limits and copies
+        ZipfSampler bookPopularity = new ZipfSampler(bookCount, properties.getBookPopularitySkew());
+        ZipfSampler memberActivity = new ZipfSampler(memberCount, properties.getMemberActivitySkew());
+        int[] openByMember = new int[memberCount + 1];
+        int[] openByBook = new int[bookCount + 1];
+        List<Object[]> loans = new ArrayList<>(properties.getBorrowings());
+        int open = 0;
+        int fined = 0;
+
+        for (long id = 1; id <= properties.getBorrowings(); id++) {
+            long bookId = bookIdsByPopularity[bookPopularity.sample(random)];
+            long userId = memberActivity.sample(random) + 1;
+            LocalDate borrowDate = seasonalBorrowDate(random, today, properties.getHistoryDays());
+            LocalDate dueDate = borrowDate.plusDays(LOAN_DAYS);
+
+            boolean late = random.nextDouble() < properties.getLateReturnRate();
+            LocalDate returnDate = late
+                    ? dueDate.plusDays(1 + random.nextInt(20))
+                    : borrowDate.plusDays(1 + random.nextInt(LOAN_DAYS));
+
+            boolean stillOpen = !returnDate.isBefore(today)
+                    && openByMember[(int) userId] < MAX_BOOKS_PER_MEMBER
+                    && openByBook[(int) bookId] < totalCopies[(int) bookId];
+            if (!stillOpen && !returnDate.isBefore(today)) {
+                returnDate = today.minusDays(1).isBefore(borrowDate) ? borrowDate : today.minusDays(1);
+            }
+
+            double fine = 0.0;
+            String status;
+            if (stillOpen) {
+                openByMember[(int) userId]++;
+                openByBook[(int) bookId]++;
+                open++;
+                returnDate = null;
+                status = "BORROWED";
+            } else {
+                // The schema has no paid flag, so older fines are written as settled; otherwise
+                // nearly every member would be blocked from borrowing by some fine years ago
+                long daysLate = ChronoUnit.DAYS.between(dueDate, returnDate);
+                if (daysLate > 0 && returnDate.isAfter(today.minusDays(UNPAID_FINE_DAYS))) {
+                    fine = daysLate * FINE_PER_DAY;
+                    fined++;
+                }
+                status = "RETURNED";
+            }
+
+            loans.add(new Object[]{id, userId, bookId, Date.valueOf(borrowDate), Date.valueOf(dueDate),
+                    returnDate != null ? Date.valueOf(returnDate) : null, status, fine, 0, 2,
+                    ADMIN_USERNAME, returnDate != null ? ADMIN_USERNAME : null, now, now});
+        }
+
+        // Availability depends on the open loans, so books are written once all loans are known
+        insertBooks(bookCount, titles, totalCopies, openByBook, now, random);
+        for (int from = 0; from < loans.size(); from += BATCH_SIZE) {
+            insertLoans(loans.subList(from, Math.min(from + BATCH_SIZE, loans.size())));
+        }
+        advanceIdGenerators();
+
+        String[] titlesByPopularity = new String[bookCount];
+        for (int rank = 0; rank < bookCount; rank++) {
+            titlesByPopularity[rank] = titles[(int) bookIdsByPopularity[rank]];
+        }
+
+        log.info("Generated {} books, {} members, {} borrowing records ({} open, {} fined)",
+                bookCount, memberCount, properties.getBorrowings(), open, fined);
+        return new Dataset(bookIdsByPopularity, titlesByPopularity, memberCount, ADMIN_USERNAME, PASSWORD);
+    }
+
+    private void insertUsers(int memberCount, String passwordHash, LocalDate today, Timestamp now, Random random) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= memberCount + 1; i++) {
+            boolean admin = i == memberCount + 1;
+            String username = admin ? ADMIN_USERNAME : MEMBER_PREFIX + i;
+            String fullName = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)] + " "
+                    + SURNAMES[random.nextInt(SURNAMES.length)];
+            rows.add(new Object[]{(long) i, username, fullName, username + "@loadtest.library", passwordHash,
+                    admin ? "ADMIN" : "MEMBER", Date.valueOf(today.minusDays(random.nextInt(1_500))), true,
+                    admin ? 10 : MAX_BOOKS_PER_MEMBER, now, now});
+            if (rows.size() == BATCH_SIZE) {
+                batchInsertUsers(rows);
+                rows.clear();
+            }
+        }
+        batchInsertUsers(rows);
+    }
+
+    private void batchInsertUsers(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO users (id, username, full_name, email, password, role, membership_date, is_active,
+                                   max_books_allowed, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    private void insertBooks(int bookCount, String[] titles, int[] totalCopies, int[] openByBook,
+                             Timestamp now, Random random) {
+        Genre[] genres = Genre.values();
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int id = 1; id <= bookCount; id++) {
+            int available = totalCopies[id] - openByBook[id];
+            String author = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)] + " "
+                    + SURNAMES[random.nextInt(SURNAMES.length)];
+            rows.add(new Object[]{(long) id, titles[id], author, String.format("978%010d", id),
+                    genres[random.nextInt(genres.length)].name(),
+                    Date.valueOf(LocalDate.of(1950 + random.nextInt(75), 1 + random.nextInt(12), 1)),
+                    "English", 80 + random.nextInt(700), totalCopies[id], available,
+                    available == 0 ? "BORROWED" : "AVAILABLE", "S-" + (id % 200), true, now, now});
+            if (rows.size() == BATCH_SIZE) {
+                batchInsertBooks(rows);
+                rows.clear();
+            }
+        }
+        batchInsertBooks(rows);
+    }
+
+    private void batchInsertBooks(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO books (id, title, author, isbn, genre, publication_date, language, pages, total_copies,
+                                   available_copies, status, shelf_location, is_active, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    private void insertLoans(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO borrowing_records (id, user_id, book_id, borrow_date, due_date, return_date, status,
+                                               fine_amount, renewal_count, max_renewals_allowed, issued_by,
+                                               returned_to, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    private void advanceIdGenerators() {
+        for (String table : List.of("users", "books", "borrowing_records")) {
+            jdbcTemplate.update("UPDATE " + table + "_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 51 FROM "
+                    + table + ")");
+        }
+    }
+
+    private static String title(Random random) {
+        String title = "The " + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                + NOUNS[random.nextInt(NOUNS.length)];
+        return random.nextBoolean() ? title + " of " + PLACES[random.nextInt(PLACES.length)] : title;
+    }
+
+    /**
+     * Rejection-samples a day from the last {@code historyDays} days: late-August/September and
+     * January peaks, a July dip, and more traffic at weekends.
+     */
+    private static LocalDate seasonalBorrowDate(Random random, LocalDate today, int historyDays) {
+        while (true) {
+            LocalDate day = today.minusDays(1 + random.nextInt(historyDays));
+            double yearFraction = (day.getDayOfYear() - 1) / 365.0;
+            double weight = 1.0
+                    + 0.35 * Math.cos(2 * Math.PI * (yearFraction - 0.68))
+                    + 0.20 * Math.cos(4 * Math.PI * (yearFraction - 0.03));
+            if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                weight *= 1.3;
+            }
+            if (random.nextDouble() * 2.2 < weight) {
+                return day;
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.library.library_management_system.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.library_management_system.loadtest.LoadTestReport.Outcome;
+import com.library.library_management_system.loadtest.SyntheticDataGenerator.Dataset;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * One simulated library member (plus the shared admin login for report requests).
+ * <p>
+ * Not thread-safe: each virtual user runs on its own thread. Book choices follow the same
+ * Zipfian popularity the data was generated with, and the user tracks the loans it holds so
+ * borrows and returns stay within the member's limit.
+ */
+class VirtualUser {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    // Leave headroom under the five-book member limit for loans seeded by the generator
+    private static final int MAX_HELD = 4;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String SEARCH_BOOKS_QUERY = """
+            query Search($term: String, $page: Int) {
+              books(filter: { searchTerm: $term }, pagination: { page: $page, size: 20 }) {
+                content { id title author availableCopies }
+                pageInfo { totalElements }
+              }
+            }""";
+    private static final String BORROW_BOOK_MUTATION = """
+            mutation Borrow($bookId: Long!) {
+              borrowBook(input: { bookId: $bookId }) { id dueDate }
+            }""";
+    private static final String RETURN_BOOK_MUTATION = """
+            mutation Return($id: Long!) {
+              returnBook(input: { borrowingRecordId: $id }) { id status fineAmount }
+            }""";
+    private static final String MY_CURRENT_BOOKS_QUERY = """
+            query { myCurrentBooks { id dueDate } }""";
+    private static final String DASHBOARD_STATS_QUERY = """
+            query { dashboardStats { totalBooks availableBooks borrowedBooks overdueBooks totalUsers activeUsers } }""";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Dataset dataset;
+    private final ZipfSampler bookPopularity;
+    private final Random random;
+    private final Deque<Long> heldLoans = new ArrayDeque<>();
+
+    private String memberToken;
+    private String adminToken;
+
+    VirtualUser(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, Dataset dataset,
+                ZipfSampler bookPopularity, long seed) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.bookPopularity = bookPopularity;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Logs in and loads the loans the member already holds; not part of the measured run.
+     */
+    void signIn(String memberUsername, boolean asAdmin) throws IOException, InterruptedException {
+        memberToken = login(memberUsername);
+        if (asAdmin) {
+            adminToken = login(dataset.adminUsername());
+        }
+        JsonNode current = graphql(MY_CURRENT_BOOKS_QUERY, Map.of(), memberToken).body();
+        current.path("data").path("myCurrentBooks").forEach(loan -> heldLoans.add(loan.path("id").asLong()));
+    }
+
+    /**
+     * Picks the next request of the mix. Borrowing past the limit or returning with nothing on
+     * loan would only measure the rejection path, so those turn into the opposite request.
+     */
+    Operation next(WorkloadMix mix) {
+        Operation operation = mix.next(random);
+        if (operation == Operation.GRAPHQL_BORROW_BOOK && heldLoans.size() >= MAX_HELD) {
+            return Operation.GRAPHQL_RETURN_BOOK;
+        }
+        if (operation == Operation.GRAPHQL_RETURN_BOOK && heldLoans.isEmpty()) {
+            return Operation.GRAPHQL_BORROW_BOOK;
+        }
+        return operation;
+    }
+
+    Outcome execute(Operation operation) {
+        try {
+            return switch (operation) {
+                case SEARCH_BOOKS -> post("/api/books/search", Map.of(
+                        "searchTerm", searchTerm(), "page", random.nextInt(3), "size", PAGE_SIZE), memberToken)
+                        .outcome();
+                case BROWSE_BOOKS -> get("/api/books?page=" + random.nextInt(50) + "&size=" + PAGE_SIZE
+                        + "&sortBy=" + (random.nextBoolean() ? "title" : "author"), memberToken).outcome();
+                case BOOK_DETAILS -> get("/api/books/" + popularBookId(), memberToken).outcome();
+                case BOOK_AVAILABILITY -> get("/api/books/" + popularBookId() + "/availability", memberToken)
+                        .outcome();
+                case GRAPHQL_SEARCH_BOOKS -> graphql(SEARCH_BOOKS_QUERY,
+                        Map.of("term", searchTerm(), "page", random.nextInt(3)), memberToken).outcome();
+                case GRAPHQL_BORROW_BOOK -> borrow();
+                case GRAPHQL_RETURN_BOOK -> giveBack();
+                case GRAPHQL_MY_CURRENT_BOOKS -> graphql(MY_CURRENT_BOOKS_QUERY, Map.of(), memberToken).outcome();
+                case DASHBOARD -> get("/api/reports/dashboard", adminToken).outcome();
+                case MONTHLY_TRENDS -> get("/api/reports/monthly-trends?startDate=" + LocalDate.now().minusYears(1)
+                        + "&endDate=" + LocalDate.now(), adminToken).outcome();
+                case OVERDUE_REPORT -> get("/api/reports/overdue-books", adminToken).outcome();
+                case LIBRARY_STATISTICS -> get("/api/reports/stats/library", adminToken).outcome();
+                case GRAPHQL_DASHBOARD_STATS -> graphql(DASHBOARD_STATS_QUERY, Map.of(), adminToken).outcome();
+            };
+        } catch (IOException ex) {
+            return Outcome.ERROR;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Outcome.ERROR;
+        }
+    }
+
+    private Outcome borrow() throws IOException, InterruptedException {
+        Response response = graphql(BORROW_BOOK_MUTATION, Map.of("bookId", popularBookId()), memberToken);
+        JsonNode loan = response.body().path("data").path("borrowBook");
+        if (response.outcome() == Outcome.OK && loan.hasNonNull("id")) {
+            heldLoans.addLast(loan.path("id").asLong());
+        }
+        return response.outcome();
+    }
+
+    private Outcome giveBack() throws IOException, InterruptedException {
+        Long loanId = heldLoans.pollFirst();
+        return graphql(RETURN_BOOK_MUTATION, Map.of("id", loanId), memberToken).outcome();
+    }
+
+    private long popularBookId() {
+        return dataset.bookIdsByPopularity()[bookPopularity.sample(random)];
+    }
+
+    /**
+     * A word from a popular title: people search for what others borrow.
+     */
+    private String searchTerm() {
+        String[] words = dataset.titlesByPopularity()[bookPopularity.sample(random)].split(" ");
+        return words[1 + random.nextInt(words.length - 1)];
+    }
+
+    private String login(String username) throws IOException, InterruptedException {
+        Response response = post("/api/auth/login",
+                Map.of("identifier", username, "password", dataset.password()), null);
+        String token = response.body().path("data").path("accessToken").asText(null);
+        if (token == null) {
+            throw new IllegalStateException("Login failed for " + username + ": " + response.body());
+        }
+        return token;
+    }
+
+    private Response get(String path, String token) throws IOException, InterruptedException {
+        return send(request(path, token).GET().build(), false);
+    }
+
+    private Response post(String path, Object body, String token) throws IOException, InterruptedException {
+        return send(request(path, token)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build(), false);
+    }
+
+    private Response graphql(String query, Map<String, Object> variables, String token)
+            throws IOException, InterruptedException {
+        byte[] body = objectMapper.writeValueAsBytes(Map.of("query", query, "variables", variables));
+        return send(request("/graphql", token).POST(HttpRequest.BodyPublishers.ofByteArray(body)).build(), true);
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Response send(HttpRequest request, boolean graphql) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        byte[] bytes = response.body();
+        JsonNode body = bytes.length == 0 ? objectMapper.missingNode() : objectMapper.readTree(bytes);
+        boolean shed = response.statusCode() == 503 && response.headers().firstValue("Retry-After").isPresent();
+        return new Response(shed ? Outcome.SHED : classify(response.statusCode(), body, graphql), body);
+    }
+
+    private static Outcome classify(int status, JsonNode body, boolean graphql) {
+        if (status == 401 || status == 403 || status >= 500) {
+            return Outcome.ERROR;
+        }
+        if (status >= 400) {
+            return Outcome.REJECTED;
+        }
+        JsonNode errors = body.path("errors");
+        if (graphql && errors.isArray() && !errors.isEmpty()) {
+            String classification = errors.get(0).path("extensions").path("classification").asText("");
+            if (classification.equals("UNAVAILABLE")) {
+                return Outcome.SHED;
+            }
+            return classification.isEmpty() || classification.equals("INTERNAL_ERROR")
+                    ? Outcome.ERROR : Outcome.REJECTED;
+        }
+        return Outcome.OK;
+    }
+
+    private record Response(Outcome outcome, JsonNode body) {
+    }
+}
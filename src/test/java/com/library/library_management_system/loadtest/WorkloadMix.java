@@ -0,0 +1,74 @@
+package com.library.library_management_system.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import static com.library.library_management_system.loadtest.Operation.*;
+
+/**
+ * Scripted request mixes; weights are relative shares of the requests a virtual user issues
+ */
+public enum WorkloadMix {
+
+    /**
+     * Members browsing the catalogue: full-text search dominates, with detail pages of popular titles.
+     */
+    SEARCH_HEAVY(Map.of(
+            SEARCH_BOOKS, 40,
+            GRAPHQL_SEARCH_BOOKS, 15,
+            BROWSE_BOOKS, 15,
+            BOOK_DETAILS, 20,
+            BOOK_AVAILABILITY, 10)),
+
+    /**
+     * Start-of-term rush: members borrowing and returning popular titles, checking their loans.
+     */
+    CHECKOUT_RUSH(Map.of(
+            GRAPHQL_BORROW_BOOK, 35,
+            GRAPHQL_RETURN_BOOK, 25,
+            GRAPHQL_MY_CURRENT_BOOKS, 15,
+            BOOK_AVAILABILITY, 15,
+            SEARCH_BOOKS, 10)),
+
+    /**
+     * Staff refreshing dashboards and reports while members keep searching in the background.
+     */
+    REPORT_STORM(Map.of(
+            DASHBOARD, 20,
+            GRAPHQL_DASHBOARD_STATS, 15,
+            MONTHLY_TRENDS, 15,
+            OVERDUE_REPORT, 15,
+            LIBRARY_STATISTICS, 15,
+            SEARCH_BOOKS, 20));
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    WorkloadMix(Map<Operation, Integer> weights) {
+        // EnumMap for a stable order, so a seed always replays the same request sequence
+        Map<Operation, Integer> ordered = new EnumMap<>(weights);
+        operations = ordered.keySet().toArray(Operation[]::new);
+        cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += ordered.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public Operation next(Random random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Weights exhausted");
+    }
+
+    public boolean needsAdmin() {
+        return Arrays.stream(operations).anyMatch(Operation::isAdminOnly);
+    }
+}
@@ -0,0 +1,67 @@
+package com.library.library_management_system.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryRateLimitFilterTest {
+
+    private LoggerContext context;
+    private CategoryRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        filter = new CategoryRateLimitFilter();
+        filter.setContext(context);
+        filter.addLimit("com.library.service=2");
+        filter.addLimit("com.library.service.report=1");
+        filter.start();
+    }
+
+    @Test
+    void eventsOverTheCategoryLimitAreDenied() {
+        Logger borrowing = context.getLogger("com.library.service.BorrowingService");
+        Logger auth = context.getLogger("com.library.service.AuthService");
+
+        assertThat(decide(borrowing, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(auth, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(borrowing, Level.INFO)).isEqualTo(FilterReply.DENY);
+        assertThat(filter.getSuppressedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void longestMatchingCategoryWinsAndOtherLoggersAreUnlimited() {
+        Logger report = context.getLogger("com.library.service.report.ReportService");
+        Logger other = context.getLogger("com.library.serviceregistry.Client");
+
+        assertThat(decide(report, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(report, Level.INFO)).isEqualTo(FilterReply.DENY);
+        for (int i = 0; i < 10; i++) {
+            assertThat(decide(other, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Test
+    void errorsDisabledLevelsAndLevelChecksDoNotUseTheBudget() {
+        Logger borrowing = context.getLogger("com.library.service.BorrowingService");
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(decide(borrowing, Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(borrowing, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(null, borrowing, Level.INFO, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+        }
+        assertThat(decide(borrowing, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.getSuppressedCount()).isZero();
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message {}", new Object[]{1}, null);
+    }
+}
@@ -0,0 +1,40 @@
+package com.library.library_management_system.metrics;
+
+import com.library.library_management_system.enums.BorrowStatus;
+import com.library.library_management_system.repository.BorrowingRecordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CirculationMetricsTest {
+
+    private final BorrowingRecordRepository repository = mock(BorrowingRecordRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void gaugesReportLastRefreshWithoutQueryingOnScrape() {
+        CirculationMetrics metrics = new CirculationMetrics(repository, meterRegistry);
+
+        assertThat(gauge(CirculationMetrics.ACTIVE_LOANS_GAUGE)).isZero();
+        verifyNoInteractions(repository);
+
+        when(repository.countByStatus(BorrowStatus.BORROWED)).thenReturn(40L);
+        when(repository.countByStatus(BorrowStatus.OVERDUE)).thenReturn(2L);
+        when(repository.countOverdueRecords(any(LocalDate.class))).thenReturn(5L);
+        metrics.refresh();
+
+        assertThat(gauge(CirculationMetrics.ACTIVE_LOANS_GAUGE)).isEqualTo(42);
+        assertThat(gauge(CirculationMetrics.OVERDUE_LOANS_GAUGE)).isEqualTo(5);
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+}
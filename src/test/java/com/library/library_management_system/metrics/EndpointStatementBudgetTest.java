@@ -0,0 +1,135 @@
+package com.library.library_management_system.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.library_management_system.loadtest.LoadTestProperties;
+import com.library.library_management_system.loadtest.SyntheticDataGenerator;
+import com.library.library_management_system.loadtest.SyntheticDataGenerator.Dataset;
+import com.library.library_management_system.repository.UserRepository;
+import com.library.library_management_system.security.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the hot REST and GraphQL endpoints against a small synthetic library (the loadtest
+ * profile's H2 database) with fail-on-violation set: an endpoint running more statements than
+ * its @StatementBudget fails the request, and with it the test.
+ */
+@SpringBootTest(properties = {
+        "library.sql-budget.fail-on-violation=true",
+        "library.sql-budget.default-budget=" + EndpointStatementBudgetTest.DEFAULT_BUDGET
+})
+@ActiveProfiles("loadtest")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointStatementBudgetTest {
+
+    static final int DEFAULT_BUDGET = 1000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StatementBudgetMonitor monitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Dataset dataset;
+    private RequestPostProcessor member;
+    private RequestPostProcessor admin;
+
+    @BeforeAll
+    void generateData(@Autowired JdbcTemplate jdbcTemplate, @Autowired PasswordEncoder passwordEncoder,
+                      @Autowired UserRepository userRepository) {
+        LoadTestProperties properties = new LoadTestProperties();
+        properties.setBooks(200);
+        properties.setUsers(40);
+        properties.setBorrowings(3000);
+        dataset = new SyntheticDataGenerator(jdbcTemplate).generate(properties, passwordEncoder.encode("unused"));
+        member = user(UserPrincipal.create(userRepository.findByUsername(dataset.memberUsername(0)).orElseThrow()));
+        admin = user(UserPrincipal.create(userRepository.findByUsername(dataset.adminUsername()).orElseThrow()));
+    }
+
+    @Test
+    void restEndpoints() throws Exception {
+        long bookId = dataset.bookIdsByPopularity()[0];
+        mockMvc.perform(get("/api/books").param("size", "20").with(member)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/books/{id}", bookId).with(member)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/books/{id}/availability", bookId).with(member)).andExpect(status().isOk());
+        mockMvc.perform(post("/api/books/search").with(member)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"searchTerm\":\"" + searchTerm() + "\",\"size\":20}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/reports/dashboard").with(admin)).andExpect(status().isOk());
+
+        // Rows are counted as result sets are read
+        assertThat(meterRegistry.get(StatementBudgetMonitor.ROWS_METRIC).tag("endpoint", "GET /api/books")
+                .summary().totalAmount()).isGreaterThanOrEqualTo(20);
+        assertDeclaredBudgets("GET /api/books", "GET /api/books/{id}", "GET /api/books/{id}/availability",
+                "POST /api/books/search", "GET /api/reports/dashboard");
+    }
+
+    @Test
+    void graphqlOperations() throws Exception {
+        graphql("{ books(filter: { searchTerm: \"" + searchTerm() + "\" }, pagination: { size: 20 }) "
+                + "{ content { id title availableCopies } } }", member);
+        graphql("{ myCurrentBooks { id dueDate book { title } } }", member);
+        graphql("{ myBorrowingHistory(pagination: { size: 20 }) { content { id book { title } user { username } } } }", member);
+        graphql("{ overdueBooks { id book { title } user { username } } }", admin);
+        graphql("{ dashboardStats { totalBooks overdueBooks } }", admin);
+
+        assertDeclaredBudgets("graphql Query.books", "graphql Query.myCurrentBooks", "graphql Query.myBorrowingHistory",
+                "graphql Query.overdueBooks", "graphql Query.dashboardStats");
+    }
+
+    /**
+     * The endpoints were reported under their own name and with their own budget, not the default
+     */
+    private void assertDeclaredBudgets(String... endpoints) {
+        Map<String, StatementBudgetMonitor.EndpointSummary> summaries = monitor.summaries();
+        for (String endpoint : endpoints) {
+            assertThat(summaries).containsKey(endpoint);
+            assertThat(summaries.get(endpoint).budget()).as(endpoint).isLessThan(DEFAULT_BUDGET);
+            assertThat(summaries.get(endpoint).budgetExceeded()).as(endpoint).isZero();
+        }
+    }
+
+    private String searchTerm() {
+        return dataset.titlesByPopularity()[0].split(" ")[1];
+    }
+
+    private void graphql(String query, RequestPostProcessor user) throws Exception {
+        MvcResult result = mockMvc.perform(post("/graphql").with(user)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("query", query))))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.errors").doesNotExist());
+    }
+}
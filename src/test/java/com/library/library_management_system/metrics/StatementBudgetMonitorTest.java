@@ -0,0 +1,88 @@
+package com.library.library_management_system.metrics;
+
+import com.library.library_management_system.config.StatementBudgetConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatementBudgetMonitorTest {
+
+    private StatementBudgetConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private StatementBudgetMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        config = new StatementBudgetConfig();
+        config.setRepeatedQueryThreshold(3);
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new StatementBudgetMonitor(config, meterRegistry);
+    }
+
+    @Test
+    void sameQueryWithDifferentArgumentsHasOneShape() {
+        assertThat(RequestStatements.shape("select * from books where id = 42 and title = 'It''s'"))
+                .isEqualTo(RequestStatements.shape("SELECT *\n  FROM books WHERE id = 7 AND title = 'Dune'"));
+        assertThat(RequestStatements.shape("select b1_0.id from books b1_0 where b1_0.id in (?, ?, ?)"))
+                .isEqualTo("select b1_0.id from books b1_0 where b1_0.id in (?)");
+    }
+
+    @Test
+    void lazyLoadsInALoopAreFlaggedAsNPlusOne() {
+        RequestStatements statements = new RequestStatements();
+        statements.recordExecution(List.of("select * from borrowing_records where user_id = ?"), 1, 0);
+        for (int id = 1; id <= 4; id++) {
+            statements.recordExecution(List.of("select * from books where id = " + id), 1, 0);
+        }
+        statements.addBudget(10);
+
+        monitor.record("GET /api/borrowings", statements);
+
+        assertThat(statements.repeatedShapes(3)).containsOnlyKeys("select * from books where id = ?");
+        assertThat(meterRegistry.counter(StatementBudgetMonitor.N_PLUS_ONE_COUNTER, "endpoint", "GET /api/borrowings").count())
+                .isEqualTo(1);
+        assertThat(monitor.summaries().get("GET /api/borrowings").nPlusOneSuspected()).isEqualTo(1);
+    }
+
+    @Test
+    void exceedingTheBudgetIsCountedOrFailsTheRequest() {
+        monitor.record("GET /api/reports/dashboard", executions(3, 2));
+        assertThat(meterRegistry.counter(StatementBudgetMonitor.BUDGET_EXCEEDED_COUNTER,
+                "endpoint", "GET /api/reports/dashboard").count()).isEqualTo(1);
+
+        config.setFailOnViolation(true);
+        assertThatThrownBy(() -> monitor.record("GET /api/reports/dashboard", executions(3, 2)))
+                .isInstanceOf(StatementBudgetExceededException.class)
+                .hasMessageContaining("ran 3 SQL statements, budget is 2");
+        monitor.record("GET /api/reports/dashboard", executions(2, 2));
+
+        StatementBudgetMonitor.EndpointSummary summary = monitor.summaries().get("GET /api/reports/dashboard");
+        assertThat(summary.requests()).isEqualTo(3);
+        assertThat(summary.budgetExceeded()).isEqualTo(2);
+        assertThat(summary.maxStatements()).isEqualTo(3);
+    }
+
+    @Test
+    void endpointsWithoutBudgetUseTheDefault() {
+        config.setDefaultBudget(4);
+        monitor.record("GET /api/users", executions(3, null));
+
+        assertThat(monitor.summaries().get("GET /api/users").budget()).isEqualTo(4);
+    }
+
+    private static RequestStatements executions(int count, Integer budget) {
+        RequestStatements statements = new RequestStatements();
+        for (int i = 0; i < count; i++) {
+            statements.recordExecution(List.of("select count(*) from table_" + (char) ('a' + i)), 1, 0);
+        }
+        if (budget != null) {
+            statements.addBudget(budget);
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,162 @@
+package com.library.library_management_system.repository;
+
+import com.library.library_management_system.config.ArchivalConfig;
+import com.library.library_management_system.config.DatabaseConfig;
+import com.library.library_management_system.dto.response.BorrowingHistoryResponse;
+import com.library.library_management_system.dto.response.PagedResponse;
+import com.library.library_management_system.service.impl.BorrowingArchiveServiceImpl;
+import com.library.library_management_system.service.impl.BorrowingServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Archival and archive-aware history paging against the Flyway schema on H2 in MySQL mode.
+ * Book 1 has three loans returned two years ago and two recent loans, one still open.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archive;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORE_UNKNOWN_SETTINGS=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DatabaseConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BorrowingArchiveTest {
+
+    private static final long BOOK_ID = 1L;
+
+    @Autowired
+    private BorrowingRecordRepository borrowingRecordRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private BorrowingArchiveServiceImpl archiveService;
+    private BorrowingServiceImpl borrowingService;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        ArchivalConfig archivalConfig = new ArchivalConfig();
+        archivalConfig.setBatchSize(2);
+        archivalConfig.setPauseBetweenBatches(Duration.ZERO);
+        archiveService = new BorrowingArchiveServiceImpl(borrowingRecordRepository, archivalConfig, transactionTemplate);
+        borrowingService = new BorrowingServiceImpl(borrowingRecordRepository, bookRepository, userRepository, event -> { });
+
+        jdbcTemplate.update("DELETE FROM borrowing_records_archive");
+        jdbcTemplate.update("DELETE FROM borrowing_records");
+        jdbcTemplate.update("DELETE FROM books");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("""
+                INSERT INTO users (id, username, full_name, email, password, role, is_active, max_books_allowed,
+                    created_at, updated_at)
+                VALUES (1, 'reader', 'Avid Reader', 'reader@example.com', 'secret', 'MEMBER', TRUE, 5,
+                    CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO books (id, title, author, isbn, genre, total_copies, available_copies, status, is_active,
+                    created_at, updated_at)
+                VALUES (1, 'Dune', 'Frank Herbert', '9780441172719', 'FICTION', 3, 2, 'AVAILABLE', TRUE,
+                    CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """);
+
+        LocalDate today = LocalDate.now();
+        insertLoan(1, today.minusYears(2).minusDays(30), today.minusYears(2).minusDays(20), "RETURNED");
+        insertLoan(2, today.minusYears(2).minusDays(20), today.minusYears(2).minusDays(10), "RETURNED");
+        insertLoan(3, today.minusYears(2).minusDays(10), today.minusYears(2), "RETURNED");
+        insertLoan(4, today.minusDays(30), today.minusDays(20), "RETURNED");
+        insertLoan(5, today.minusDays(5), null, "BORROWED");
+    }
+
+    @Test
+    void archivalMovesOnlyLoansClosedBeforeTheRetentionPeriod() {
+        int archived = archiveService.archiveClosedRecords();
+
+        assertThat(archived).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM borrowing_records ORDER BY id", Long.class))
+                .containsExactly(4L, 5L);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM borrowing_records_archive ORDER BY id", Long.class))
+                .containsExactly(1L, 2L, 3L);
+        assertThat(archiveService.archiveClosedRecords()).isZero();
+    }
+
+    @Test
+    void loansWithUnpaidFinesStayLiveAndOutstanding() {
+        LocalDate returned = LocalDate.now().minusYears(2);
+        insertLoan(6, returned.minusDays(30), returned, "RETURNED", 4.5);
+
+        assertThat(archiveService.archiveClosedRecords()).isEqualTo(3);
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM borrowing_records ORDER BY id", Long.class))
+                .containsExactly(4L, 5L, 6L);
+        assertThat(borrowingRecordRepository.hasOutstandingFines(1L)).isTrue();
+        assertThat(borrowingRecordRepository.getUsersWithOutstandingFines())
+                .singleElement()
+                .satisfies(summary -> {
+                    assertThat(summary.getUserId()).isEqualTo(1L);
+                    assertThat(summary.getTotalFines()).isEqualTo(4.5);
+                });
+    }
+
+    @Test
+    void historyPagesSpanLiveAndArchivedLoans() {
+        archiveService.archiveClosedRecords();
+
+        assertThat(bookHistoryIds(0, 2)).containsExactly(5L, 4L);
+        assertThat(bookHistoryIds(1, 2)).containsExactly(3L, 2L);
+        assertThat(bookHistoryIds(2, 2)).containsExactly(1L);
+
+        PagedResponse<BorrowingHistoryResponse> page = transactionTemplate.execute(status ->
+                borrowingService.getBookBorrowingHistory(BOOK_ID, 0, 2));
+        assertThat(page.getTotalElements()).isEqualTo(5);
+    }
+
+    private List<Long> bookHistoryIds(int page, int size) {
+        return transactionTemplate.execute(status ->
+                borrowingService.getBookBorrowingHistory(BOOK_ID, page, size).getContent().stream()
+                        .map(BorrowingHistoryResponse::getId)
+                        .toList());
+    }
+
+    private void insertLoan(long id, LocalDate borrowDate, LocalDate returnDate, String status) {
+        insertLoan(id, borrowDate, returnDate, status, 0);
+    }
+
+    private void insertLoan(long id, LocalDate borrowDate, LocalDate returnDate, String status, double fine) {
+        jdbcTemplate.update("""
+                INSERT INTO borrowing_records (id, user_id, book_id, borrow_date, due_date, return_date, status,
+                    fine_amount, renewal_count, max_renewals_allowed, created_at, updated_at)
+                VALUES (?, 1, ?, ?, ?, ?, ?, ?, 0, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, id, BOOK_ID, borrowDate, borrowDate.plusDays(14), returnDate, status, fine);
+    }
+}
@@ -0,0 +1,79 @@
+package com.library.library_management_system.repository;
+
+import com.library.library_management_system.config.DatabaseConfig;
+import com.library.library_management_system.entity.Book;
+import com.library.library_management_system.enums.Genre;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The afterMigrate callback moving the table-emulated id generators past rows written with
+ * explicit ids, against the Flyway schema on H2 in MySQL mode with the MySQL dialect.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:idgenerators;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORE_UNKNOWN_SETTINGS=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DatabaseConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdGeneratorSeedingTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Flyway flyway;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM books");
+    }
+
+    @Test
+    void generatorsMovePastRowsInsertedWithExplicitIds() {
+        long restoredId = nextVal("books_seq") + 500;
+        jdbcTemplate.update("""
+                INSERT INTO books (id, title, author, isbn, genre, total_copies, available_copies, status, is_active,
+                    created_at, updated_at)
+                VALUES (?, 'Dune', 'Frank Herbert', '9780441172719', 'FICTION', 1, 1, 'AVAILABLE', TRUE,
+                    CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, restoredId);
+
+        flyway.migrate();
+
+        assertThat(nextVal("books_seq")).isEqualTo(restoredId + 51);
+        Book saved = bookRepository.save(new Book("Emma", "Jane Austen", "9780141439587", Genre.FICTION, 1));
+        assertThat(saved.getId()).isGreaterThan(restoredId);
+    }
+
+    @Test
+    void generatorsNeverMoveBackwards() {
+        jdbcTemplate.update("UPDATE users_seq SET next_val = 10000");
+
+        flyway.migrate();
+
+        assertThat(nextVal("users_seq")).isEqualTo(10000);
+    }
+
+    private long nextVal(String table) {
+        return jdbcTemplate.queryForObject("SELECT next_val FROM " + table, Long.class);
+    }
+}
@@ -0,0 +1,179 @@
+package com.library.library_management_system.repository;
+
+import com.library.library_management_system.config.DatabaseConfig;
+import com.library.library_management_system.entity.Book;
+import com.library.library_management_system.enums.BorrowStatus;
+import com.library.library_management_system.enums.Genre;
+import com.library.library_management_system.repository.projection.BookAvailabilityStats;
+import com.library.library_management_system.repository.projection.BorrowingCapacity;
+import com.library.library_management_system.repository.projection.BorrowingHistoryRow;
+import com.library.library_management_system.repository.projection.BorrowingHistoryView;
+import com.library.library_management_system.repository.projection.GenreBorrowStats;
+import com.library.library_management_system.repository.projection.LibraryMetric;
+import com.library.library_management_system.repository.projection.UserBorrowingStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Typed projections of the history, overdue and statistics queries against the Flyway schema
+ * on H2 in MySQL mode. Queries relying on MySQL-only functions (DATEDIFF, DATE_FORMAT) are
+ * not covered here.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:projections;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORE_UNKNOWN_SETTINGS=TRUE;NON_KEYWORDS=VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DatabaseConfig.class)
+class ProjectionQueryTest {
+
+    @Autowired
+    private BorrowingRecordRepository borrowingRecordRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, username, full_name, email, password, role, is_active, max_books_allowed,
+                    created_at, updated_at)
+                VALUES (1, 'reader', 'Avid Reader', 'reader@example.com', 'secret', 'MEMBER', TRUE, 5,
+                    CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """);
+        insertBook(1, "Dune", "9780441172719", 3, 1);
+        insertBook(2, "Emma", "9780141439587", 1, 1);
+
+        LocalDate today = LocalDate.now();
+        insertLoan(1, 1, today.minusDays(40), today.minusDays(26), today.minusDays(30), "RETURNED", 0);
+        insertLoan(2, 1, today.minusDays(20), today.minusDays(6), null, "OVERDUE", 6);
+        insertLoan(3, 1, today.minusDays(3), today.plusDays(11), null, "BORROWED", 0);
+        insertLoan(4, 2, today.minusDays(2), today.plusDays(12), today.minusDays(1), "RETURNED", 0);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void historyPageIsReadWithoutLoadingEntities() {
+        Page<BorrowingHistoryView> page = borrowingRecordRepository.findUserBorrowingHistory(1L, PageRequest.of(0, 3));
+
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.getContent()).extracting(BorrowingHistoryView::getId).containsExactly(4L, 3L, 2L);
+        // Built by the constructor expression, not wrapped in a projection proxy
+        assertThat(page.getContent()).allSatisfy(row -> assertThat(row).isInstanceOf(BorrowingHistoryRow.class));
+
+        BorrowingHistoryView open = page.getContent().get(1);
+        assertThat(open.getStatus()).isEqualTo(BorrowStatus.BORROWED);
+        assertThat(open.getBookTitle()).isEqualTo("Dune");
+        assertThat(open.getUserFullName()).isEqualTo("Avid Reader");
+        assertThat(open.getDueDate()).isEqualTo(LocalDate.now().plusDays(11));
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void overdueAndCurrentLoansAreProjected() {
+        assertThat(borrowingRecordRepository.findOverdueBooks())
+                .extracting(BorrowingHistoryView::getId, BorrowingHistoryView::getFineAmount)
+                .containsExactly(tuple(2L, 6.0));
+        assertThat(borrowingRecordRepository.findUserCurrentBorrowedBooks(1L))
+                .extracting(BorrowingHistoryView::getBookIsbn)
+                .containsExactly("9780441172719");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void aggregateQueriesMapToTypedProjections() {
+        BookAvailabilityStats availability = bookRepository.getBookAvailabilityStats();
+        assertThat(availability.getTotalBooks()).isEqualTo(2);
+        assertThat(availability.getTotalCopies()).isEqualTo(4);
+        assertThat(availability.getBorrowedCopies()).isEqualTo(2);
+
+        List<GenreBorrowStats> genres = bookRepository.getPopularGenreStats();
+        assertThat(genres).singleElement().satisfies(genre -> {
+            assertThat(genre.getGenre()).isEqualTo(Genre.FICTION);
+            assertThat(genre.getTotalBorrows()).isEqualTo(4);
+            assertThat(genre.getUniqueBooks()).isEqualTo(2);
+        });
+
+        BorrowingCapacity capacity = borrowingRecordRepository.getUserBorrowingCapacity(1L);
+        assertThat(capacity.getMaxBooksAllowed()).isEqualTo(5);
+        assertThat(capacity.getCurrentBorrowed()).isEqualTo(1);
+
+        UserBorrowingStats userStats = userRepository.getUserBorrowingStats(1L);
+        assertThat(userStats.getTotalBorrowed()).isEqualTo(4);
+        assertThat(userStats.getOverdueCount()).isEqualTo(1);
+        assertThat(userStats.getTotalFines()).isEqualTo(6.0);
+
+        assertThat(borrowingRecordRepository.getLibraryStatistics())
+                .extracting(LibraryMetric::getMetric, LibraryMetric::getValue)
+                .contains(tuple("TOTAL_BORROWS", 4.0),
+                        tuple("TOTAL_FINES", 6.0));
+
+        assertThat(borrowingRecordRepository.hasOutstandingFines(1L)).isTrue();
+    }
+
+    @Test
+    void bookListsStreamInIdOrder() {
+        insertBook(3, "Ulysses", "9780199535675", 2, 0);
+
+        try (Stream<Book> available = bookRepository.streamAvailableBooks()) {
+            assertThat(available).extracting(Book::getTitle).containsExactly("Dune", "Emma");
+        }
+        try (Stream<Book> fiction = bookRepository.streamByGenre(Genre.FICTION)) {
+            assertThat(fiction).extracting(Book::getId).containsExactly(1L, 2L, 3L);
+        }
+    }
+
+    private void insertBook(long id, String title, String isbn, int totalCopies, int availableCopies) {
+        jdbcTemplate.update("""
+                INSERT INTO books (id, title, author, isbn, genre, total_copies, available_copies, status, is_active,
+                    created_at, updated_at)
+                VALUES (?, ?, 'Author', ?, 'FICTION', ?, ?, 'AVAILABLE', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, id, title, isbn, totalCopies, availableCopies);
+    }
+
+    private void insertLoan(long id, long bookId, LocalDate borrowDate, LocalDate dueDate, LocalDate returnDate,
+                            String status, double fine) {
+        jdbcTemplate.update("""
+                INSERT INTO borrowing_records (id, user_id, book_id, borrow_date, due_date, return_date, status,
+                    fine_amount, renewal_count, max_renewals_allowed, created_at, updated_at)
+                VALUES (?, 1, ?, ?, ?, ?, ?, ?, 0, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, id, bookId, borrowDate, dueDate, returnDate, status, fine);
+    }
+}
@@ -0,0 +1,133 @@
+package com.library.library_management_system.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Flyway migrations on MySQL and checks with EXPLAIN that the hot queries use
+ * their composite indexes. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanRegressionTest {
+
+    private static final int USERS = 100;
+    private static final int BOOKS = 2_000;
+    private static final int RECORDS = 20_000;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrateAndLoad() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                MYSQL.getJdbcUrl() + "?rewriteBatchedStatements=true", MYSQL.getUsername(), MYSQL.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        loadData();
+        jdbcTemplate.execute("ANALYZE TABLE users, books, borrowing_records");
+    }
+
+    @Test
+    void activeBorrowingCountUsesUserStatusIndex() {
+        Map<String, Object> plan = explain("""
+                SELECT COUNT(*) FROM borrowing_records
+                WHERE user_id = 42 AND status = 'BORROWED'
+                """);
+
+        assertThat(plan.get("key")).isEqualTo("idx_borrowing_user_status");
+        assertThat((String) plan.get("Extra")).contains("Using index");
+    }
+
+    @Test
+    void overdueScanUsesStatusDueDateIndex() {
+        Map<String, Object> plan = explain("""
+                SELECT * FROM borrowing_records
+                WHERE status IN ('BORROWED', 'OVERDUE') AND due_date < CURRENT_DATE
+                """);
+
+        assertThat(plan.get("key")).isEqualTo("idx_borrowing_status_due_date");
+    }
+
+    @Test
+    void bookHistoryUsesBookBorrowDateIndexWithoutSorting() {
+        Map<String, Object> plan = explain("""
+                SELECT * FROM borrowing_records
+                WHERE book_id = 7 ORDER BY borrow_date DESC
+                """);
+
+        assertThat(plan.get("key")).isEqualTo("idx_borrowing_book_borrow_date");
+        assertThat(String.valueOf(plan.get("Extra"))).doesNotContain("Using filesort");
+    }
+
+    @Test
+    void filteredBrowsingUsesActiveGenreTitleIndexWithoutSorting() {
+        Map<String, Object> plan = explain("""
+                SELECT * FROM books
+                WHERE is_active = true AND genre = 'MYSTERY' ORDER BY title LIMIT 20
+                """);
+
+        assertThat(plan.get("key")).isEqualTo("idx_book_active_genre_title");
+        assertThat(String.valueOf(plan.get("Extra"))).doesNotContain("Using filesort");
+    }
+
+    private Map<String, Object> explain(String sql) {
+        return jdbcTemplate.queryForMap("EXPLAIN " + sql);
+    }
+
+    private static void loadData() {
+        LocalDate today = LocalDate.now();
+        String[] genres = {"FICTION", "MYSTERY", "SCIENCE", "HISTORY", "CHILDREN", "TECHNOLOGY", "POETRY", "TRAVEL"};
+
+        List<Object[]> users = new ArrayList<>();
+        for (int id = 1; id <= USERS; id++) {
+            users.add(new Object[]{id, "user" + id, "User " + id, "user" + id + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO users (id, username, full_name, email, password, role, is_active,
+                                   created_at, updated_at)
+                VALUES (?, ?, ?, ?, 'x', 'MEMBER', true, NOW(), NOW())
+                """, users);
+
+        List<Object[]> books = new ArrayList<>();
+        for (int id = 1; id <= BOOKS; id++) {
+            books.add(new Object[]{id, "Title " + id, "Author " + (id % 300), "isbn-" + id,
+                    genres[id % genres.length], id % 10 != 0});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO books (id, title, author, isbn, genre, total_copies, available_copies, status,
+                                   is_active, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, 3, 3, 'AVAILABLE', ?, NOW(), NOW())
+                """, books);
+
+        // Mostly closed loans, as in a library with some history: open loans are a small minority
+        List<Object[]> records = new ArrayList<>();
+        for (int id = 1; id <= RECORDS; id++) {
+            LocalDate borrowDate = today.minusDays(id % 720);
+            String status = id % 25 == 0 ? "BORROWED" : id % 40 == 0 ? "OVERDUE" : "RETURNED";
+            records.add(new Object[]{id, 1 + id % USERS, 1 + id % BOOKS, Date.valueOf(borrowDate),
+                    Date.valueOf(borrowDate.plusWeeks(2)), status});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO borrowing_records (id, user_id, book_id, borrow_date, due_date, status,
+                                               created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, NOW(), NOW())
+                """, records);
+    }
+}
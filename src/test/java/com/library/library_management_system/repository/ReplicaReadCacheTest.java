@@ -0,0 +1,152 @@
+package com.library.library_management_system.repository;
+
+import com.library.library_management_system.config.DatabaseConfig;
+import com.library.library_management_system.datasource.ReadWriteRoutingDataSource;
+import com.library.library_management_system.datasource.ReadYourWritesTracker;
+import com.library.library_management_system.datasource.ReplicaLagMonitor;
+import com.library.library_management_system.entity.Book;
+import com.library.library_management_system.enums.Genre;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Second-level cache behaviour behind read/write routing. The "replica" is a second pool on
+ * the same embedded H2 database, counting its checkouts so the tests can tell where a
+ * transaction was routed.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DatabaseConfig.class, ReplicaReadCacheTest.RoutingConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaReadCacheTest {
+
+    private static final String URL = "jdbc:h2:mem:replica_cache;DB_CLOSE_DELAY=-1";
+
+    private static final CountingDataSource replica = new CountingDataSource(RoutingConfig.h2());
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate readWriteTx;
+    private Statistics statistics;
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        readWriteTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        bookRepository.deleteAll();
+        book = new Book("Dune", "Frank Herbert", "9780441172719", Genre.FICTION);
+        book.setTotalCopies(3);
+        book.setAvailableCopies(3);
+        book = bookRepository.save(book);
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        replica.checkouts.set(0);
+    }
+
+    @Test
+    void replicaReadsAreNotPutIntoTheCache() {
+        readOnlyTx.executeWithoutResult(status -> bookRepository.findById(book.getId()));
+
+        assertThat(replica.checkouts).hasValue(1);
+        assertThat(entityManagerFactory.getCache().contains(Book.class, book.getId())).isFalse();
+        assertThat(statistics.getSecondLevelCachePutCount()).isZero();
+    }
+
+    @Test
+    void replicaReadsStillUseCachedRows() {
+        readWriteTx.executeWithoutResult(status -> bookRepository.findById(book.getId()));
+        assertThat(entityManagerFactory.getCache().contains(Book.class, book.getId())).isTrue();
+        long statements = statistics.getPrepareStatementCount();
+
+        readOnlyTx.executeWithoutResult(status -> bookRepository.findById(book.getId()));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void primaryReadsArePutIntoTheCache() {
+        readWriteTx.executeWithoutResult(status -> bookRepository.findById(book.getId()));
+
+        assertThat(replica.checkouts).hasValue(0);
+        assertThat(entityManagerFactory.getCache().contains(Book.class, book.getId())).isTrue();
+    }
+
+    @TestConfiguration
+    static class RoutingConfig {
+
+        @Bean
+        DataSource dataSource() {
+            ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(Map.of("replica-0", replica), Duration.ofSeconds(5),
+                    "SELECT 0 AS lag_seconds", "lag_seconds");
+            ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(h2(), lagMonitor.getReplicas(),
+                    lagMonitor, new ReadYourWritesTracker(Duration.ofSeconds(5)));
+            routing.afterPropertiesSet();
+            return new LazyConnectionDataSourceProxy(routing);
+        }
+
+        private static DataSource h2() {
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL(URL);
+            return dataSource;
+        }
+    }
+
+    static class CountingDataSource extends DelegatingDataSource {
+
+        final AtomicInteger checkouts = new AtomicInteger();
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            checkouts.incrementAndGet();
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.library.library_management_system.repository;
+
+import com.library.library_management_system.config.DatabaseConfig;
+import com.library.library_management_system.entity.Book;
+import com.library.library_management_system.entity.User;
+import com.library.library_management_system.enums.Genre;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Second-level cache behaviour on an embedded H2 database. Every repository call runs in
+ * its own transaction, so each one gets a fresh persistence context.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.flyway.enabled=false"
+})
+@Import(DatabaseConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Book book;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        userRepository.deleteAll();
+        bookRepository.deleteAll();
+
+        book = new Book("Dune", "Frank Herbert", "9780441172719", Genre.FICTION);
+        book.setTotalCopies(3);
+        book.setAvailableCopies(3);
+        book = bookRepository.save(book);
+        user = userRepository.save(new User("reader", "Avid Reader", "reader@example.com", "secret"));
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findByIdIsServedFromCacheAfterFirstLoad() {
+        bookRepository.findById(book.getId());
+        bookRepository.findById(book.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void naturalIdLookupsAreServedFromCache() {
+        assertThat(bookRepository.findBySimpleNaturalId("9780441172719")).isPresent();
+        assertThat(userRepository.findBySimpleNaturalId("reader")).isPresent();
+        long statementsAfterFirstLookup = statistics.getPrepareStatementCount();
+
+        assertThat(bookRepository.findBySimpleNaturalId("9780441172719")).isPresent();
+        assertThat(userRepository.findBySimpleNaturalId("reader")).isPresent();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstLookup);
+        assertThat(statistics.getNaturalIdCacheHitCount()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void cacheableEmailQueryIsServedFromQueryCache() {
+        userRepository.findByEmail("reader@example.com");
+        long statementsAfterFirstLookup = statistics.getPrepareStatementCount();
+
+        assertThat(userRepository.findByEmail("reader@example.com")).isPresent();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstLookup);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void nativeBookUpdateEvictsOnlyBookRegion() {
+        bookRepository.findById(book.getId());
+        userRepository.findById(user.getId());
+
+        transactionTemplate.executeWithoutResult(status ->
+                bookRepository.decrementAvailableCopies(book.getId(), "librarian"));
+
+        assertThat(entityManagerFactory.getCache().contains(Book.class, book.getId())).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(User.class, user.getId())).isTrue();
+        assertThat(bookRepository.findById(book.getId()).orElseThrow().getAvailableCopies()).isEqualTo(2);
+    }
+
+    @Test
+    void nativeUserUpdateEvictsUserRegion() {
+        bookRepository.findById(book.getId());
+        userRepository.findById(user.getId());
+
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.updateUserActiveStatus(user.getId(), false, "admin"));
+
+        assertThat(entityManagerFactory.getCache().contains(User.class, user.getId())).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(Book.class, book.getId())).isTrue();
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getIsActive()).isFalse();
+    }
+}
@@ -0,0 +1,57 @@
+package com.library.library_management_system.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The Prometheus scrape is open only on the management port; on the application port an
+ * anonymous request is rejected like any other actuator endpoint.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@AutoConfigureObservability(tracing = false)
+class ActuatorExposureTest {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    void anonymousScrapeIsRejectedOnApplicationPort() throws Exception {
+        assertThat(managementPort).isNotEqualTo(port);
+
+        assertThat(get(port, "/actuator/prometheus").statusCode()).isEqualTo(401);
+        assertThat(get(port, "/actuator/metrics").statusCode()).isEqualTo(401);
+    }
+
+    @Test
+    void anonymousScrapeIsServedOnManagementPort() throws Exception {
+        HttpResponse<String> response = get(managementPort, "/actuator/prometheus");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("jvm_memory_used_bytes");
+
+        // Only the scrape is anonymous on the management port
+        assertThat(get(managementPort, "/actuator/metrics").statusCode()).isEqualTo(401);
+    }
+
+    private static HttpResponse<String> get(int port, String path) throws IOException, InterruptedException {
+        return HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,67 @@
+package com.library.library_management_system.security;
+
+import com.library.library_management_system.entity.User;
+import com.library.library_management_system.enums.UserRole;
+import com.library.library_management_system.repository.UserRepository;
+import com.library.library_management_system.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A token issued before the account was deactivated must stop working on the next request,
+ * even though the user lookup is served from the second-level cache and returns inactive users.
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+@AutoConfigureMockMvc
+class DeactivatedUserTokenTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Test
+    void deactivatedUsersTokenIsRejected() throws Exception {
+        User user = userRepository.save(new User("deactivated_reader", "Deactivated Reader",
+                "deactivated.reader@library.test", "unused", UserRole.MEMBER));
+        UserPrincipal principal = UserPrincipal.create(user);
+        String authorization = "Bearer " + tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        // Warm the cached lookup with the active user first
+        mockMvc.perform(get("/api/books").header("Authorization", authorization)).andExpect(status().isOk());
+
+        userService.toggleUserStatus(user.getId(), false);
+
+        mockMvc.perform(get("/api/books").header("Authorization", authorization))
+                .andExpect(status().isUnauthorized());
+        MvcResult graphql = mockMvc.perform(post("/graphql").header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"query\":\"{ myCurrentBooks { id } }\"}"))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(graphql))
+                .andExpect(jsonPath("$.data.myCurrentBooks").doesNotExist())
+                .andExpect(jsonPath("$.errors[0].message").exists());
+    }
+}
@@ -0,0 +1,150 @@
+package com.library.library_management_system.service;
+
+import com.library.library_management_system.config.BookImportConfig;
+import com.library.library_management_system.config.DatabaseConfig;
+import com.library.library_management_system.dto.request.BookRequest;
+import com.library.library_management_system.dto.response.BookImportResponse;
+import com.library.library_management_system.enums.Genre;
+import com.library.library_management_system.repository.BookRepository;
+import com.library.library_management_system.repository.BorrowingRecordRepository;
+import com.library.library_management_system.service.impl.BookImportServiceImpl;
+import com.library.library_management_system.service.impl.BookServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ISBNs written through addBook, the CSV import and the V5 migration, against the Flyway
+ * schema of the load-test profile. Every spelling of an ISBN must resolve to one row.
+ */
+@DataJpaTest
+@ActiveProfiles("loadtest")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DatabaseConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookIsbnNormalizationTest {
+
+    private static final List<String> ISBNS = List.of("9780134685991", "978-0-13-468599-1",
+            "9780441172719", "978-0-441-17271-9", "ISBN-13: 978-0-441-17271-9");
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BorrowingRecordRepository borrowingRecordRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private BookServiceImpl bookService;
+    private BookImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        bookService = new BookServiceImpl(bookRepository, borrowingRecordRepository, entityManager);
+        importService = new BookImportServiceImpl(bookRepository, new BookImportConfig(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new TransactionTemplate(transactionManager), new ConcurrentMapCacheManager());
+        deleteBooks();
+    }
+
+    @AfterEach
+    void deleteBooks() {
+        ISBNS.forEach(isbn -> jdbcTemplate.update("DELETE FROM books WHERE isbn = ?", isbn));
+    }
+
+    @Test
+    void bookAddedWithHyphensIsUpdatedByImportWithout() {
+        bookService.addBook(request("978-0-13-468599-1"));
+
+        BookImportResponse response = importService.importBooks(csv("""
+                title,author,isbn,genre,totalCopies
+                Effective Java,Bloch,9780134685991,TECHNOLOGY,4
+                """));
+
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(response.getCreated()).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT isbn FROM books WHERE isbn LIKE '978%13%468599%1'",
+                String.class)).containsExactly("9780134685991");
+        assertThat(bookRepository.findByIsbn("9780134685991").orElseThrow().getTotalCopies()).isEqualTo(4);
+    }
+
+    @Test
+    void everySpellingFindsTheSameBook() {
+        bookService.addBook(request("9780134685991"));
+
+        assertThat(bookService.existsByIsbn("978-0-13-468599-1")).isTrue();
+        assertThat(bookService.getBookByIsbn("ISBN-13: 978 0 13 468599 1").getIsbn()).isEqualTo("9780134685991");
+    }
+
+    @Test
+    void migrationRewritesStoredSpellingsUnlessTheCanonicalOneExists() {
+        insertBook(1, "978-0-441-17271-9");
+        insertBook(2, "9780134685991");
+        insertBook(3, "978-0-13-468599-1");
+
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V5__normalize_isbns.sql"))
+                .execute(dataSource);
+
+        assertThat(isbnOf(1)).isEqualTo("9780441172719");
+        assertThat(isbnOf(2)).isEqualTo("9780134685991");
+        assertThat(isbnOf(3)).isEqualTo("978-0-13-468599-1");
+    }
+
+    private void insertBook(int offset, String isbn) {
+        jdbcTemplate.update("""
+                INSERT INTO books (id, title, author, isbn, genre, total_copies, available_copies, status, is_active,
+                    created_at, updated_at)
+                VALUES (?, 'Title', 'Author', ?, 'FICTION', 1, 1, 'AVAILABLE', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, 700_000_000L + offset, isbn);
+    }
+
+    private String isbnOf(int offset) {
+        return jdbcTemplate.queryForObject("SELECT isbn FROM books WHERE id = ?", String.class, 700_000_000L + offset);
+    }
+
+    private static BookRequest request(String isbn) {
+        BookRequest request = new BookRequest();
+        request.setTitle("Effective Java");
+        request.setAuthor("Bloch");
+        request.setIsbn(isbn);
+        request.setGenre(Genre.TECHNOLOGY);
+        request.setTotalCopies(2);
+        return request;
+    }
+
+    private static ByteArrayInputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,201 @@
+package com.library.library_management_system.service;
+
+import com.library.library_management_system.config.DatabaseConfig;
+import com.library.library_management_system.dto.request.ReturnBookRequest;
+import com.library.library_management_system.dto.response.BorrowingHistoryResponse;
+import com.library.library_management_system.entity.User;
+import com.library.library_management_system.enums.BorrowStatus;
+import com.library.library_management_system.enums.UserRole;
+import com.library.library_management_system.exception.BadRequestException;
+import com.library.library_management_system.repository.BookRepository;
+import com.library.library_management_system.repository.BorrowingRecordRepository;
+import com.library.library_management_system.repository.UserRepository;
+import com.library.library_management_system.security.UserPrincipal;
+import com.library.library_management_system.service.impl.BorrowingServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Book returns through the guarded native updates against the Flyway schema on H2 in MySQL mode.
+ * Book 1 has three copies, two on the shelf; loans are inserted per test.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:returns;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORE_UNKNOWN_SETTINGS=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DatabaseConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookReturnTest {
+
+    @Autowired
+    private BorrowingRecordRepository borrowingRecordRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private BorrowingServiceImpl borrowingService;
+    private UsernamePasswordAuthenticationToken admin;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        borrowingService = new BorrowingServiceImpl(borrowingRecordRepository, bookRepository, userRepository, event -> { });
+
+        jdbcTemplate.update("DELETE FROM borrowing_records");
+        jdbcTemplate.update("DELETE FROM books");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("""
+                INSERT INTO users (id, username, full_name, email, password, role, is_active, max_books_allowed,
+                    created_at, updated_at)
+                VALUES (1, 'reader', 'Avid Reader', 'reader@example.com', 'secret', 'MEMBER', TRUE, 5,
+                    CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO books (id, title, author, isbn, genre, total_copies, available_copies, status, is_active,
+                    created_at, updated_at)
+                VALUES (1, 'Dune', 'Frank Herbert', '9780441172719', 'FICTION', 3, 2, 'AVAILABLE', TRUE,
+                    CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """);
+
+        User librarian = User.builder()
+                .username("librarian")
+                .fullName("Librarian")
+                .email("librarian@example.com")
+                .password("secret")
+                .role(UserRole.ADMIN)
+                .isActive(true)
+                .build();
+        librarian.setId(999L);
+        UserPrincipal principal = UserPrincipal.create(librarian);
+        admin = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void concurrentReturnsOfTheSameLoanReleaseTheCopyOnce() throws Exception {
+        insertLoan(1, LocalDate.now().plusDays(7), "BORROWED", 0);
+        CyclicBarrier start = new CyclicBarrier(2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<Future<BorrowingHistoryResponse>> returns = new ArrayList<>();
+        try {
+            for (int i = 0; i < 2; i++) {
+                returns.add(executor.submit(() -> {
+                    start.await();
+                    return returnLoan(1);
+                }));
+            }
+
+            int succeeded = 0;
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<BorrowingHistoryResponse> result : returns) {
+                try {
+                    assertThat(result.get().getStatus()).isEqualTo(BorrowStatus.RETURNED);
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+
+            assertThat(succeeded).isEqualTo(1);
+            assertThat(failures).singleElement()
+                    .satisfies(failure -> assertThat(failure)
+                            .isInstanceOf(BadRequestException.class)
+                            .hasMessage("Book has already been returned"));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT available_copies FROM books WHERE id = 1", Integer.class))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void responseCarriesTheReturnedStateWithoutReloading() {
+        insertLoan(1, LocalDate.now().minusDays(3), "OVERDUE", 0);
+
+        BorrowingHistoryResponse response = returnLoan(1);
+
+        assertThat(response.getStatus()).isEqualTo(BorrowStatus.RETURNED);
+        assertThat(response.getReturnDate()).isEqualTo(LocalDate.now());
+        assertThat(response.getReturnedTo()).isEqualTo("librarian");
+        assertThat(response.getFineAmount()).isEqualTo(3.0);
+        assertThat(response.getBookTitle()).isEqualTo("Dune");
+        assertThat(response.getUsername()).isEqualTo("reader");
+        assertThat(fineOf(1)).isEqualTo(3.0);
+    }
+
+    @Test
+    void returningNeverLowersAnAssessedFine() {
+        // Fines assessed by the nightly job are kept, whether or not the loan is still overdue
+        insertLoan(1, LocalDate.now().minusDays(3), "OVERDUE", 10);
+        insertLoan(2, LocalDate.now().plusDays(7), "RENEWED", 4);
+
+        assertThat(returnLoan(1).getFineAmount()).isEqualTo(10.0);
+        assertThat(returnLoan(2).getFineAmount()).isEqualTo(4.0);
+        assertThat(fineOf(1)).isEqualTo(10.0);
+        assertThat(fineOf(2)).isEqualTo(4.0);
+    }
+
+    private BorrowingHistoryResponse returnLoan(long recordId) {
+        SecurityContextHolder.getContext().setAuthentication(admin);
+        ReturnBookRequest request = new ReturnBookRequest();
+        request.setBorrowingRecordId(recordId);
+        return transactionTemplate.execute(status -> borrowingService.returnBook(request));
+    }
+
+    private double fineOf(long recordId) {
+        return jdbcTemplate.queryForObject("SELECT fine_amount FROM borrowing_records WHERE id = ?", Double.class,
+                recordId);
+    }
+
+    private void insertLoan(long id, LocalDate dueDate, String status, double fine) {
+        jdbcTemplate.update("""
+                INSERT INTO borrowing_records (id, user_id, book_id, borrow_date, due_date, status,
+                    fine_amount, renewal_count, max_renewals_allowed, created_at, updated_at)
+                VALUES (?, 1, 1, ?, ?, ?, ?, 0, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, id, dueDate.minusDays(14), dueDate, status, fine);
+    }
+}
@@ -0,0 +1,199 @@
+package com.library.library_management_system.service;
+
+import com.library.library_management_system.config.DatabaseConfig;
+import com.library.library_management_system.dto.response.BorrowingHistoryResponse;
+import com.library.library_management_system.entity.User;
+import com.library.library_management_system.enums.BorrowStatus;
+import com.library.library_management_system.enums.UserRole;
+import com.library.library_management_system.repository.BookRepository;
+import com.library.library_management_system.repository.BorrowingRecordRepository;
+import com.library.library_management_system.repository.UserRepository;
+import com.library.library_management_system.security.UserPrincipal;
+import com.library.library_management_system.service.impl.BorrowingServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statements issued per borrowing listing. Every listing maps records together with their
+ * book and borrower, so the count must not grow with the number of rows on the page.
+ * Six users each borrowed each of four books once; the second-level cache is emptied before
+ * each call so cached books and users cannot hide lazy loads.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:listings;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORE_UNKNOWN_SETTINGS=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DatabaseConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BorrowingListingStatementCountTest {
+
+    private static final int USERS = 6;
+    private static final int BOOKS = 4;
+
+    @Autowired
+    private BorrowingRecordRepository borrowingRecordRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private BorrowingServiceImpl borrowingService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        borrowingService = new BorrowingServiceImpl(borrowingRecordRepository, bookRepository, userRepository, event -> { });
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        jdbcTemplate.update("DELETE FROM borrowing_records");
+        jdbcTemplate.update("DELETE FROM books");
+        jdbcTemplate.update("DELETE FROM users");
+
+        for (int user = 1; user <= USERS; user++) {
+            jdbcTemplate.update("""
+                    INSERT INTO users (id, username, full_name, email, password, role, is_active, max_books_allowed,
+                        created_at, updated_at)
+                    VALUES (?, ?, ?, ?, 'secret', 'MEMBER', TRUE, 5, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                    """, user, "reader" + user, "Reader " + user, "reader" + user + "@example.com");
+        }
+        for (int book = 1; book <= BOOKS; book++) {
+            jdbcTemplate.update("""
+                    INSERT INTO books (id, title, author, isbn, genre, total_copies, available_copies, status,
+                        is_active, created_at, updated_at)
+                    VALUES (?, ?, 'Author', ?, 'FICTION', 10, 4, 'AVAILABLE', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                    """, book, "Book " + book, "978000000000" + book);
+        }
+
+        LocalDate today = LocalDate.now();
+        long id = 1;
+        for (int user = 1; user <= USERS; user++) {
+            for (int book = 1; book <= BOOKS; book++, id++) {
+                // Even users are overdue, odd users still within the loan period
+                LocalDate borrowDate = today.minusDays(user % 2 == 0 ? 30 + id : book);
+                jdbcTemplate.update("""
+                        INSERT INTO borrowing_records (id, user_id, book_id, borrow_date, due_date, status,
+                            fine_amount, renewal_count, max_renewals_allowed, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, 'BORROWED', 0, 0, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                        """, id, user, book, borrowDate, borrowDate.plusDays(14));
+            }
+        }
+
+        User admin = User.builder()
+                .username("admin")
+                .fullName("Admin")
+                .email("admin@example.com")
+                .password("secret")
+                .role(UserRole.ADMIN)
+                .isActive(true)
+                .build();
+        admin.setId(999L);
+        UserPrincipal principal = UserPrincipal.create(admin);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void allRecordsPageUsesOneSelectAndOneCount() {
+        List<BorrowingHistoryResponse> content = measure(() ->
+                borrowingService.getAllBorrowingRecords(0, 20, "borrowDate", "desc").getContent());
+
+        assertThat(content).hasSize(20).allSatisfy(this::assertBookAndUserMapped);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void recordsByStatusUseOneSelect() {
+        List<BorrowingHistoryResponse> content = measure(() ->
+                borrowingService.getBorrowingRecordsByStatus(BorrowStatus.BORROWED));
+
+        assertThat(content).hasSize(USERS * BOOKS).allSatisfy(this::assertBookAndUserMapped);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void bookAndUserHistoryCheckTheArchiveThenReadOnePage() {
+        List<BorrowingHistoryResponse> bookHistory = measure(() ->
+                borrowingService.getBookBorrowingHistory(1L, 0, 10).getContent());
+
+        assertThat(bookHistory).hasSize(USERS).allSatisfy(this::assertBookAndUserMapped);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        List<BorrowingHistoryResponse> userHistory = measure(() ->
+                borrowingService.getUserBorrowingHistory(1L, 0, 10).getContent());
+
+        assertThat(userHistory).hasSize(BOOKS).allSatisfy(this::assertBookAndUserMapped);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void overdueListingUsesOneSelect() {
+        List<BorrowingHistoryResponse> content = measure(() -> borrowingService.getOverdueBooks());
+
+        assertThat(content).hasSize(USERS / 2 * BOOKS).allSatisfy(this::assertBookAndUserMapped);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void singleRecordIsLoadedWithItsBookAndUser() {
+        BorrowingHistoryResponse response = measure(() -> borrowingService.getBorrowingRecordById(5L));
+
+        assertBookAndUserMapped(response);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private <T> T measure(Supplier<T> listing) {
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        return transactionTemplate.execute(status -> listing.get());
+    }
+
+    private void assertBookAndUserMapped(BorrowingHistoryResponse response) {
+        assertThat(response.getBookTitle()).startsWith("Book ");
+        assertThat(response.getUsername()).startsWith("reader");
+    }
+}
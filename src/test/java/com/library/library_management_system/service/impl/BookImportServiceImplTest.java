@@ -0,0 +1,131 @@
+package com.library.library_management_system.service.impl;
+
+import com.library.library_management_system.config.BookImportConfig;
+import com.library.library_management_system.dto.response.BookImportResponse;
+import com.library.library_management_system.entity.Book;
+import com.library.library_management_system.enums.Genre;
+import com.library.library_management_system.repository.BookRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookImportServiceImplTest {
+
+    private static final String HEADER = "title,author,isbn,genre,totalCopies\n";
+
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final BookImportConfig importConfig = new BookImportConfig();
+    private final BookImportServiceImpl importService = new BookImportServiceImpl(bookRepository, importConfig,
+            Validation.buildDefaultValidatorFactory().getValidator(), inlineTransactions(),
+            new ConcurrentMapCacheManager());
+
+    @Test
+    void csvLinesFollowRfc4180Quoting() {
+        assertThat(BookImportServiceImpl.parseCsvLine("a,b,,d")).containsExactly("a", "b", "", "d");
+        assertThat(BookImportServiceImpl.parseCsvLine("\"Dune, Part One\",Herbert"))
+                .containsExactly("Dune, Part One", "Herbert");
+        assertThat(BookImportServiceImpl.parseCsvLine("\"The \"\"Real\"\" Story\",x"))
+                .containsExactly("The \"Real\" Story", "x");
+        assertThat(BookImportServiceImpl.parseCsvLine("\"\",trailing,")).containsExactly("", "trailing", "");
+    }
+
+    @Test
+    void isbnSpellingsNormalizeToTheSameKey() {
+        assertThat(Book.normalizeIsbn("978-0-13-468599-1")).isEqualTo("9780134685991");
+        assertThat(Book.normalizeIsbn("ISBN-13: 978 0 13 468599 1")).isEqualTo("9780134685991");
+        assertThat(Book.normalizeIsbn("0-306-40615-x")).isEqualTo("030640615X");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void duplicateSpellingsInOneFileAreRejected() {
+        when(bookRepository.findAllByIsbnIn(anyCollection())).thenReturn(List.of());
+
+        BookImportResponse response = importService.importBooks(csv(HEADER
+                + "Effective Java,Bloch,978-0-13-468599-1,TECHNOLOGY,2\n"
+                + "Effective Java,Bloch,9780134685991,TECHNOLOGY,3\n"));
+
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getRow()).isEqualTo(3);
+            assertThat(error.getMessage()).isEqualTo("Duplicate ISBN in import file");
+        });
+
+        ArgumentCaptor<Iterable<Book>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(bookRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Book::getIsbn).containsExactly("9780134685991");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void existingIsbnsAreUpdatedAndNewOnesInserted() {
+        // Stored ISBNs are normalized; the file may use any spelling
+        Book existing = new Book("Old Title", "Bloch", "9780134685991", Genre.TECHNOLOGY, 2);
+        existing.setId(7L);
+        existing.setAvailableCopies(1);
+        ArgumentCaptor<Collection<String>> lookup = ArgumentCaptor.forClass(Collection.class);
+        when(bookRepository.findAllByIsbnIn(lookup.capture())).thenReturn(List.of(existing));
+
+        BookImportResponse response = importService.importBooks(csv(HEADER
+                + "Effective Java,Bloch,978-0-13-468599-1,TECHNOLOGY,4\n"
+                + "Dune,Herbert,978-0-441-17271-9,FICTION,1\n"
+                + "Too Few,Bloch,\"0-306-40615-2\",TECHNOLOGY,0\n"));
+
+        assertThat(lookup.getValue()).containsExactlyInAnyOrder("9780134685991", "9780441172719");
+        assertThat(response.getTotalRows()).isEqualTo(3);
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(1);
+
+        assertThat(existing.getTitle()).isEqualTo("Effective Java");
+        assertThat(existing.getTotalCopies()).isEqualTo(4);
+        assertThat(existing.getAvailableCopies()).isEqualTo(3);
+
+        ArgumentCaptor<Iterable<Book>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(bookRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Book::getIsbn).containsExactly("9780441172719");
+    }
+
+    @Test
+    void reportedErrorsAreCappedButAllFailuresCounted() {
+        importConfig.setMaxReportedErrors(2);
+        StringBuilder rows = new StringBuilder(HEADER);
+        for (int i = 0; i < 5; i++) {
+            rows.append("Title ").append(i).append(",Author,not-an-isbn,FICTION,1\n");
+        }
+
+        BookImportResponse response = importService.importBooks(csv(rows.toString()));
+
+        assertThat(response.getFailed()).isEqualTo(5);
+        assertThat(response.getErrors()).hasSize(2);
+        assertThat(response.getErrorsTruncated()).isTrue();
+    }
+
+    private static ByteArrayInputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TransactionTemplate inlineTransactions() {
+        TransactionTemplate template = mock(TransactionTemplate.class);
+        when(template.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+        return template;
+    }
+}
@@ -0,0 +1,101 @@
+#!/usr/bin/env bash
+#
+# Smoke test and footprint comparison for the native image (run by the native Maven profile).
+#
+# Boots the native executable and the executable jar one after the other against the same
+# database, waits for /actuator/health, then registers and logs in a member and exercises the
+# main REST and GraphQL endpoints. Any non-2xx response or GraphQL error fails the run. For each
+# variant the report records time to health UP, time to the first authenticated API response
+# and resident set size after the smoke requests.
+#
+# Usage: native-smoke-test.sh <native-executable> <jar> <report-file>
+# The database is configured through the environment (SPRING_DATASOURCE_URL, ..._USERNAME,
+# ..._PASSWORD), which both variants read the same way.
+#
+set -euo pipefail
+
+NATIVE_EXECUTABLE=$1
+JAR=$2
+REPORT=$3
+
+PORT=${SMOKE_PORT:-18080}
+MANAGEMENT_PORT=${SMOKE_MANAGEMENT_PORT:-18081}
+BASE_URL="http://localhost:${PORT}"
+MANAGEMENT_URL="http://localhost:${MANAGEMENT_PORT}"
+STARTUP_TIMEOUT_SECONDS=${SMOKE_STARTUP_TIMEOUT:-180}
+
+now_millis() {
+    date +%s%3N
+}
+
+fail() {
+    echo "native-smoke-test: $*" >&2
+    exit 1
+}
+
+# Prints the response body; fails on a non-2xx status or a GraphQL "errors" entry
+call() {
+    local method=$1 path=$2 body=${3:-} token=${4:-}
+    local args=(-s -o /tmp/native-smoke-body -w '%{http_code}' -X "$method" -H 'Content-Type: application/json')
+    [[ -n $token ]] && args+=(-H "Authorization: Bearer ${token}")
+    [[ -n $body ]] && args+=(--data "$body")
+    local status
+    status=$(curl "${args[@]}" "${BASE_URL}${path}")
+    if [[ $status != 2* ]] || grep -q '"errors"' /tmp/native-smoke-body; then
+        fail "${method} ${path} returned ${status}: $(head -c 500 /tmp/native-smoke-body)"
+    fi
+    cat /tmp/native-smoke-body
+}
+
+json_field() {
+    sed -n "s/.*\"$1\":\"\\([^\"]*\\)\".*/\\1/p"
+}
+
+wait_for_health() {
+    local pid=$1 deadline=$(( $(date +%s) + STARTUP_TIMEOUT_SECONDS ))
+    until curl -sf "${MANAGEMENT_URL}/actuator/health" | grep -q '"status":"UP"'; do
+        kill -0 "$pid" 2>/dev/null || fail "process ${pid} exited during startup"
+        (( $(date +%s) < deadline )) || fail "not healthy after ${STARTUP_TIMEOUT_SECONDS}s"
+        sleep 0.05
+    done
+}
+
+run_variant() {
+    local label=$1
+    shift
+    local started pid ready first_response rss suffix
+    started=$(now_millis)
+    "$@" --server.port="${PORT}" --management.server.port="${MANAGEMENT_PORT}" > "${REPORT%/*}/${label}.log" 2>&1 &
+    pid=$!
+    trap "kill ${pid} 2>/dev/null || true" EXIT
+
+    wait_for_health "$pid"
+    ready=$(now_millis)
+
+    suffix="${label}$(date +%s%N | tail -c 7)"
+    call POST /api/auth/register "{\"username\":\"smoke_${suffix}\",\"fullName\":\"Smoke Test\",\"email\":\"smoke_${suffix}@example.com\",\"password\":\"smoke-pass\",\"confirmPassword\":\"smoke-pass\"}" > /dev/null
+    local token
+    token=$(call POST /api/auth/login "{\"identifier\":\"smoke_${suffix}\",\"password\":\"smoke-pass\"}" | json_field accessToken)
+    [[ -n $token ]] || fail "login did not return an access token"
+    first_response=$(now_millis)
+
+    call GET /api/auth/me "" "$token" > /dev/null
+    call GET "/api/books?page=0&size=20&sortBy=title" "" "$token" > /dev/null
+    call POST /api/books/search '{"searchTerm":"the","page":0,"size":20}' "$token" > /dev/null
+    call POST /graphql '{"query":"{ books(filter: { searchTerm: \"the\" }, pagination: { page: 0, size: 20 }) { content { id title author availableCopies } pageInfo { totalElements } } }"}' "$token" > /dev/null
+    call POST /graphql '{"query":"{ myCurrentBooks { id dueDate } }"}' "$token" > /dev/null
+    curl -sf "${MANAGEMENT_URL}/actuator/prometheus" > /dev/null || fail "Prometheus scrape failed on port ${MANAGEMENT_PORT}"
+
+    rss=$(awk '/^VmRSS:/ { print $2 }' "/proc/${pid}/status")
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+
+    printf '%-8s ready=%6d ms  first-response=%6d ms  rss=%7d KiB\n' \
+        "$label" $(( ready - started )) $(( first_response - started )) "$rss" | tee -a "$REPORT"
+}
+
+mkdir -p "${REPORT%/*}"
+echo "# $(date -u +%Y-%m-%dT%H:%M:%SZ) ready = health UP, first-response = register and login done" >> "$REPORT"
+run_variant native "$NATIVE_EXECUTABLE"
+run_variant jvm java -jar "$JAR"